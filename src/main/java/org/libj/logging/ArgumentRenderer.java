@@ -0,0 +1,362 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Renders log arguments into a {@link StringBuilder} with bounded cost. Arrays (including primitive arrays), {@link Collection}s and
+ * {@link Map}s are rendered element by element up to {@code maxElements} elements and {@code maxDepth} levels of nesting,
+ * {@code byte[]} arrays are rendered as hex or as a length summary, {@link Class}es are rendered by their simple name, and the
+ * rendering of each argument is truncated to {@code maxLength} characters.
+ * <p>
+ * The limits of the {@link #DEFAULT} renderer can be set with the {@code org.libj.logging.ArgumentRenderer.maxDepth},
+ * {@code org.libj.logging.ArgumentRenderer.maxElements}, {@code org.libj.logging.ArgumentRenderer.maxLength} and
+ * {@code org.libj.logging.ArgumentRenderer.hexBytes} system properties.
+ */
+public class ArgumentRenderer {
+  private static final String TRUNCATED = "...";
+  private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+  /** The default {@link ArgumentRenderer}, used by {@link LoggerUtil} and {@link LoggerPrintWriter}. */
+  public static final ArgumentRenderer DEFAULT = new ArgumentRenderer(
+    Integer.getInteger(ArgumentRenderer.class.getName() + ".maxDepth", 3),
+    Integer.getInteger(ArgumentRenderer.class.getName() + ".maxElements", 100),
+    Integer.getInteger(ArgumentRenderer.class.getName() + ".maxLength", 4096),
+    !"false".equals(System.getProperty(ArgumentRenderer.class.getName() + ".hexBytes")));
+
+  private final int maxDepth;
+  private final int maxElements;
+  private final int maxLength;
+  private final boolean hexBytes;
+
+  /**
+   * Creates a new {@link ArgumentRenderer} with the specified limits.
+   *
+   * @param maxDepth The maximum number of levels of nested arrays, {@link Collection}s and {@link Map}s to render.
+   * @param maxElements The maximum number of elements of an array, {@link Collection} or {@link Map} to render.
+   * @param maxLength The maximum number of characters to render for a single argument.
+   * @param hexBytes Whether {@code byte[]} arrays are to be rendered as hex ({@code true}), or as a length summary ({@code false}).
+   * @throws IllegalArgumentException If {@code maxDepth} is negative, or if {@code maxElements} or {@code maxLength} is not positive.
+   */
+  public ArgumentRenderer(final int maxDepth, final int maxElements, final int maxLength, final boolean hexBytes) {
+    if ((this.maxDepth = maxDepth) < 0)
+      throw new IllegalArgumentException("maxDepth (" + maxDepth + ") must be non-negative");
+
+    if ((this.maxElements = maxElements) <= 0)
+      throw new IllegalArgumentException("maxElements (" + maxElements + ") must be positive");
+
+    if ((this.maxLength = maxLength) <= 0)
+      throw new IllegalArgumentException("maxLength (" + maxLength + ") must be positive");
+
+    this.hexBytes = hexBytes;
+  }
+
+  /**
+   * Returns whether the specified argument is rendered by this {@link ArgumentRenderer} differently than by
+   * {@link String#valueOf(Object)}, other than by truncation.
+   *
+   * @param arg The argument.
+   * @return Whether the specified argument is rendered by this {@link ArgumentRenderer} differently than by
+   *         {@link String#valueOf(Object)}, other than by truncation.
+   */
+  public boolean isStructured(final Object arg) {
+    return arg != null && (arg.getClass().isArray() || arg instanceof Collection || arg instanceof Map || arg instanceof Class);
+  }
+
+  /**
+   * Returns the rendering of the specified argument.
+   *
+   * @param arg The argument.
+   * @return The rendering of the specified argument.
+   */
+  public String toString(final Object arg) {
+    if (arg instanceof String && ((String)arg).length() <= maxLength)
+      return (String)arg;
+
+    final StringBuilder builder = new StringBuilder();
+    render(builder, arg);
+    return builder.toString();
+  }
+
+  /**
+   * Renders the specified argument into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param arg The argument.
+   * @return The specified {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public StringBuilder render(final StringBuilder builder, final Object arg) {
+    final int limit = builder.length() + maxLength;
+    if (!render(builder, arg, 0, limit)) {
+      builder.setLength(limit);
+      builder.append(TRUNCATED);
+    }
+
+    return builder;
+  }
+
+  /**
+   * Renders the specified argument into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param arg The argument.
+   * @param depth The current depth of nesting.
+   * @param limit The length of {@code builder} beyond which rendering is to stop.
+   * @return {@code true} if the rendering did not exceed {@code limit}, otherwise {@code false}.
+   */
+  private boolean render(final StringBuilder builder, final Object arg, final int depth, final int limit) {
+    if (arg == null) {
+      builder.append("null");
+    }
+    else if (arg instanceof CharSequence) {
+      final CharSequence str = (CharSequence)arg;
+      final int len = str.length();
+      final int remaining = limit - builder.length();
+      if (len > remaining) {
+        builder.append(str, 0, Math.max(0, remaining + 1));
+        return false;
+      }
+
+      builder.append(str);
+    }
+    else if (arg instanceof Class) {
+      final Class<?> cls = (Class<?>)arg;
+      builder.append(cls.isAnonymousClass() ? cls.getName() : cls.getSimpleName());
+    }
+    else if (arg.getClass().isArray()) {
+      if (arg instanceof Object[])
+        return renderArray(builder, (Object[])arg, depth, limit);
+
+      if (arg instanceof byte[])
+        renderBytes(builder, (byte[])arg);
+      else
+        renderPrimitiveArray(builder, arg);
+    }
+    else if (arg instanceof Collection) {
+      return renderIterator(builder, ((Collection<?>)arg).iterator(), ((Collection<?>)arg).size(), depth, limit);
+    }
+    else if (arg instanceof Map) {
+      return renderMap(builder, (Map<?,?>)arg, depth, limit);
+    }
+    else {
+      final String str = String.valueOf(arg);
+      final int remaining = limit - builder.length();
+      if (str.length() > remaining) {
+        builder.append(str, 0, Math.max(0, remaining + 1));
+        return false;
+      }
+
+      builder.append(str);
+    }
+
+    return builder.length() <= limit;
+  }
+
+  /**
+   * Renders the specified {@code Object[]} array into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param array The array.
+   * @param depth The current depth of nesting.
+   * @param limit The length of {@code builder} beyond which rendering is to stop.
+   * @return {@code true} if the rendering did not exceed {@code limit}, otherwise {@code false}.
+   */
+  private boolean renderArray(final StringBuilder builder, final Object[] array, final int depth, final int limit) {
+    if (depth >= maxDepth) {
+      builder.append("[...]");
+      return builder.length() <= limit;
+    }
+
+    builder.append('[');
+    final int len = array.length;
+    final int size = Math.min(len, maxElements);
+    for (int i = 0; i < size; ++i) { // [A]
+      if (i > 0)
+        builder.append(", ");
+
+      if (!render(builder, array[i], depth + 1, limit))
+        return false;
+    }
+
+    appendRemaining(builder, len - size);
+    builder.append(']');
+    return builder.length() <= limit;
+  }
+
+  /**
+   * Renders the elements of the specified {@link Iterator} into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param iterator The {@link Iterator}.
+   * @param len The number of elements of the {@link Iterator}.
+   * @param depth The current depth of nesting.
+   * @param limit The length of {@code builder} beyond which rendering is to stop.
+   * @return {@code true} if the rendering did not exceed {@code limit}, otherwise {@code false}.
+   */
+  private boolean renderIterator(final StringBuilder builder, final Iterator<?> iterator, final int len, final int depth, final int limit) {
+    if (depth >= maxDepth) {
+      builder.append("[...]");
+      return builder.length() <= limit;
+    }
+
+    builder.append('[');
+    int i = 0;
+    for (; i < maxElements && iterator.hasNext(); ++i) { // [I]
+      if (i > 0)
+        builder.append(", ");
+
+      if (!render(builder, iterator.next(), depth + 1, limit))
+        return false;
+    }
+
+    appendRemaining(builder, len - i);
+    builder.append(']');
+    return builder.length() <= limit;
+  }
+
+  /**
+   * Renders the specified {@link Map} into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param map The {@link Map}.
+   * @param depth The current depth of nesting.
+   * @param limit The length of {@code builder} beyond which rendering is to stop.
+   * @return {@code true} if the rendering did not exceed {@code limit}, otherwise {@code false}.
+   */
+  private boolean renderMap(final StringBuilder builder, final Map<?,?> map, final int depth, final int limit) {
+    if (depth >= maxDepth) {
+      builder.append("{...}");
+      return builder.length() <= limit;
+    }
+
+    builder.append('{');
+    final Iterator<? extends Map.Entry<?,?>> iterator = map.entrySet().iterator();
+    int i = 0;
+    for (; i < maxElements && iterator.hasNext(); ++i) { // [I]
+      if (i > 0)
+        builder.append(", ");
+
+      final Map.Entry<?,?> entry = iterator.next();
+      if (!render(builder, entry.getKey(), depth + 1, limit))
+        return false;
+
+      builder.append('=');
+      if (!render(builder, entry.getValue(), depth + 1, limit))
+        return false;
+    }
+
+    appendRemaining(builder, map.size() - i);
+    builder.append('}');
+    return builder.length() <= limit;
+  }
+
+  /**
+   * Renders the specified {@code byte[]} array into the provided {@link StringBuilder}, as hex or as a length summary.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param bytes The {@code byte[]} array.
+   */
+  private void renderBytes(final StringBuilder builder, final byte[] bytes) {
+    final int len = bytes.length;
+    if (!hexBytes) {
+      builder.append("byte[").append(len).append(']');
+      return;
+    }
+
+    final int size = Math.min(len, maxElements);
+    builder.append("0x");
+    for (int i = 0; i < size; ++i) { // [A]
+      final int b = bytes[i];
+      builder.append(HEX[(b >> 4) & 0xf]).append(HEX[b & 0xf]);
+    }
+
+    if (size < len)
+      builder.append(TRUNCATED).append(" (").append(len).append(" bytes)");
+  }
+
+  /**
+   * Renders the specified primitive array (other than {@code byte[]}) into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param array The primitive array.
+   */
+  private void renderPrimitiveArray(final StringBuilder builder, final Object array) {
+    final int len;
+    final int size;
+    builder.append('[');
+    if (array instanceof int[]) {
+      final int[] a = (int[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else if (array instanceof long[]) {
+      final long[] a = (long[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else if (array instanceof double[]) {
+      final double[] a = (double[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else if (array instanceof float[]) {
+      final float[] a = (float[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else if (array instanceof char[]) {
+      final char[] a = (char[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else if (array instanceof short[]) {
+      final short[] a = (short[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+    else {
+      final boolean[] a = (boolean[])array;
+      size = Math.min(len = a.length, maxElements);
+      for (int i = 0; i < size; ++i) // [A]
+        (i > 0 ? builder.append(", ") : builder).append(a[i]);
+    }
+
+    appendRemaining(builder, len - size);
+    builder.append(']');
+  }
+
+  /**
+   * Appends a summary of the number of elements that were not rendered to the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param remaining The number of elements that were not rendered.
+   */
+  private static void appendRemaining(final StringBuilder builder, final int remaining) {
+    if (remaining > 0)
+      builder.append(", ... (").append(remaining).append(" more)");
+  }
+}
@@ -0,0 +1,636 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.spi.MDCAdapter;
+
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+
+/**
+ * A {@link DelegateLogger} that hands enabled calls off to a single background thread, which replays them on the target
+ * {@link Logger}.
+ * <p>
+ * Each enabled call is captured, with its marker, format, arguments, throwable, MDC, timestamp and thread name, into a record that
+ * is pre-allocated in a slot of a bounded lock-free ring buffer, and is written in place. When the ring buffer is full, a call of a
+ * level at or above the {@code blockLevel} blocks until space is available, and a call of a lower level is dropped, and counted by
+ * {@link #getDroppedCount()}. The enabled check is performed on the calling thread.
+ * <p>
+ * If the target is a Logback {@link ch.qos.logback.classic.Logger}, the records are replayed as {@link LoggingEvent}s with the
+ * captured timestamp, thread name and MDC, which are delivered directly to the appenders of the logger. Such events are subject to
+ * the {@code TurboFilter}s only by way of the {@code isXxxEnabled()} check on the calling thread, which does not provide the format
+ * and arguments, so {@code TurboFilter}s that decide by the format or arguments (such as {@code DuplicateMessageFilter}) are not
+ * applied. Such events also have no caller data, because the stack of the calling thread is not captured. Otherwise, the records
+ * are replayed through the {@link Logger} API with the captured MDC set on the background thread, whereby the timestamp and thread
+ * name are those of the replay.
+ * <p>
+ * {@link #close()} replays all queued records and stops the background thread, which is also performed upon shutdown of the JVM.
+ * Calls made thereafter are made synchronously on the target {@link Logger}. A record that is published after the final drain of
+ * the background thread is replayed by the calling thread, once the background thread terminates. If the background thread does not
+ * terminate within the timeout of the close, the record is counted by {@link #getDroppedCount()}.
+ */
+public class AsyncLogger extends DelegateLogger implements AutoCloseable {
+  private static final String FQCN = AsyncLogger.class.getName();
+  private static final StackTraceElement[] EMPTY_CALLER_DATA = {};
+  private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long SHUTDOWN_MILLIS = 1000;
+  private static final HashSet<AsyncLogger> open = new HashSet<>();
+  private static boolean hooked;
+
+  /**
+   * A captured call, which is pre-allocated in a slot of the ring buffer.
+   */
+  private static final class Record {
+    private Level level;
+    private Marker marker;
+    private String format;
+    private int count;
+    private Object arg1;
+    private Object arg2;
+    private Object[] args;
+    private Throwable t;
+    private Map<String,String> mdc;
+    private long timestamp;
+    private String threadName;
+
+    private Object[] getArgs() {
+      return count == 0 ? null : count == 1 ? new Object[] {arg1} : count == 2 ? new Object[] {arg1, arg2} : args;
+    }
+
+    private void clear() {
+      marker = null;
+      format = null;
+      arg1 = null;
+      arg2 = null;
+      args = null;
+      t = null;
+      mdc = null;
+      threadName = null;
+    }
+  }
+
+  private static Map<String,String> captureMdc() {
+    final MDCAdapter adapter = MDC.getMDCAdapter();
+    return adapter instanceof LogbackMDCAdapter ? ((LogbackMDCAdapter)adapter).getPropertyMap() : MDC.getCopyOfContextMap();
+  }
+
+  private final RingBuffer<Record> queue;
+  private final Level blockLevel;
+  private final AtomicLong dropped = new AtomicLong();
+  private final Thread thread;
+  private volatile boolean waiting;
+  private volatile boolean closed;
+  private volatile long deadline;
+
+  /**
+   * Creates a new {@link AsyncLogger} with the specified target {@link Logger}, and starts its background thread.
+   *
+   * @param target The target {@link Logger}.
+   * @param capacity The number of calls that can be queued for the background thread, which is rounded up to a power of 2.
+   * @param blockLevel The {@link Level} at or above which calls block when the queue is full, and below which calls are dropped, or
+   *          {@code null} for all calls to be dropped when the queue is full.
+   * @throws NullPointerException If {@code target} is null.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public AsyncLogger(final Logger target, final int capacity, final Level blockLevel) {
+    super(target);
+    this.queue = new RingBuffer<>(capacity, Record::new);
+    this.blockLevel = blockLevel;
+    this.thread = new Thread(this::run, "AsyncLogger-" + target.getName());
+    thread.setDaemon(true);
+    synchronized (open) {
+      if (!hooked) {
+        hooked = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+          final ArrayList<AsyncLogger> loggers;
+          synchronized (open) {
+            loggers = new ArrayList<>(open);
+          }
+
+          for (int i = 0, i$ = loggers.size(); i < i$; ++i) // [L]
+            loggers.get(i).close(SHUTDOWN_MILLIS);
+        }, "AsyncLogger-shutdown"));
+      }
+
+      open.add(this);
+    }
+
+    thread.start();
+  }
+
+  /**
+   * Returns the number of calls that were dropped because the queue was full, or because they were queued as the logger was closed,
+   * and the background thread did not terminate within the timeout of the close.
+   *
+   * @return The number of calls that were dropped.
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void enqueue(final Level level, final Marker marker, final String format, final int count, final Object arg1, final Object arg2, final Object[] args, final Throwable t) {
+    if (!closed) {
+      long position = queue.claim();
+      if (position < 0) {
+        if (blockLevel == null || level.toInt() < blockLevel.toInt()) {
+          dropped.incrementAndGet();
+          return;
+        }
+
+        do {
+          LockSupport.unpark(thread);
+          LockSupport.parkNanos(this, 100000);
+        }
+        while ((position = queue.claim()) < 0 && !closed);
+      }
+
+      if (position >= 0) {
+        final Record record = queue.get(position);
+        record.level = level;
+        record.marker = marker;
+        record.format = format;
+        record.count = count;
+        record.arg1 = arg1;
+        record.arg2 = arg2;
+        record.args = args;
+        record.t = t;
+        record.mdc = captureMdc();
+        record.timestamp = System.currentTimeMillis();
+        record.threadName = Thread.currentThread().getName();
+        queue.publish(position);
+        // The background thread may have completed its final drain before the record was published
+        if (closed)
+          drainClosed();
+        else if (waiting)
+          LockSupport.unpark(thread);
+
+        return;
+      }
+    }
+
+    replay(target, level, marker, format, count, arg1, arg2, args, t);
+  }
+
+  private static void replay(final Logger target, final Level level, final Marker marker, final String format, final int count, final Object arg1, final Object arg2, final Object[] args, final Throwable t) {
+    if (t != null)
+      LoggerUtil.log(target, level, marker, format, t);
+    else if (count == 0)
+      LoggerUtil.log(target, level, marker, format);
+    else if (count == 1)
+      LoggerUtil.log(target, level, marker, format, arg1);
+    else if (count == 2)
+      LoggerUtil.log(target, level, marker, format, arg1, arg2);
+    else
+      LoggerUtil.log(target, level, marker, format, args);
+  }
+
+  private void replay(final Record record) {
+    final Logger target = this.target;
+    if (target instanceof ch.qos.logback.classic.Logger) {
+      final ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger)target;
+      final LoggingEvent event = new LoggingEvent(FQCN, logger, LoggerUtil.logbackLevel[record.level.ordinal()], record.format, record.t, record.getArgs());
+      event.setMarker(record.marker);
+      event.setTimeStamp(record.timestamp);
+      event.setThreadName(record.threadName);
+      event.setMDCPropertyMap(record.mdc != null ? record.mdc : Collections.emptyMap());
+      event.setCallerData(EMPTY_CALLER_DATA);
+      logger.callAppenders(event);
+    }
+    else {
+      if (record.mdc != null)
+        MDC.setContextMap(record.mdc);
+
+      try {
+        replay(target, record.level, record.marker, record.format, record.count, record.arg1, record.arg2, record.args, record.t);
+      }
+      finally {
+        MDC.clear();
+      }
+    }
+  }
+
+  private void drain() {
+    for (Record record; (record = queue.peek()) != null;) { // [N]
+      try {
+        replay(record);
+      }
+      catch (final RuntimeException e) {
+        // A failure of the target must not stop the background thread
+      }
+      finally {
+        record.clear();
+        queue.release();
+      }
+    }
+  }
+
+  /**
+   * Waits for the background thread to terminate, for no longer than the remainder of the timeout of {@link #close(long)}, and
+   * replays the records that were published after its final drain. If the background thread does not terminate in time, the record
+   * that was just published is counted as dropped.
+   */
+  private void drainClosed() {
+    if (Thread.currentThread() == thread)
+      return;
+
+    try {
+      final long deadline = this.deadline;
+      if (deadline == 0)
+        thread.join();
+      else
+        TimeUnit.NANOSECONDS.timedJoin(thread, deadline - System.nanoTime());
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (thread.isAlive()) {
+      dropped.incrementAndGet();
+      return;
+    }
+
+    synchronized (this) {
+      drain();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      drain();
+      if (closed) {
+        drain();
+        return;
+      }
+
+      waiting = true;
+      if (queue.peek() == null)
+        LockSupport.parkNanos(this, IDLE_NANOS);
+
+      waiting = false;
+    }
+  }
+
+  private void close(final long millis) {
+    synchronized (open) {
+      if (closed)
+        return;
+
+      deadline = millis == 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+      closed = true;
+      open.remove(this);
+    }
+
+    LockSupport.unpark(thread);
+    if (Thread.currentThread() == thread)
+      return;
+
+    try {
+      thread.join(millis);
+    }
+    catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    // Replay the records that were published after the final drain of the background thread
+    if (!thread.isAlive()) {
+      synchronized (this) {
+        drain();
+      }
+    }
+  }
+
+  /**
+   * Replays all queued calls on the target {@link Logger}, and stops the background thread. Calls made thereafter are made
+   * synchronously on the target {@link Logger}.
+   */
+  @Override
+  public void close() {
+    close(0);
+  }
+
+  @Override
+  public void trace(final String msg) {
+    if (target.isTraceEnabled())
+      enqueue(Level.TRACE, null, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg) {
+    if (target.isTraceEnabled())
+      enqueue(Level.TRACE, null, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg1, final Object arg2) {
+    if (target.isTraceEnabled())
+      enqueue(Level.TRACE, null, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void trace(final String format, final Object ... arguments) {
+    if (target.isTraceEnabled())
+      enqueue(Level.TRACE, null, format, -1, null, null, arguments, null);
+  }
+
+  @Override
+  public void trace(final String msg, final Throwable t) {
+    if (target.isTraceEnabled())
+      enqueue(Level.TRACE, null, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg) {
+    if (target.isTraceEnabled(marker))
+      enqueue(Level.TRACE, marker, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg) {
+    if (target.isTraceEnabled(marker))
+      enqueue(Level.TRACE, marker, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (target.isTraceEnabled(marker))
+      enqueue(Level.TRACE, marker, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object ... argArray) {
+    if (target.isTraceEnabled(marker))
+      enqueue(Level.TRACE, marker, format, -1, null, null, argArray, null);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg, final Throwable t) {
+    if (target.isTraceEnabled(marker))
+      enqueue(Level.TRACE, marker, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void debug(final String msg) {
+    if (target.isDebugEnabled())
+      enqueue(Level.DEBUG, null, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg) {
+    if (target.isDebugEnabled())
+      enqueue(Level.DEBUG, null, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg1, final Object arg2) {
+    if (target.isDebugEnabled())
+      enqueue(Level.DEBUG, null, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void debug(final String format, final Object ... arguments) {
+    if (target.isDebugEnabled())
+      enqueue(Level.DEBUG, null, format, -1, null, null, arguments, null);
+  }
+
+  @Override
+  public void debug(final String msg, final Throwable t) {
+    if (target.isDebugEnabled())
+      enqueue(Level.DEBUG, null, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg) {
+    if (target.isDebugEnabled(marker))
+      enqueue(Level.DEBUG, marker, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg) {
+    if (target.isDebugEnabled(marker))
+      enqueue(Level.DEBUG, marker, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (target.isDebugEnabled(marker))
+      enqueue(Level.DEBUG, marker, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object ... argArray) {
+    if (target.isDebugEnabled(marker))
+      enqueue(Level.DEBUG, marker, format, -1, null, null, argArray, null);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg, final Throwable t) {
+    if (target.isDebugEnabled(marker))
+      enqueue(Level.DEBUG, marker, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void info(final String msg) {
+    if (target.isInfoEnabled())
+      enqueue(Level.INFO, null, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void info(final String format, final Object arg) {
+    if (target.isInfoEnabled())
+      enqueue(Level.INFO, null, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void info(final String format, final Object arg1, final Object arg2) {
+    if (target.isInfoEnabled())
+      enqueue(Level.INFO, null, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void info(final String format, final Object ... arguments) {
+    if (target.isInfoEnabled())
+      enqueue(Level.INFO, null, format, -1, null, null, arguments, null);
+  }
+
+  @Override
+  public void info(final String msg, final Throwable t) {
+    if (target.isInfoEnabled())
+      enqueue(Level.INFO, null, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg) {
+    if (target.isInfoEnabled(marker))
+      enqueue(Level.INFO, marker, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg) {
+    if (target.isInfoEnabled(marker))
+      enqueue(Level.INFO, marker, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (target.isInfoEnabled(marker))
+      enqueue(Level.INFO, marker, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object ... argArray) {
+    if (target.isInfoEnabled(marker))
+      enqueue(Level.INFO, marker, format, -1, null, null, argArray, null);
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg, final Throwable t) {
+    if (target.isInfoEnabled(marker))
+      enqueue(Level.INFO, marker, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void warn(final String msg) {
+    if (target.isWarnEnabled())
+      enqueue(Level.WARN, null, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg) {
+    if (target.isWarnEnabled())
+      enqueue(Level.WARN, null, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg1, final Object arg2) {
+    if (target.isWarnEnabled())
+      enqueue(Level.WARN, null, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void warn(final String format, final Object ... arguments) {
+    if (target.isWarnEnabled())
+      enqueue(Level.WARN, null, format, -1, null, null, arguments, null);
+  }
+
+  @Override
+  public void warn(final String msg, final Throwable t) {
+    if (target.isWarnEnabled())
+      enqueue(Level.WARN, null, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg) {
+    if (target.isWarnEnabled(marker))
+      enqueue(Level.WARN, marker, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg) {
+    if (target.isWarnEnabled(marker))
+      enqueue(Level.WARN, marker, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (target.isWarnEnabled(marker))
+      enqueue(Level.WARN, marker, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object ... argArray) {
+    if (target.isWarnEnabled(marker))
+      enqueue(Level.WARN, marker, format, -1, null, null, argArray, null);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg, final Throwable t) {
+    if (target.isWarnEnabled(marker))
+      enqueue(Level.WARN, marker, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void error(final String msg) {
+    if (target.isErrorEnabled())
+      enqueue(Level.ERROR, null, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void error(final String format, final Object arg) {
+    if (target.isErrorEnabled())
+      enqueue(Level.ERROR, null, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void error(final String format, final Object arg1, final Object arg2) {
+    if (target.isErrorEnabled())
+      enqueue(Level.ERROR, null, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void error(final String format, final Object ... arguments) {
+    if (target.isErrorEnabled())
+      enqueue(Level.ERROR, null, format, -1, null, null, arguments, null);
+  }
+
+  @Override
+  public void error(final String msg, final Throwable t) {
+    if (target.isErrorEnabled())
+      enqueue(Level.ERROR, null, msg, 0, null, null, null, t);
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg) {
+    if (target.isErrorEnabled(marker))
+      enqueue(Level.ERROR, marker, msg, 0, null, null, null, null);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg) {
+    if (target.isErrorEnabled(marker))
+      enqueue(Level.ERROR, marker, format, 1, arg, null, null, null);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (target.isErrorEnabled(marker))
+      enqueue(Level.ERROR, marker, format, 2, arg1, arg2, null, null);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object ... argArray) {
+    if (target.isErrorEnabled(marker))
+      enqueue(Level.ERROR, marker, format, -1, null, null, argArray, null);
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg, final Throwable t) {
+    if (target.isErrorEnabled(marker))
+      enqueue(Level.ERROR, marker, msg, 0, null, null, null, t);
+  }
+}
@@ -0,0 +1,422 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.StreamCorruptedException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+
+import org.slf4j.event.Level;
+
+/**
+ * A decoder of the binary format written by {@link BinaryLogger}, which reads its events one at a time by way of {@link #next()},
+ * and renders them as text or as JSON lines.
+ * <p>
+ * The decoder can be run from the command line:
+ *
+ * <pre>
+ * java -cp ... org.libj.logging.BinaryLogDecoder [--json] &lt;file&gt;...
+ * </pre>
+ */
+public final class BinaryLogDecoder implements AutoCloseable {
+  private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss,SSS").withZone(ZoneId.systemDefault());
+  private static final Level[] levels = Level.values();
+  private static final Object[] EMPTY = {};
+
+  private final InputStream in;
+  private final String name;
+  private final ArrayList<String> templates = new ArrayList<>();
+  private final HashMap<Long,String> threads = new HashMap<>();
+  private long timestamp;
+  private Level level;
+  private long threadId;
+  private String template;
+  private Object[] arguments;
+  private String throwable;
+
+  /**
+   * Creates a new {@link BinaryLogDecoder} that reads from the provided {@link InputStream}, and reads the header of the binary
+   * format.
+   *
+   * @param in The {@link InputStream}.
+   * @throws IOException If an I/O error has occurred, or if the {@link InputStream} does not start with the header of the binary
+   *           format.
+   * @throws NullPointerException If {@code in} is null.
+   */
+  public BinaryLogDecoder(final InputStream in) throws IOException {
+    this.in = new BufferedInputStream(Objects.requireNonNull(in, "in is null"));
+    for (final byte b : BinaryLogger.MAGIC) // [A]
+      if (this.in.read() != b)
+        throw new StreamCorruptedException("Not a binary log");
+
+    final int version = readByte();
+    if (version != BinaryLogger.VERSION)
+      throw new StreamCorruptedException("Unsupported version: " + version);
+
+    this.name = readString();
+  }
+
+  private int readByte() throws IOException {
+    final int b = in.read();
+    if (b == -1)
+      throw new EOFException();
+
+    return b;
+  }
+
+  private long readVarLong() throws IOException {
+    long v = 0;
+    for (int shift = 0; shift < 64; shift += 7) { // [N]
+      final int b = readByte();
+      v |= (long)(b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+        return v;
+    }
+
+    throw new StreamCorruptedException("Malformed varint");
+  }
+
+  private long readZigZag() throws IOException {
+    final long v = readVarLong();
+    return (v >>> 1) ^ -(v & 1);
+  }
+
+  private String readString() throws IOException {
+    final long length = readVarLong();
+    if (length > Integer.MAX_VALUE)
+      throw new StreamCorruptedException("Malformed string length: " + length);
+
+    final byte[] bytes = new byte[(int)length];
+    for (int i = 0; i < bytes.length;) { // [N]
+      final int n = in.read(bytes, i, bytes.length - i);
+      if (n == -1)
+        throw new EOFException();
+
+      i += n;
+    }
+
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private Object readArg(final int type) throws IOException {
+    switch (type) {
+      case BinaryLogger.NULL:
+        return null;
+      case BinaryLogger.FALSE:
+        return Boolean.FALSE;
+      case BinaryLogger.TRUE:
+        return Boolean.TRUE;
+      case BinaryLogger.LONG:
+        return readZigZag();
+      case BinaryLogger.DOUBLE:
+        long bits = 0;
+        for (int i = 0; i < 8; ++i) // [N]
+          bits = bits << 8 | readByte();
+
+        return Double.longBitsToDouble(bits);
+      case BinaryLogger.FLOAT:
+        int floatBits = 0;
+        for (int i = 0; i < 4; ++i) // [N]
+          floatBits = floatBits << 8 | readByte();
+
+        return Float.intBitsToFloat(floatBits);
+      case BinaryLogger.STRING:
+      case BinaryLogger.THROWABLE:
+        return readString();
+      default:
+        throw new StreamCorruptedException("Unknown argument type: " + type);
+    }
+  }
+
+  /**
+   * Reads the next event.
+   *
+   * @return {@code true} if an event was read, or {@code false} if the end of the stream has been reached.
+   * @throws IOException If an I/O error has occurred, or if the stream is malformed or truncated.
+   */
+  public boolean next() throws IOException {
+    for (int type; (type = in.read()) != -1;) { // [N]
+      if (type == BinaryLogger.TEMPLATE) {
+        final long id = readVarLong();
+        if (id != templates.size() + 1)
+          throw new StreamCorruptedException("Unexpected template id: " + id);
+
+        templates.add(readString());
+      }
+      else if (type == BinaryLogger.THREAD) {
+        threads.put(readVarLong(), readString());
+      }
+      else if (type == BinaryLogger.EVENT) {
+        final long id = readVarLong();
+        if (id == BinaryLogger.INLINE)
+          template = readString();
+        else if (id > templates.size())
+          throw new StreamCorruptedException("Undefined template id: " + id);
+        else
+          template = templates.get((int)id - 1);
+
+        final int ordinal = readByte();
+        if (ordinal >= levels.length)
+          throw new StreamCorruptedException("Unknown level: " + ordinal);
+
+        level = levels[ordinal];
+        timestamp += readZigZag();
+        threadId = readVarLong();
+        final int count = (int)readVarLong();
+        arguments = count == 0 ? EMPTY : new Object[count];
+        throwable = null;
+        for (int i = 0; i < count; ++i) { // [A]
+          final int argType = readByte();
+          arguments[i] = readArg(argType);
+          if (argType == BinaryLogger.THROWABLE && i == count - 1) {
+            throwable = (String)arguments[i];
+            arguments = Arrays.copyOf(arguments, i);
+          }
+        }
+
+        return true;
+      }
+      else {
+        throw new StreamCorruptedException("Unknown record type: " + type);
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Returns the name of the logger that wrote the stream.
+   *
+   * @return The name of the logger that wrote the stream.
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Returns the timestamp of the current event, in milliseconds since the epoch.
+   *
+   * @return The timestamp of the current event, in milliseconds since the epoch.
+   */
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  /**
+   * Returns the {@link Level} of the current event.
+   *
+   * @return The {@link Level} of the current event.
+   */
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns the id of the thread of the current event.
+   *
+   * @return The id of the thread of the current event.
+   */
+  public long getThreadId() {
+    return threadId;
+  }
+
+  /**
+   * Returns the name of the thread of the current event.
+   *
+   * @return The name of the thread of the current event.
+   */
+  public String getThreadName() {
+    return threads.get(threadId);
+  }
+
+  /**
+   * Returns the message template of the current event.
+   *
+   * @return The message template of the current event.
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Returns the arguments of the current event, which are {@link Long}, {@link Double}, {@link Boolean} or {@link String}
+   * instances, or {@code null}.
+   *
+   * @return The arguments of the current event.
+   */
+  public Object[] getArguments() {
+    return arguments.clone();
+  }
+
+  /**
+   * Returns the stack trace of the {@link Throwable} of the current event.
+   *
+   * @return The stack trace of the {@link Throwable} of the current event, or {@code null} if the current event has no
+   *         {@link Throwable}.
+   */
+  public String getThrowable() {
+    return throwable;
+  }
+
+  /**
+   * Returns the message of the current event, formatted by {@link MessageFormatter}.
+   *
+   * @return The message of the current event.
+   */
+  public String getMessage() {
+    try {
+      return MessageFormatter.format(template, arguments);
+    }
+    catch (final RuntimeException e) {
+      return template + " " + Arrays.toString(arguments);
+    }
+  }
+
+  /**
+   * Appends the current event to the provided {@link StringBuilder} as text of the form
+   * {@code yyyy-MM-dd HH:mm:ss,SSS [LEVEL] [thread] logger - message}, followed by the stack trace of its {@link Throwable}, if
+   * any, and ending with a line separator.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public StringBuilder appendText(final StringBuilder builder) {
+    formatter.formatTo(Instant.ofEpochMilli(timestamp), builder);
+    builder.append(" [").append(level).append("] [").append(getThreadName()).append("] ").append(name).append(" - ").append(getMessage()).append(System.lineSeparator());
+    if (throwable != null)
+      builder.append(throwable);
+
+    return builder;
+  }
+
+  /**
+   * Appends the current event to the provided {@link StringBuilder} as a single line of JSON, with the fields {@code timestamp},
+   * {@code level}, {@code thread}, {@code logger}, {@code message}, {@code template}, {@code arguments}, and {@code throwable} if
+   * the current event has a {@link Throwable}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public StringBuilder appendJson(final StringBuilder builder) {
+    builder.append("{\"timestamp\":").append(timestamp).append(",\"level\":\"").append(level).append("\",\"thread\":");
+    appendJson(builder, getThreadName()).append(",\"logger\":");
+    appendJson(builder, name).append(",\"message\":");
+    appendJson(builder, getMessage()).append(",\"template\":");
+    appendJson(builder, template).append(",\"arguments\":[");
+    for (int i = 0; i < arguments.length; ++i) { // [A]
+      if (i > 0)
+        builder.append(',');
+
+      appendJson(builder, arguments[i]);
+    }
+
+    builder.append(']');
+    if (throwable != null)
+      appendJson(builder.append(",\"throwable\":"), throwable);
+
+    return builder.append('}').append(System.lineSeparator());
+  }
+
+  private static StringBuilder appendJson(final StringBuilder builder, final Object value) {
+    if (value == null || value instanceof Boolean || value instanceof Long)
+      return builder.append(value);
+
+    if (value instanceof Double) {
+      final double d = (Double)value;
+      return Double.isNaN(d) || Double.isInfinite(d) ? builder.append('"').append(d).append('"') : builder.append(d);
+    }
+
+    if (value instanceof Float) {
+      final float f = (Float)value;
+      return Float.isNaN(f) || Float.isInfinite(f) ? builder.append('"').append(f).append('"') : builder.append(f);
+    }
+
+    final String str = value.toString();
+    builder.append('"');
+    for (int i = 0, i$ = str.length(); i < i$; ++i) { // [N]
+      final char ch = str.charAt(i);
+      if (ch == '"' || ch == '\\')
+        builder.append('\\').append(ch);
+      else if (ch == '\n')
+        builder.append("\\n");
+      else if (ch == '\r')
+        builder.append("\\r");
+      else if (ch == '\t')
+        builder.append("\\t");
+      else if (ch < 0x20)
+        builder.append(String.format("\\u%04x", (int)ch));
+      else
+        builder.append(ch);
+    }
+
+    return builder.append('"');
+  }
+
+  /**
+   * Closes the {@link InputStream}.
+   *
+   * @throws IOException If an I/O error has occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Decodes the specified binary log files to {@link System#out System.out}, as text, or as JSON lines if the first argument is
+   * {@code --json}.
+   *
+   * @param args The arguments: {@code [--json] <file>...}.
+   * @throws IOException If an I/O error has occurred, or if a file is malformed or truncated.
+   */
+  public static void main(final String[] args) throws IOException {
+    final boolean json = args.length > 0 && "--json".equals(args[0]);
+    if (args.length == (json ? 1 : 0)) {
+      System.err.println("Usage: BinaryLogDecoder [--json] <file>...");
+      System.exit(1);
+    }
+
+    final Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+    final StringBuilder builder = new StringBuilder();
+    for (int i = json ? 1 : 0; i < args.length; ++i) { // [A]
+      try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new FileInputStream(args[i]))) {
+        while (decoder.next()) {
+          builder.setLength(0);
+          out.append(json ? decoder.appendJson(builder) : decoder.appendText(builder));
+        }
+      }
+    }
+
+    out.flush();
+  }
+}
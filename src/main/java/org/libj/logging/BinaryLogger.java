@@ -0,0 +1,820 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A {@link Logger} that writes events to an {@link OutputStream} in a compact binary format, deferring the formatting of messages
+ * to the offline {@link BinaryLogDecoder}.
+ * <p>
+ * Each distinct message template is recorded once in a dictionary that is written inline in the stream, whereafter each event is
+ * written as the id of its template, its level, the delta of its timestamp, the id of its thread, and its serialized arguments:
+ * integral numbers as zig-zag varints, {@code float} and {@code double} numbers as raw IEEE 754 bytes of their width, and other
+ * arguments as length-prefixed UTF-8 strings. The dictionary is bounded by a maximum number of templates, beyond which the template
+ * of an event is written inline in the event, following the reserved template id {@code 0}. A {@link Throwable} as the last
+ * argument is written with its stack trace. The name of a thread is recorded with its thread id before its first event, and again
+ * after it is renamed, or after it logs to another {@link BinaryLogger}, which is tracked in the per-thread buffer without a lookup.
+ * <p>
+ * Arguments are serialized into a per-thread buffer, and the event is appended to a shared buffer under a lock, which is written to
+ * the {@link OutputStream} when it exceeds the buffer size, and upon {@link #flush()} and {@link #close()}. If an
+ * {@link IOException} occurs writing the {@link OutputStream}, subsequent events are discarded, and the {@link IOException} is
+ * thrown by {@link #flush()} and {@link #close()}.
+ */
+public class BinaryLogger implements AutoCloseable, Logger {
+  static final byte[] MAGIC = {'L', 'J', 'B', 'L'};
+  static final int VERSION = 2;
+
+  static final int TEMPLATE = 1;
+  static final int THREAD = 2;
+  static final int EVENT = 3;
+
+  static final int INLINE = 0;
+
+  static final int NULL = 0;
+  static final int FALSE = 1;
+  static final int TRUE = 2;
+  static final int LONG = 3;
+  static final int DOUBLE = 4;
+  static final int STRING = 5;
+  static final int THROWABLE = 6;
+  static final int FLOAT = 7;
+
+  private static final AtomicInteger serials = new AtomicInteger();
+
+  /**
+   * A growable buffer of the binary format.
+   */
+  static final class Output {
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final ThreadLocal<Output> outputs = ThreadLocal.withInitial(Output::new);
+
+    /**
+     * Returns the {@link Output} of the current thread, or a new {@link Output} if the {@link Output} of the current thread is in
+     * use (i.e. upon reentrant invocation). The returned {@link Output} must be returned with {@link #release(Output)}.
+     *
+     * @return The {@link Output} of the current thread, or a new {@link Output} if the {@link Output} of the current thread is in
+     *         use.
+     */
+    static Output acquire() {
+      final Output output = outputs.get();
+      if (output == null)
+        return new Output();
+
+      outputs.set(null);
+      return output;
+    }
+
+    static void release(final Output output) {
+      output.length = 0;
+      if (output.bytes.length > MAX_RETAINED_CAPACITY)
+        output.bytes = new byte[MAX_RETAINED_CAPACITY];
+
+      outputs.set(output);
+    }
+
+    private byte[] bytes = new byte[256];
+    private int length;
+
+    // The serial of the BinaryLogger to which the THREAD record of the current thread was last written, and the name with which
+    // it was written
+    private int writer;
+    private String threadName;
+
+    private void ensure(final int n) {
+      if (bytes.length < length + n)
+        bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + n));
+    }
+
+    void writeByte(final int b) {
+      ensure(1);
+      bytes[length++] = (byte)b;
+    }
+
+    void writeVarLong(long v) {
+      ensure(10);
+      for (; (v & ~0x7FL) != 0; v >>>= 7) // [N]
+        bytes[length++] = (byte)((v & 0x7F) | 0x80);
+
+      bytes[length++] = (byte)v;
+    }
+
+    void writeZigZag(final long v) {
+      writeVarLong((v << 1) ^ (v >> 63));
+    }
+
+    void writeFloat(final float f) {
+      ensure(4);
+      final int bits = Float.floatToRawIntBits(f);
+      for (int shift = 24; shift >= 0; shift -= 8) // [N]
+        bytes[length++] = (byte)(bits >>> shift);
+    }
+
+    void writeDouble(final double d) {
+      ensure(8);
+      final long bits = Double.doubleToRawLongBits(d);
+      for (int shift = 56; shift >= 0; shift -= 8) // [N]
+        bytes[length++] = (byte)(bits >>> shift);
+    }
+
+    private static boolean isSurrogatePair(final CharSequence s, final int i, final int len) {
+      return Character.isHighSurrogate(s.charAt(i)) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1));
+    }
+
+    /**
+     * Writes the specified {@link CharSequence} as a varint of its length in UTF-8 bytes, followed by its UTF-8 bytes, whereby an
+     * unpaired surrogate is written as {@code '?'}.
+     *
+     * @param s The {@link CharSequence}.
+     */
+    void writeString(final CharSequence s) {
+      final int len = s.length();
+      int size = len;
+      for (int i = 0; i < len; ++i) { // [N]
+        final char ch = s.charAt(i);
+        if (ch < 0x80)
+          continue;
+
+        if (ch < 0x800) {
+          size += 1;
+        }
+        else if (isSurrogatePair(s, i, len)) {
+          size += 2;
+          ++i;
+        }
+        else if (!Character.isSurrogate(ch)) {
+          size += 2;
+        }
+      }
+
+      writeVarLong(size);
+      ensure(size);
+      for (int i = 0; i < len; ++i) { // [N]
+        final char ch = s.charAt(i);
+        if (ch < 0x80) {
+          bytes[length++] = (byte)ch;
+        }
+        else if (ch < 0x800) {
+          bytes[length++] = (byte)(0xC0 | (ch >> 6));
+          bytes[length++] = (byte)(0x80 | (ch & 0x3F));
+        }
+        else if (isSurrogatePair(s, i, len)) {
+          final int cp = Character.toCodePoint(ch, s.charAt(++i));
+          bytes[length++] = (byte)(0xF0 | (cp >> 18));
+          bytes[length++] = (byte)(0x80 | ((cp >> 12) & 0x3F));
+          bytes[length++] = (byte)(0x80 | ((cp >> 6) & 0x3F));
+          bytes[length++] = (byte)(0x80 | (cp & 0x3F));
+        }
+        else if (Character.isSurrogate(ch)) {
+          bytes[length++] = '?';
+        }
+        else {
+          bytes[length++] = (byte)(0xE0 | (ch >> 12));
+          bytes[length++] = (byte)(0x80 | ((ch >> 6) & 0x3F));
+          bytes[length++] = (byte)(0x80 | (ch & 0x3F));
+        }
+      }
+    }
+
+    void write(final Output output) {
+      ensure(output.length);
+      System.arraycopy(output.bytes, 0, bytes, length, output.length);
+      length += output.length;
+    }
+  }
+
+  private static final int DEFAULT_BUFFER_SIZE = 65536;
+  private static final int DEFAULT_MAX_TEMPLATES = 4096;
+
+  private static void writeArg(final Output output, final Object arg, final boolean last) {
+    if (arg == null) {
+      output.writeByte(NULL);
+    }
+    else if (arg instanceof Long || arg instanceof Integer || arg instanceof Short || arg instanceof Byte) {
+      output.writeByte(LONG);
+      output.writeZigZag(((Number)arg).longValue());
+    }
+    else if (arg instanceof Double) {
+      output.writeByte(DOUBLE);
+      output.writeDouble((Double)arg);
+    }
+    else if (arg instanceof Float) {
+      output.writeByte(FLOAT);
+      output.writeFloat((Float)arg);
+    }
+    else if (arg instanceof Boolean) {
+      output.writeByte((Boolean)arg ? TRUE : FALSE);
+    }
+    else if (arg instanceof String) {
+      output.writeByte(STRING);
+      output.writeString((String)arg);
+    }
+    else if (last && arg instanceof Throwable) {
+      final StringWriter out = new StringWriter();
+      ((Throwable)arg).printStackTrace(new PrintWriter(out));
+      output.writeByte(THROWABLE);
+      output.writeString(out.getBuffer());
+    }
+    else {
+      final StringBuilder builder = MessageFormatter.acquireBuilder();
+      try {
+        output.writeByte(STRING);
+        output.writeString(MessageFormatter.format(builder, "{}", arg));
+      }
+      finally {
+        MessageFormatter.releaseBuilder(builder);
+      }
+    }
+  }
+
+  private final String name;
+  private final Level level;
+  private final OutputStream out;
+  private final int bufferSize;
+  private final int maxTemplates;
+  private final int serial = serials.incrementAndGet();
+  private final Output output = new Output();
+  private final HashMap<String,Integer> templates = new HashMap<>();
+  private long timestamp;
+  private IOException error;
+
+  /**
+   * Creates a new {@link BinaryLogger} with the provided name and logging {@link Level} to be used with this logger, which writes
+   * events to the given {@link OutputStream} whenever the given buffer size is exceeded, and records at most the given number of
+   * templates in its dictionary.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param out The {@link OutputStream}.
+   * @param bufferSize The number of bytes of events to buffer before they are written to the {@link OutputStream}.
+   * @param maxTemplates The maximum number of templates in the dictionary, beyond which templates are written inline in each event.
+   * @throws NullPointerException If {@code name}, {@code level}, or {@code out} is null.
+   * @throws IllegalArgumentException If {@code bufferSize} is not positive, or if {@code maxTemplates} is negative.
+   */
+  public BinaryLogger(final String name, final Level level, final OutputStream out, final int bufferSize, final int maxTemplates) {
+    this.name = Objects.requireNonNull(name, "name is null");
+    this.level = Objects.requireNonNull(level, "level is null");
+    this.out = Objects.requireNonNull(out, "out is null");
+    if (bufferSize <= 0)
+      throw new IllegalArgumentException("bufferSize (" + bufferSize + ") must be positive");
+
+    if (maxTemplates < 0)
+      throw new IllegalArgumentException("maxTemplates (" + maxTemplates + ") must be non-negative");
+
+    this.bufferSize = bufferSize;
+    this.maxTemplates = maxTemplates;
+    for (final byte b : MAGIC) // [A]
+      output.writeByte(b);
+
+    output.writeByte(VERSION);
+    output.writeString(name);
+  }
+
+  /**
+   * Creates a new {@link BinaryLogger} with the provided name and logging {@link Level} to be used with this logger, which writes
+   * events to the given {@link OutputStream} whenever the given buffer size is exceeded, and records at most 4096 templates in its
+   * dictionary.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param out The {@link OutputStream}.
+   * @param bufferSize The number of bytes of events to buffer before they are written to the {@link OutputStream}.
+   * @throws NullPointerException If {@code name}, {@code level}, or {@code out} is null.
+   * @throws IllegalArgumentException If {@code bufferSize} is not positive.
+   */
+  public BinaryLogger(final String name, final Level level, final OutputStream out, final int bufferSize) {
+    this(name, level, out, bufferSize, DEFAULT_MAX_TEMPLATES);
+  }
+
+  /**
+   * Creates a new {@link BinaryLogger} with the provided name and logging {@link Level} to be used with this logger, which writes
+   * events to the given {@link OutputStream} whenever 64 KiB of events are buffered, and records at most 4096 templates in its
+   * dictionary.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param out The {@link OutputStream}.
+   * @throws NullPointerException If any argument is null.
+   */
+  public BinaryLogger(final String name, final Level level, final OutputStream out) {
+    this(name, level, out, DEFAULT_BUFFER_SIZE);
+  }
+
+  private void drain() {
+    try {
+      out.write(output.bytes, 0, output.length);
+    }
+    catch (final IOException e) {
+      error = e;
+    }
+
+    output.length = 0;
+  }
+
+  private void write(final Level level, final String template, final Output args) {
+    final long time = System.currentTimeMillis();
+    final Thread thread = Thread.currentThread();
+    final long threadId = thread.getId();
+    final String threadName = thread.getName();
+    synchronized (this) {
+      if (error != null)
+        return;
+
+      Integer id = templates.get(template);
+      if (id == null && templates.size() < maxTemplates) {
+        templates.put(template, id = templates.size() + 1);
+        output.writeByte(TEMPLATE);
+        output.writeVarLong(id);
+        output.writeString(template != null ? template : "null");
+      }
+
+      // The THREAD record is written only when this thread's name was not yet written to this logger, as cached in its Output
+      if (args.writer != serial || !threadName.equals(args.threadName)) {
+        output.writeByte(THREAD);
+        output.writeVarLong(threadId);
+        output.writeString(threadName);
+        args.writer = serial;
+        args.threadName = threadName;
+      }
+
+      output.writeByte(EVENT);
+      if (id != null) {
+        output.writeVarLong(id);
+      }
+      else {
+        output.writeVarLong(INLINE);
+        output.writeString(template != null ? template : "null");
+      }
+
+      output.writeByte(level.ordinal());
+      output.writeZigZag(time - timestamp);
+      timestamp = time;
+      output.writeVarLong(threadId);
+      output.write(args);
+      if (output.length >= bufferSize)
+        drain();
+    }
+  }
+
+  private void println(final Level level, final String msg) {
+    final Output args = Output.acquire();
+    try {
+      args.writeVarLong(0);
+      write(level, msg, args);
+    }
+    finally {
+      Output.release(args);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object arg) {
+    final Output args = Output.acquire();
+    try {
+      args.writeVarLong(1);
+      writeArg(args, arg, true);
+      write(level, format, args);
+    }
+    finally {
+      Output.release(args);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object arg1, final Object arg2) {
+    final Output args = Output.acquire();
+    try {
+      args.writeVarLong(2);
+      writeArg(args, arg1, false);
+      writeArg(args, arg2, true);
+      write(level, format, args);
+    }
+    finally {
+      Output.release(args);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object[] arguments) {
+    final Output args = Output.acquire();
+    try {
+      if (arguments == null) {
+        args.writeVarLong(0);
+      }
+      else {
+        args.writeVarLong(arguments.length);
+        for (int i = 0, i$ = arguments.length; i < i$; ++i) // [A]
+          writeArg(args, arguments[i], i == i$ - 1);
+      }
+
+      write(level, format, args);
+    }
+    finally {
+      Output.release(args);
+    }
+  }
+
+  private void println(final Level level, final String msg, final Throwable t) {
+    final Output args = Output.acquire();
+    try {
+      args.writeVarLong(t == null ? 0 : 1);
+      if (t != null)
+        writeArg(args, t, true);
+
+      write(level, msg, args);
+    }
+    finally {
+      Output.release(args);
+    }
+  }
+
+  /**
+   * Writes the buffered events to the {@link OutputStream}, and flushes the {@link OutputStream}.
+   *
+   * @throws IOException If an I/O error has occurred writing the {@link OutputStream}, or if an I/O error has previously occurred.
+   */
+  public synchronized void flush() throws IOException {
+    if (error == null) {
+      drain();
+      if (error == null) {
+        try {
+          out.flush();
+        }
+        catch (final IOException e) {
+          error = e;
+        }
+      }
+    }
+
+    if (error != null)
+      throw error;
+  }
+
+  /**
+   * Writes the buffered events to the {@link OutputStream}, and closes the {@link OutputStream}.
+   *
+   * @throws IOException If an I/O error has occurred writing or closing the {@link OutputStream}, or if an I/O error has previously
+   *           occurred.
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    }
+    finally {
+      out.close();
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isTraceEnabled() {
+    return level.toInt() <= Level.TRACE.toInt();
+  }
+
+  @Override
+  public void trace(final String msg) {
+    if (isTraceEnabled())
+      println(Level.TRACE, msg);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arg);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg1, final Object arg2) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arg1, arg2);
+  }
+
+  @Override
+  public void trace(final String format, final Object ... arguments) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arguments);
+  }
+
+  @Override
+  public void trace(final String msg, final Throwable t) {
+    if (isTraceEnabled())
+      println(Level.TRACE, msg, t);
+  }
+
+  @Override
+  public boolean isTraceEnabled(final Marker marker) {
+    return isTraceEnabled();
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg) {
+    trace(msg);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg) {
+    trace(format, arg);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    trace(format, arg1, arg2);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object ... argArray) {
+    trace(format, argArray);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg, final Throwable t) {
+    trace(msg, t);
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return level.toInt() <= Level.DEBUG.toInt();
+  }
+
+  @Override
+  public void debug(final String msg) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, msg);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arg);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg1, final Object arg2) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arg1, arg2);
+  }
+
+  @Override
+  public void debug(final String format, final Object ... arguments) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arguments);
+  }
+
+  @Override
+  public void debug(final String msg, final Throwable t) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, msg, t);
+  }
+
+  @Override
+  public boolean isDebugEnabled(final Marker marker) {
+    return isDebugEnabled();
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg) {
+    debug(msg);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg) {
+    debug(format, arg);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    debug(format, arg1, arg2);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object ... argArray) {
+    debug(format, argArray);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg, final Throwable t) {
+    debug(msg, t);
+  }
+
+  @Override
+  public boolean isInfoEnabled() {
+    return level.toInt() <= Level.INFO.toInt();
+  }
+
+  @Override
+  public void info(final String msg) {
+    if (isInfoEnabled())
+      println(Level.INFO, msg);
+  }
+
+  @Override
+  public void info(final String format, final Object arg) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arg);
+  }
+
+  @Override
+  public void info(final String format, final Object arg1, final Object arg2) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arg1, arg2);
+  }
+
+  @Override
+  public void info(final String format, final Object ... arguments) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arguments);
+  }
+
+  @Override
+  public void info(final String msg, final Throwable t) {
+    if (isInfoEnabled())
+      println(Level.INFO, msg, t);
+  }
+
+  @Override
+  public boolean isInfoEnabled(final Marker marker) {
+    return isInfoEnabled();
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg) {
+    info(msg);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg) {
+    info(format, arg);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    info(format, arg1, arg2);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object ... argArray) {
+    info(format, argArray);
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg, final Throwable t) {
+    info(msg, t);
+  }
+
+  @Override
+  public boolean isWarnEnabled() {
+    return level.toInt() <= Level.WARN.toInt();
+  }
+
+  @Override
+  public void warn(final String msg) {
+    if (isWarnEnabled())
+      println(Level.WARN, msg);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arg);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg1, final Object arg2) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arg1, arg2);
+  }
+
+  @Override
+  public void warn(final String format, final Object ... arguments) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arguments);
+  }
+
+  @Override
+  public void warn(final String msg, final Throwable t) {
+    if (isWarnEnabled())
+      println(Level.WARN, msg, t);
+  }
+
+  @Override
+  public boolean isWarnEnabled(final Marker marker) {
+    return isWarnEnabled();
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg) {
+    warn(msg);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg) {
+    warn(format, arg);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    warn(format, arg1, arg2);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object ... argArray) {
+    warn(format, argArray);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg, final Throwable t) {
+    warn(msg, t);
+  }
+
+  @Override
+  public boolean isErrorEnabled() {
+    return level.toInt() <= Level.ERROR.toInt();
+  }
+
+  @Override
+  public void error(final String msg) {
+    if (isErrorEnabled())
+      println(Level.ERROR, msg);
+  }
+
+  @Override
+  public void error(final String format, final Object arg) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arg);
+  }
+
+  @Override
+  public void error(final String format, final Object arg1, final Object arg2) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arg1, arg2);
+  }
+
+  @Override
+  public void error(final String format, final Object ... arguments) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arguments);
+  }
+
+  @Override
+  public void error(final String msg, final Throwable t) {
+    if (isErrorEnabled())
+      println(Level.ERROR, msg, t);
+  }
+
+  @Override
+  public boolean isErrorEnabled(final Marker marker) {
+    return isErrorEnabled();
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg) {
+    error(msg);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg) {
+    error(format, arg);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    error(format, arg1, arg2);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object ... argArray) {
+    error(format, argArray);
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg, final Throwable t) {
+    error(msg, t);
+  }
+}
\ No newline at end of file
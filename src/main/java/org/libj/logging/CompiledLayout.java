@@ -0,0 +1,309 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Objects;
+
+import org.slf4j.event.Level;
+
+/**
+ * A layout of log lines that is compiled once from a Logback-like pattern into an array of element writers, which render directly
+ * into a {@link StringBuilder} with no per-line parsing. The supported conversion words are:
+ * <ul>
+ * <li>{@code %d}, {@code %date}: The time of the event, with an optional {@link DateTimeFormatter} pattern, such as
+ * {@code %d{HH:mm:ss.SSS}}, or {@code %d{ISO8601}} (the default) for {@code yyyy-MM-dd HH:mm:ss,SSS}. The formatted time is cached
+ * per millisecond.</li>
+ * <li>{@code %p}, {@code %le}, {@code %level}: The level of the event.</li>
+ * <li>{@code %t}, {@code %thread}: The name of the thread of the event.</li>
+ * <li>{@code %c}, {@code %lo}, {@code %logger}: The name of the logger.</li>
+ * <li>{@code %m}, {@code %msg}, {@code %message}: The message, which may occur at most once.</li>
+ * <li>{@code %n}: The line separator.</li>
+ * <li>{@code %%}: The {@code '%'} character.</li>
+ * </ul>
+ * Each conversion word may be preceded by a format modifier of a minimum width, which pads to the left, or to the right if prefixed
+ * with {@code '-'}, such as {@code %-5level}.
+ */
+public final class CompiledLayout {
+  private abstract static class Element {
+    private final int width;
+
+    private Element(final int width) {
+      this.width = width;
+    }
+
+    abstract void append(StringBuilder builder, Level level, String name);
+
+    final void render(final StringBuilder builder, final Level level, final String name) {
+      if (width == 0) {
+        append(builder, level, name);
+        return;
+      }
+
+      final int start = builder.length();
+      append(builder, level, name);
+      final int padding = Math.abs(width) - (builder.length() - start);
+      if (padding > 0) {
+        if (width < 0) {
+          for (int i = 0; i < padding; ++i) // [N]
+            builder.append(' ');
+        }
+        else {
+          for (int i = 0; i < padding; ++i) // [N]
+            builder.insert(start, ' ');
+        }
+      }
+    }
+  }
+
+  private static final class Literal extends Element {
+    private final String text;
+
+    private Literal(final String text) {
+      super(0);
+      this.text = text;
+    }
+
+    @Override
+    void append(final StringBuilder builder, final Level level, final String name) {
+      builder.append(text);
+    }
+  }
+
+  private static final class Date extends Element {
+    private static final class Cache {
+      private final long millis;
+      private final String text;
+
+      private Cache(final long millis, final String text) {
+        this.millis = millis;
+        this.text = text;
+      }
+    }
+
+    private final DateTimeFormatter formatter;
+    private volatile Cache cache = new Cache(Long.MIN_VALUE, null);
+
+    private Date(final int width, final DateTimeFormatter formatter) {
+      super(width);
+      this.formatter = formatter;
+    }
+
+    @Override
+    void append(final StringBuilder builder, final Level level, final String name) {
+      final long millis = System.currentTimeMillis();
+      Cache cache = this.cache;
+      if (cache.millis != millis)
+        this.cache = cache = new Cache(millis, formatter.format(Instant.ofEpochMilli(millis)));
+
+      builder.append(cache.text);
+    }
+  }
+
+  private static final class LevelElement extends Element {
+    private LevelElement(final int width) {
+      super(width);
+    }
+
+    @Override
+    void append(final StringBuilder builder, final Level level, final String name) {
+      builder.append(level);
+    }
+  }
+
+  private static final class ThreadElement extends Element {
+    private ThreadElement(final int width) {
+      super(width);
+    }
+
+    @Override
+    void append(final StringBuilder builder, final Level level, final String name) {
+      builder.append(Thread.currentThread().getName());
+    }
+  }
+
+  private static final class LoggerElement extends Element {
+    private LoggerElement(final int width) {
+      super(width);
+    }
+
+    @Override
+    void append(final StringBuilder builder, final Level level, final String name) {
+      builder.append(name);
+    }
+  }
+
+  private static final Element[] EMPTY = {};
+
+  private final String pattern;
+  private final Element[] head;
+  private final Element[] tail;
+  private final boolean hasMessage;
+
+  /**
+   * Creates a new {@link CompiledLayout} by compiling the specified pattern.
+   *
+   * @param pattern The pattern.
+   * @throws NullPointerException If {@code pattern} is null.
+   * @throws IllegalArgumentException If {@code pattern} is malformed, contains an unknown conversion word, or contains more than one
+   *           message conversion word.
+   */
+  public CompiledLayout(final String pattern) {
+    this.pattern = Objects.requireNonNull(pattern, "pattern is null");
+    final ArrayList<Element> head = new ArrayList<>();
+    final ArrayList<Element> tail = new ArrayList<>();
+    ArrayList<Element> elements = head;
+    final StringBuilder literal = new StringBuilder();
+    for (int i = 0, i$ = pattern.length(); i < i$;) { // [N]
+      final char ch = pattern.charAt(i++);
+      if (ch != '%') {
+        literal.append(ch);
+        continue;
+      }
+
+      if (i == i$)
+        throw new IllegalArgumentException("Unterminated conversion at end of pattern: " + pattern);
+
+      if (pattern.charAt(i) == '%') {
+        literal.append('%');
+        ++i;
+        continue;
+      }
+
+      if (literal.length() > 0) {
+        elements.add(new Literal(literal.toString()));
+        literal.setLength(0);
+      }
+
+      final boolean left = pattern.charAt(i) == '-';
+      if (left)
+        ++i;
+
+      int width = 0;
+      for (char c; i < i$ && (c = pattern.charAt(i)) >= '0' && c <= '9'; ++i) // [N]
+        width = width * 10 + c - '0';
+
+      if (left)
+        width = -width;
+
+      final int start = i;
+      while (i < i$ && Character.isLetter(pattern.charAt(i)))
+        ++i;
+
+      final String word = pattern.substring(start, i);
+      String option = null;
+      if (i < i$ && pattern.charAt(i) == '{') {
+        final int end = pattern.indexOf('}', i);
+        if (end == -1)
+          throw new IllegalArgumentException("Unterminated option of %" + word + " in pattern: " + pattern);
+
+        option = pattern.substring(i + 1, end);
+        i = end + 1;
+      }
+
+      switch (word) {
+        case "d":
+        case "date":
+          elements.add(new Date(width, DateTimeFormatter.ofPattern(option == null || "ISO8601".equals(option) ? "yyyy-MM-dd HH:mm:ss,SSS" : option).withZone(ZoneId.systemDefault())));
+          break;
+        case "p":
+        case "le":
+        case "level":
+          elements.add(new LevelElement(width));
+          break;
+        case "t":
+        case "thread":
+          elements.add(new ThreadElement(width));
+          break;
+        case "c":
+        case "lo":
+        case "logger":
+          elements.add(new LoggerElement(width));
+          break;
+        case "m":
+        case "msg":
+        case "message":
+          if (elements == tail)
+            throw new IllegalArgumentException("More than one message conversion word in pattern: " + pattern);
+
+          elements = tail;
+          break;
+        case "n":
+          elements.add(new Literal(System.lineSeparator()));
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown conversion word %" + word + " in pattern: " + pattern);
+      }
+    }
+
+    if (literal.length() > 0)
+      elements.add(new Literal(literal.toString()));
+
+    this.head = head.toArray(EMPTY);
+    this.tail = tail.toArray(EMPTY);
+    this.hasMessage = elements == tail;
+  }
+
+  /**
+   * Returns whether the pattern of this {@link CompiledLayout} contains the message conversion word.
+   *
+   * @return Whether the pattern of this {@link CompiledLayout} contains the message conversion word.
+   */
+  public boolean hasMessage() {
+    return hasMessage;
+  }
+
+  /**
+   * Renders the elements of this {@link CompiledLayout} that precede the message into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param level The {@link Level} of the event.
+   * @param name The name of the logger.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} or {@code level} is null.
+   */
+  public StringBuilder renderHead(final StringBuilder builder, final Level level, final String name) {
+    for (final Element element : head) // [A]
+      element.render(builder, level, name);
+
+    return builder;
+  }
+
+  /**
+   * Renders the elements of this {@link CompiledLayout} that follow the message into the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param level The {@link Level} of the event.
+   * @param name The name of the logger.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} or {@code level} is null.
+   */
+  public StringBuilder renderTail(final StringBuilder builder, final Level level, final String name) {
+    for (final Element element : tail) // [A]
+      element.render(builder, level, name);
+
+    return builder;
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+}
@@ -17,6 +17,7 @@
 package org.libj.logging;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.slf4j.Logger;
 import org.slf4j.Marker;
@@ -26,10 +27,16 @@ import org.slf4j.Marker;
  * providing additional functionality. The class {@link DelegateLogger} itself simply overrides all methods of {@link Logger} with
  * versions that delegate all calls to the source {@link Logger}. Subclasses of {@link DelegateLogger} may further override some of
  * these methods and may also provide additional methods and fields.
+ * <p>
+ * The target {@link Logger} can be replaced at runtime with {@link #setTarget(Logger)}, {@link #getAndSetTarget(Logger)} and
+ * {@link #compareAndSetTarget(Logger,Logger)}, whereby the new target is safely published to all threads. Each delegated call
+ * reads the target once.
  */
 public abstract class DelegateLogger implements Logger {
+  private static final AtomicReferenceFieldUpdater<DelegateLogger,Logger> targetUpdater = AtomicReferenceFieldUpdater.newUpdater(DelegateLogger.class, Logger.class, "target");
+
   /** The target {@link Logger}. */
-  protected Logger target;
+  protected volatile Logger target;
 
   /**
    * Creates a new {@link DelegateLogger} with the specified target {@link Logger}.
@@ -47,6 +54,49 @@ public abstract class DelegateLogger implements Logger {
   protected DelegateLogger() {
   }
 
+  /**
+   * Returns the target {@link Logger}.
+   *
+   * @return The target {@link Logger}.
+   */
+  public Logger getTarget() {
+    return target;
+  }
+
+  /**
+   * Sets the target {@link Logger}.
+   *
+   * @param target The target {@link Logger}.
+   * @throws NullPointerException If {@code target} is null.
+   */
+  public void setTarget(final Logger target) {
+    this.target = Objects.requireNonNull(target, "target is null");
+  }
+
+  /**
+   * Sets the target {@link Logger}, and returns the previous target {@link Logger}.
+   *
+   * @param target The target {@link Logger}.
+   * @return The previous target {@link Logger}.
+   * @throws NullPointerException If {@code target} is null.
+   */
+  public Logger getAndSetTarget(final Logger target) {
+    return targetUpdater.getAndSet(this, Objects.requireNonNull(target, "target is null"));
+  }
+
+  /**
+   * Sets the target {@link Logger} to {@code update} if the current target {@link Logger} is {@code expect}.
+   *
+   * @param expect The expected target {@link Logger}.
+   * @param update The new target {@link Logger}.
+   * @return {@code true} if the target {@link Logger} was set, or {@code false} if the current target {@link Logger} was not
+   *         {@code expect}.
+   * @throws NullPointerException If {@code update} is null.
+   */
+  public boolean compareAndSetTarget(final Logger expect, final Logger update) {
+    return targetUpdater.compareAndSet(this, expect, Objects.requireNonNull(update, "update is null"));
+  }
+
   @Override
   public String getName() {
     return target.getName();
@@ -0,0 +1,133 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free log-linear histogram of non-negative {@code long} values, such as latencies in nanoseconds. Each power of 2 is divided
+ * into 16 linear sub-buckets, whereby values below 16 are recorded exactly, and larger values are recorded with a relative error of
+ * at most 1/16. Recording a value is a single atomic increment, plus an update of the maximum if it is exceeded.
+ */
+public final class LatencyHistogram {
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  static int indexOf(final long value) {
+    if (value < SUB_BUCKETS)
+      return (int)value;
+
+    final int exponent = 63 - Long.numberOfLeadingZeros(value);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int)(value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+  }
+
+  static long highestValueOf(final int index) {
+    if (index < SUB_BUCKETS)
+      return index;
+
+    final int shift = index / SUB_BUCKETS - 1;
+    final long lowest = (long)(SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+    return lowest + (1L << shift) - 1;
+  }
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final AtomicLong max = new AtomicLong();
+
+  /**
+   * Records the specified value, whereby a negative value is recorded as {@code 0}.
+   *
+   * @param value The value.
+   */
+  public void record(long value) {
+    if (value < 0)
+      value = 0;
+
+    counts.getAndIncrement(indexOf(value));
+    if (value > max.get())
+      max.accumulateAndGet(value, Math::max);
+  }
+
+  /**
+   * Returns the number of recorded values.
+   *
+   * @return The number of recorded values.
+   */
+  public long getCount() {
+    long count = 0;
+    for (int i = 0; i < BUCKETS; ++i) // [N]
+      count += counts.get(i);
+
+    return count;
+  }
+
+  /**
+   * Returns the maximum recorded value.
+   *
+   * @return The maximum recorded value, or {@code 0} if no values have been recorded.
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns the value at the specified percentile, as the highest value that is equivalent to the recorded value at the
+   * percentile, capped at the maximum recorded value.
+   *
+   * @param percentile The percentile, between {@code 0} and {@code 100}.
+   * @return The value at the specified percentile, or {@code 0} if no values have been recorded.
+   * @throws IllegalArgumentException If {@code percentile} is not between {@code 0} and {@code 100}.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    if (!(percentile >= 0 && percentile <= 100))
+      throw new IllegalArgumentException("percentile (" + percentile + ") must be between 0 and 100");
+
+    final long[] snapshot = new long[BUCKETS];
+    long count = 0;
+    for (int i = 0; i < BUCKETS; ++i) // [A]
+      count += snapshot[i] = counts.get(i);
+
+    if (count == 0)
+      return 0;
+
+    final long rank = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+    long cumulative = 0;
+    for (int i = 0; i < BUCKETS; ++i) { // [A]
+      cumulative += snapshot[i];
+      if (cumulative >= rank)
+        return Math.min(highestValueOf(i), max.get());
+    }
+
+    return max.get();
+  }
+
+  /**
+   * Resets this histogram, whereby values that are recorded concurrently may or may not be retained.
+   */
+  public void reset() {
+    for (int i = 0; i < BUCKETS; ++i) // [N]
+      counts.set(i, 0);
+
+    max.set(0);
+  }
+
+  @Override
+  public String toString() {
+    return "count=" + getCount() + ", p50=" + getValueAtPercentile(50) + ", p99=" + getValueAtPercentile(99) + ", p999=" + getValueAtPercentile(99.9) + ", max=" + getMax();
+  }
+}
@@ -0,0 +1,246 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MutableCallSite;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+
+/**
+ * A per-{@link Logger}, per-{@link Level} enable check that is backed by a {@link MutableCallSite}. The target of the call site is a
+ * constant {@link MethodHandle} returning the last known result of the {@code isXxxEnabled()} method of the {@link Logger}, which
+ * the JIT compiler folds into the code that invokes it. When the effective level of the {@link Logger} changes, the call site is
+ * relinked, and the dependent compiled code is deoptimized.
+ * <p>
+ * For the check to be folded to a constant, the {@link MethodHandle} returned by {@link #getHandle()} must itself be a constant,
+ * such as the value of a {@code static final} field:
+ *
+ * <pre>
+ * private static final MethodHandle isTraceEnabled = LevelSwitch.of(logger, Level.TRACE).getHandle();
+ * ...
+ * if ((boolean)isTraceEnabled.invokeExact())
+ *   logger.trace(...);
+ * </pre>
+ *
+ * The {@link #isEnabled()} method provides the same check without the need to handle the {@link Throwable} declared by
+ * {@link MethodHandle#invokeExact(Object...)}.
+ * <p>
+ * The enable checks are re-evaluated upon {@link LoggerUtil#setLevel(Logger,Level)}, and, for the
+ * <a href="https://logback.qos.ch/">LogBack</a> implementation of {@link Logger} instances, upon any level change or reset of the
+ * {@link LoggerContext}. For other implementations, {@link #refresh()} must be called after the effective levels are changed. Since
+ * the result of the check is cached, {@link Logger} implementations whose enablement depends on the calling context (such as
+ * LogBack {@code TurboFilter}s that inspect the MDC) are not reflected by a {@link LevelSwitch}.
+ * <p>
+ * The {@link LevelSwitch} instances are registered weakly, and a {@link LevelSwitch} that is no longer referenced is reclaimed
+ * together with its call site, and its {@link Logger} if that is no longer referenced either.
+ */
+public final class LevelSwitch {
+  private static final class Listener implements LoggerContextListener {
+    @Override
+    public boolean isResetResistant() {
+      return true;
+    }
+
+    @Override
+    public void onStart(final LoggerContext context) {
+      refresh();
+    }
+
+    @Override
+    public void onReset(final LoggerContext context) {
+      refresh();
+    }
+
+    @Override
+    public void onStop(final LoggerContext context) {
+    }
+
+    @Override
+    public void onLevelChange(final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level) {
+      if (suspended.get() == 0)
+        refresh();
+    }
+  }
+
+  private static final MethodHandle TRUE = MethodHandles.constant(boolean.class, Boolean.TRUE);
+  private static final MethodHandle FALSE = MethodHandles.constant(boolean.class, Boolean.FALSE);
+  private static final WeakHashMap<Logger,WeakReference<?>[]> switches = new WeakHashMap<>();
+  private static final AtomicInteger suspended = new AtomicInteger();
+  private static boolean listening;
+
+  /**
+   * Returns the {@link LevelSwitch} for the specified {@link Logger} and {@link Level}.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The {@link Level}.
+   * @return The {@link LevelSwitch} for the specified {@link Logger} and {@link Level}.
+   * @throws NullPointerException If {@code logger} or {@code level} is null.
+   */
+  public static LevelSwitch of(final Logger logger, final Level level) {
+    Objects.requireNonNull(logger, "logger is null");
+    final int index = level.ordinal();
+    synchronized (switches) {
+      if (!listening) {
+        listening = true;
+        try {
+          final Object factory = LoggerFactory.getILoggerFactory();
+          if (factory instanceof LoggerContext)
+            ((LoggerContext)factory).addListener(new Listener());
+        }
+        catch (final NoClassDefFoundError e) {
+        }
+      }
+
+      WeakReference<?>[] levelSwitches = switches.get(logger);
+      if (levelSwitches == null)
+        switches.put(logger, levelSwitches = new WeakReference<?>[Level.values().length]);
+
+      LevelSwitch levelSwitch = levelSwitches[index] != null ? (LevelSwitch)levelSwitches[index].get() : null;
+      if (levelSwitch == null)
+        levelSwitches[index] = new WeakReference<>(levelSwitch = new LevelSwitch(logger, level));
+
+      return levelSwitch;
+    }
+  }
+
+  /**
+   * Re-evaluates the enable checks of all {@link LevelSwitch} instances, and relinks those whose result has changed.
+   */
+  public static void refresh() {
+    synchronized (switches) {
+      if (switches.size() == 0)
+        return;
+
+      final ArrayList<MutableCallSite> changed = new ArrayList<>();
+      for (final WeakReference<?>[] levelSwitches : switches.values()) { // [C]
+        for (final WeakReference<?> reference : levelSwitches) { // [A]
+          final LevelSwitch levelSwitch = reference != null ? (LevelSwitch)reference.get() : null;
+          if (levelSwitch != null && levelSwitch.update())
+            changed.add(levelSwitch.callSite);
+        }
+      }
+
+      if (changed.size() > 0)
+        MutableCallSite.syncAll(changed.toArray(new MutableCallSite[changed.size()]));
+    }
+  }
+
+  /**
+   * Suspends the re-evaluation of the enable checks upon level change events, until a matching call to {@link #resume()}.
+   */
+  static void suspend() {
+    suspended.incrementAndGet();
+  }
+
+  /**
+   * Resumes the re-evaluation of the enable checks upon level change events, and re-evaluates all enable checks if no other
+   * suspension is in effect.
+   */
+  static void resume() {
+    if (suspended.decrementAndGet() == 0)
+      refresh();
+  }
+
+  private final Logger logger;
+  private final Level level;
+  private final MutableCallSite callSite;
+  private final MethodHandle invoker;
+  private boolean enabled;
+
+  private LevelSwitch(final Logger logger, final Level level) {
+    this.logger = logger;
+    this.level = level;
+    this.enabled = LoggerUtil.isLoggable(logger, level);
+    this.callSite = new MutableCallSite(enabled ? TRUE : FALSE);
+    this.invoker = callSite.dynamicInvoker();
+  }
+
+  /**
+   * Re-evaluates the enable check, and sets the target of the call site if the result has changed.
+   *
+   * @return {@code true} if the result of the enable check has changed, otherwise {@code false}.
+   */
+  private boolean update() {
+    final boolean enabled = LoggerUtil.isLoggable(logger, level);
+    if (enabled == this.enabled)
+      return false;
+
+    this.enabled = enabled;
+    callSite.setTarget(enabled ? TRUE : FALSE);
+    return true;
+  }
+
+  /**
+   * Returns the {@link Logger} of this {@link LevelSwitch}.
+   *
+   * @return The {@link Logger} of this {@link LevelSwitch}.
+   */
+  public Logger getLogger() {
+    return logger;
+  }
+
+  /**
+   * Returns the {@link Level} of this {@link LevelSwitch}.
+   *
+   * @return The {@link Level} of this {@link LevelSwitch}.
+   */
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns a {@link MethodHandle} of type {@code ()boolean} that returns whether a message of this {@link LevelSwitch}'s level would
+   * be logged by its {@link Logger}.
+   *
+   * @return A {@link MethodHandle} of type {@code ()boolean} that returns whether a message of this {@link LevelSwitch}'s level would
+   *         be logged by its {@link Logger}.
+   */
+  public MethodHandle getHandle() {
+    return invoker;
+  }
+
+  /**
+   * Check if a message of this {@link LevelSwitch}'s level would be logged by its {@link Logger}.
+   *
+   * @return {@code true} if this {@link LevelSwitch}'s level is currently being logged by its {@link Logger}.
+   */
+  public boolean isEnabled() {
+    try {
+      return (boolean)invoker.invokeExact();
+    }
+    catch (final Throwable t) {
+      throw new IllegalStateException(t);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return level + " " + logger + ": " + isEnabled();
+  }
+}
@@ -0,0 +1,580 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Objects;
+
+import org.libj.logging.LoggerUtil.ThrowingSupplier;
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A handle to a {@link Logger} that is bound to a fixed {@link Level}. Unlike the {@code LoggerUtil.log(Logger,Level,...)} methods,
+ * which dispatch on the {@link Level} upon each call, a {@link LeveledLogger} resolves the {@link Level} once (upon
+ * {@link #of(Logger,Level)}), and thereafter delegates each call directly to the level-specific method of the {@link Logger}.
+ * <p>
+ * A {@link LeveledLogger} is intended to be obtained once for a {@code (Logger, Level)} pair, and held for the lifetime of the call
+ * site, such as in a {@code static final} field.
+ */
+public abstract class LeveledLogger {
+  private static final class TraceLogger extends LeveledLogger {
+    private TraceLogger(final Logger logger) {
+      super(logger, Level.TRACE);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return logger.isTraceEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(final Marker marker) {
+      return logger.isTraceEnabled(marker);
+    }
+
+    @Override
+    public void log(final String msg) {
+      logger.trace(msg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg) {
+      logger.trace(format, arg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg1, final Object arg2) {
+      logger.trace(format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final String format, final Object ... arguments) {
+      logger.trace(format, arguments);
+    }
+
+    @Override
+    public void log(final String msg, final Throwable t) {
+      logger.trace(msg, t);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg) {
+      logger.trace(marker, msg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg) {
+      logger.trace(marker, format, arg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg1, final Object arg2) {
+      logger.trace(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object ... arguments) {
+      logger.trace(marker, format, arguments);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg, final Throwable t) {
+      logger.trace(marker, msg, t);
+    }
+  }
+
+  private static final class DebugLogger extends LeveledLogger {
+    private DebugLogger(final Logger logger) {
+      super(logger, Level.DEBUG);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return logger.isDebugEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(final Marker marker) {
+      return logger.isDebugEnabled(marker);
+    }
+
+    @Override
+    public void log(final String msg) {
+      logger.debug(msg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg) {
+      logger.debug(format, arg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg1, final Object arg2) {
+      logger.debug(format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final String format, final Object ... arguments) {
+      logger.debug(format, arguments);
+    }
+
+    @Override
+    public void log(final String msg, final Throwable t) {
+      logger.debug(msg, t);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg) {
+      logger.debug(marker, msg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg) {
+      logger.debug(marker, format, arg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg1, final Object arg2) {
+      logger.debug(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object ... arguments) {
+      logger.debug(marker, format, arguments);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg, final Throwable t) {
+      logger.debug(marker, msg, t);
+    }
+  }
+
+  private static final class InfoLogger extends LeveledLogger {
+    private InfoLogger(final Logger logger) {
+      super(logger, Level.INFO);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return logger.isInfoEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(final Marker marker) {
+      return logger.isInfoEnabled(marker);
+    }
+
+    @Override
+    public void log(final String msg) {
+      logger.info(msg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg) {
+      logger.info(format, arg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg1, final Object arg2) {
+      logger.info(format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final String format, final Object ... arguments) {
+      logger.info(format, arguments);
+    }
+
+    @Override
+    public void log(final String msg, final Throwable t) {
+      logger.info(msg, t);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg) {
+      logger.info(marker, msg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg) {
+      logger.info(marker, format, arg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg1, final Object arg2) {
+      logger.info(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object ... arguments) {
+      logger.info(marker, format, arguments);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg, final Throwable t) {
+      logger.info(marker, msg, t);
+    }
+  }
+
+  private static final class WarnLogger extends LeveledLogger {
+    private WarnLogger(final Logger logger) {
+      super(logger, Level.WARN);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return logger.isWarnEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(final Marker marker) {
+      return logger.isWarnEnabled(marker);
+    }
+
+    @Override
+    public void log(final String msg) {
+      logger.warn(msg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg) {
+      logger.warn(format, arg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg1, final Object arg2) {
+      logger.warn(format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final String format, final Object ... arguments) {
+      logger.warn(format, arguments);
+    }
+
+    @Override
+    public void log(final String msg, final Throwable t) {
+      logger.warn(msg, t);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg) {
+      logger.warn(marker, msg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg) {
+      logger.warn(marker, format, arg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg1, final Object arg2) {
+      logger.warn(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object ... arguments) {
+      logger.warn(marker, format, arguments);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg, final Throwable t) {
+      logger.warn(marker, msg, t);
+    }
+  }
+
+  private static final class ErrorLogger extends LeveledLogger {
+    private ErrorLogger(final Logger logger) {
+      super(logger, Level.ERROR);
+    }
+
+    @Override
+    public boolean isEnabled() {
+      return logger.isErrorEnabled();
+    }
+
+    @Override
+    public boolean isEnabled(final Marker marker) {
+      return logger.isErrorEnabled(marker);
+    }
+
+    @Override
+    public void log(final String msg) {
+      logger.error(msg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg) {
+      logger.error(format, arg);
+    }
+
+    @Override
+    public void log(final String format, final Object arg1, final Object arg2) {
+      logger.error(format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final String format, final Object ... arguments) {
+      logger.error(format, arguments);
+    }
+
+    @Override
+    public void log(final String msg, final Throwable t) {
+      logger.error(msg, t);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg) {
+      logger.error(marker, msg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg) {
+      logger.error(marker, format, arg);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object arg1, final Object arg2) {
+      logger.error(marker, format, arg1, arg2);
+    }
+
+    @Override
+    public void log(final Marker marker, final String format, final Object ... arguments) {
+      logger.error(marker, format, arguments);
+    }
+
+    @Override
+    public void log(final Marker marker, final String msg, final Throwable t) {
+      logger.error(marker, msg, t);
+    }
+  }
+
+  /**
+   * Returns a {@link LeveledLogger} bound to the specified {@link Logger} and {@link Level}.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The {@link Level}.
+   * @return A {@link LeveledLogger} bound to the specified {@link Logger} and {@link Level}.
+   * @throws NullPointerException If {@code logger} or {@code level} is null.
+   */
+  public static LeveledLogger of(final Logger logger, final Level level) {
+    Objects.requireNonNull(logger, "logger is null");
+    switch (level) {
+      case TRACE:
+        return new TraceLogger(logger);
+      case DEBUG:
+        return new DebugLogger(logger);
+      case INFO:
+        return new InfoLogger(logger);
+      case WARN:
+        return new WarnLogger(logger);
+      case ERROR:
+        return new ErrorLogger(logger);
+      default:
+        throw new UnsupportedOperationException("Unsupported level: " + level);
+    }
+  }
+
+  /** The target {@link Logger}. */
+  protected final Logger logger;
+  private final Level level;
+
+  private LeveledLogger(final Logger logger, final Level level) {
+    this.logger = logger;
+    this.level = level;
+  }
+
+  /**
+   * Returns the target {@link Logger}.
+   *
+   * @return The target {@link Logger}.
+   */
+  public final Logger getLogger() {
+    return logger;
+  }
+
+  /**
+   * Returns the {@link Level} to which this {@link LeveledLogger} is bound.
+   *
+   * @return The {@link Level} to which this {@link LeveledLogger} is bound.
+   */
+  public final Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Check if a message of this {@link LeveledLogger}'s level would be logged by the target {@link Logger}.
+   *
+   * @return {@code true} if this {@link LeveledLogger}'s level is currently being logged by the target {@link Logger}.
+   */
+  public abstract boolean isEnabled();
+
+  /**
+   * Check if a message of this {@link LeveledLogger}'s level and the specified {@code marker} would be logged by the target
+   * {@link Logger}.
+   *
+   * @param marker The {@link Marker} data to take into consideration.
+   * @return {@code true} if this {@link LeveledLogger}'s level is currently being logged by the target {@link Logger}.
+   */
+  public abstract boolean isEnabled(Marker marker);
+
+  /**
+   * Log a {@code msg} message.
+   *
+   * @param <E> Type parameter of a {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @param msg The message string to log.
+   * @throws E The {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @throws NullPointerException If {@code msg} is null.
+   */
+  public final <E extends Throwable> void log(final ThrowingSupplier<String,E> msg) throws E {
+    if (isEnabled())
+      log(msg.get());
+  }
+
+  /**
+   * Log a {@code msg} message.
+   *
+   * @param msg The message string to log.
+   */
+  public abstract void log(String msg);
+
+  /**
+   * Log a message according to the specified {@code format} and {@code arg}.
+   *
+   * @param format The format string.
+   * @param arg The argument.
+   */
+  public abstract void log(String format, Object arg);
+
+  /**
+   * Log a message according to the specified {@code format} and arguments, {@code arg1} and {@code arg2}.
+   *
+   * @param format The format string.
+   * @param arg1 The first argument.
+   * @param arg2 The second argument.
+   */
+  public abstract void log(String format, Object arg1, Object arg2);
+
+  /**
+   * Log a message according to the specified {@code format} and {@code arguments}.
+   *
+   * @param format The format string.
+   * @param arguments A list of 3 or more arguments.
+   */
+  public abstract void log(String format, Object ... arguments);
+
+  /**
+   * Log a {@code msg} message with the specified {@link Throwable}.
+   *
+   * @param <E> Type parameter of a {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @param msg The message string to log.
+   * @param t The {@link Throwable} to log.
+   * @throws E The {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @throws NullPointerException If {@code msg} is null.
+   */
+  public final <E extends Throwable> void log(final ThrowingSupplier<String,E> msg, final Throwable t) throws E {
+    if (isEnabled())
+      log(msg.get(), t);
+  }
+
+  /**
+   * Log an exception {@code t} (throwable) with an accompanying {@code msg} message.
+   *
+   * @param msg The message accompanying the exception.
+   * @param t The {@link Throwable} to log.
+   */
+  public abstract void log(String msg, Throwable t);
+
+  /**
+   * Log a {@code msg} message with the specific {@code marker}.
+   *
+   * @param <E> Type parameter of a {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @param marker The marker specific to this log statement.
+   * @param msg The message string to log.
+   * @throws E The {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @throws NullPointerException If {@code msg} is null.
+   */
+  public final <E extends Throwable> void log(final Marker marker, final ThrowingSupplier<String,E> msg) throws E {
+    if (isEnabled(marker))
+      log(marker, msg.get());
+  }
+
+  /**
+   * Log a {@code msg} message with the specific {@code marker}.
+   *
+   * @param marker The marker specific to this log statement.
+   * @param msg The message string to log.
+   */
+  public abstract void log(Marker marker, String msg);
+
+  /**
+   * Log a message according to the specified {@code format} and {@code arg}, with the specific {@code marker}.
+   *
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arg The argument.
+   */
+  public abstract void log(Marker marker, String format, Object arg);
+
+  /**
+   * Log a message according to the specified {@code format} and arguments, {@code arg1} and {@code arg2}, with the specific
+   * {@code marker}.
+   *
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arg1 The first argument.
+   * @param arg2 The second argument.
+   */
+  public abstract void log(Marker marker, String format, Object arg1, Object arg2);
+
+  /**
+   * Log a message according to the specified {@code format} and {@code arguments}, with the specific {@code marker}.
+   *
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arguments A list of 3 or more arguments.
+   */
+  public abstract void log(Marker marker, String format, Object ... arguments);
+
+  /**
+   * Log a {@code msg} message with the specified {@link Throwable} and the specific {@code marker}.
+   *
+   * @param <E> Type parameter of a {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @param marker The marker specific to this log statement.
+   * @param msg The message string to log.
+   * @param t The {@link Throwable} to log.
+   * @throws E The {@link Throwable} subclass thrown from the {@code msg} supplier.
+   * @throws NullPointerException If {@code msg} is null.
+   */
+  public final <E extends Throwable> void log(final Marker marker, final ThrowingSupplier<String,E> msg, final Throwable t) throws E {
+    if (isEnabled(marker))
+      log(marker, msg.get(), t);
+  }
+
+  /**
+   * Log an exception {@code t} (throwable) with an accompanying {@code msg} message, with the specific {@code marker}.
+   *
+   * @param marker The marker specific to this log statement.
+   * @param msg The message accompanying the exception.
+   * @param t The {@link Throwable} to log.
+   */
+  public abstract void log(Marker marker, String msg, Throwable t);
+
+  @Override
+  public String toString() {
+    return level + " " + logger;
+  }
+}
@@ -0,0 +1,74 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * An immutable tuple of a {@link Level}, a message format, and its arguments, which is used to log a batch of events with
+ * {@link LoggerUtil#log(Logger,Iterable)} and {@link LoggerUtil#log(Logger,java.util.stream.Stream)}. As with SLF4J, if the last
+ * argument is a {@link Throwable} that is not consumed by the format, it is logged as the exception of the event.
+ */
+public final class LogEvent {
+  private final Level level;
+  private final String format;
+  private final Object[] args;
+
+  /**
+   * Creates a new {@link LogEvent} with the specified {@link Level}, message format, and arguments.
+   *
+   * @param level The logging {@link Level}.
+   * @param format The message format.
+   * @param args The arguments.
+   * @throws NullPointerException If {@code level} is null.
+   */
+  public LogEvent(final Level level, final String format, final Object ... args) {
+    this.level = Objects.requireNonNull(level, "level is null");
+    this.format = format;
+    this.args = args;
+  }
+
+  /**
+   * Returns the logging {@link Level}.
+   *
+   * @return The logging {@link Level}.
+   */
+  public Level getLevel() {
+    return level;
+  }
+
+  /**
+   * Returns the message format.
+   *
+   * @return The message format.
+   */
+  public String getFormat() {
+    return format;
+  }
+
+  /**
+   * Returns the arguments. The returned array is not copied, and must not be modified.
+   *
+   * @return The arguments.
+   */
+  public Object[] getArgs() {
+    return args;
+  }
+}
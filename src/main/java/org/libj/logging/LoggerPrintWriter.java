@@ -20,6 +20,12 @@ import java.io.PrintWriter;
 import java.io.Writer;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
 
 import org.slf4j.Logger;
 import org.slf4j.event.Level;
@@ -29,19 +35,214 @@ import org.slf4j.event.Level;
  * {@code write()}, and {@code append()} methods will result in a new log event only if the log message ends with a {@code '\n'}
  * character. If a message does not end with a {@code '\n'} character, it will be buffered until a {@code '\n'} character is
  * encountered as the last character of a later call.
+ * <p>
+ * Stack trace output, such as that produced by {@link Throwable#printStackTrace(PrintWriter)}, is aggregated into a single log
+ * event. A line starting with {@code "Exception in "}, or a {@link Throwable} passed to {@link #println(Object)}, starts a stack
+ * trace, and the subsequent continuation lines (i.e. {@code "\tat "}, {@code "Caused by: "}, {@code "Suppressed: "} and
+ * {@code "\t... N more"}), each written within the stack trace timeout of the previous line, are merged into the event that
+ * started the trace. The pending event is logged upon the first line that is not a continuation line, or once the stack trace
+ * timeout has elapsed since the last line of the trace. If the
+ * {@link Throwable} is available, it is logged as the event's throwable, and the continuation lines (which are rendered by the
+ * target {@link Logger} itself) are discarded.
+ * <p>
+ * The length of a buffered line can be limited with a {@code maxLineLength}, in which case the characters past the limit are
+ * handled according to the specified {@link Overflow}. After a line that has grown the buffer past 8192
+ * characters is logged, the capacity of the buffer is trimmed back, so that a single oversized line does not keep its memory alive.
+ * <p>
+ * With a {@code batchSize} greater than {@code 1}, lines are gathered into a batch that is logged as a single multi-line event once
+ * it holds {@code batchSize} lines, once {@code batchWindow} milliseconds have elapsed since its first line, or upon an explicit
+ * {@link #flush()} or {@link #close()}. This reduces the number of calls to the target {@link Logger} (and thus the number of
+ * appender lock acquisitions) for bursts of lines to one per batch.
  */
 public class LoggerPrintWriter extends PrintWriter {
+  /**
+   * The policy for the characters of a line that exceed the {@code maxLineLength} of a {@link LoggerPrintWriter}.
+   */
+  public enum Overflow {
+    /**
+     * The line is truncated to {@code maxLineLength} characters, and is logged with a marker stating the number of characters that
+     * were truncated. The truncated characters are discarded as they are written, and are never buffered.
+     */
+    TRUNCATE,
+    /**
+     * The line is split into events of {@code maxLineLength} characters, each prefixed with {@code "[#seq:part] "}, where {@code seq}
+     * is a sequence id shared by all events of the line, and {@code part} is the 1-based index of the event in the line.
+     */
+    SPLIT
+  }
+
+  /**
+   * The scheduler of the tasks that log a batch whose window has elapsed, and a stack trace whose timeout has elapsed.
+   */
+  interface Timer {
+    /**
+     * Schedules the specified task to run after the specified delay.
+     *
+     * @param task The task.
+     * @param delay The delay.
+     * @param unit The {@link TimeUnit} of {@code delay}.
+     * @return A {@link Future} by which the task can be cancelled.
+     */
+    Future<?> schedule(Runnable task, long delay, TimeUnit unit);
+  }
+
+  private static final Timer DEFAULT_TIMER = (final Runnable task, final long delay, final TimeUnit unit) -> getScheduler().schedule(task, delay, unit);
+  private static final long DEFAULT_STACK_TRACE_TIMEOUT = 100;
+  private static final int MAX_RETAINED_CAPACITY = 8192;
+  private static final AtomicLong sequence = new AtomicLong();
+  private static ScheduledExecutorService scheduler;
+
+  /**
+   * Returns the {@link ScheduledExecutorService} with a single daemon thread that flushes the batches whose window has elapsed, and
+   * the stack traces whose timeout has elapsed.
+   *
+   * @return The {@link ScheduledExecutorService} with a single daemon thread that flushes the batches whose window has elapsed, and
+   *         the stack traces whose timeout has elapsed.
+   */
+  private static synchronized ScheduledExecutorService getScheduler() {
+    if (scheduler == null) {
+      scheduler = Executors.newSingleThreadScheduledExecutor((final Runnable r) -> {
+        final Thread thread = new Thread(r, LoggerPrintWriter.class.getSimpleName() + "-batch");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+
+    return scheduler;
+  }
+
+  /**
+   * Tests whether the specified line starts a stack trace, as printed by the default uncaught exception handler.
+   *
+   * @param line The line to test.
+   * @return {@code true} if the specified line starts a stack trace, otherwise {@code false}.
+   */
+  private static boolean isStackTraceStart(final String line) {
+    return line.startsWith("Exception in ");
+  }
+
+  /**
+   * Tests whether the specified line is a continuation of a stack trace, as printed by
+   * {@link Throwable#printStackTrace(PrintWriter)}.
+   *
+   * @param line The line to test.
+   * @return {@code true} if the specified line is a continuation of a stack trace, otherwise {@code false}.
+   */
+  private static boolean isStackTraceContinuation(final String line) {
+    int i = 0;
+    for (final int i$ = line.length(); i < i$ && line.charAt(i) == '\t'; ++i); // [N]
+    return i > 0 && (line.startsWith("at ", i) || line.startsWith("... ", i)) || line.startsWith("Caused by: ", i) || line.startsWith("Suppressed: ", i);
+  }
+
   private final StringBuffer buffer = new StringBuffer();
   private final Logger logger;
   private final Level level;
+  private final long stackTraceTimeout;
+  private final int maxLineLength;
+  private final Overflow overflow;
+  private final int batchSize;
+  private final long batchWindow;
+  private final StringBuilder batch;
+  private final Timer timer;
+  private final LongSupplier clock;
+
+  private long truncated;
+  private long splitSequence;
+  private int splitPart;
+  private int batchCount;
+  private Future<?> batchFuture;
+  private long batchGeneration;
+  private Future<?> stackTraceFuture;
+  private long stackTraceGeneration;
+  private StringBuilder stackTrace;
+  private Throwable throwable;
+  private long stackTraceTime;
 
   /**
-   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger} and {@link Level}.
+   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger} and {@link Level}, and a stack trace timeout of
+   * 100ms.
    *
    * @param logger The {@link Logger} instance to which methods of this {@link LoggerPrintWriter} will be delegated.
    * @param level The {@link Level} that will be used for log statements from this {@link LoggerPrintWriter}.
+   * @throws NullPointerException If {@code logger} or {@code level} is null.
    */
   public LoggerPrintWriter(final Logger logger, final Level level) {
+    this(logger, level, DEFAULT_STACK_TRACE_TIMEOUT);
+  }
+
+  /**
+   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger}, {@link Level}, and stack trace timeout.
+   *
+   * @param logger The {@link Logger} instance to which methods of this {@link LoggerPrintWriter} will be delegated.
+   * @param level The {@link Level} that will be used for log statements from this {@link LoggerPrintWriter}.
+   * @param stackTraceTimeout The maximum time (in milliseconds) from the previous line of a stack trace within which a continuation
+   *          line is merged into the event that started the trace, and after which the pending event is logged, or {@code 0} to
+   *          disable stack trace aggregation.
+   * @throws IllegalArgumentException If {@code stackTraceTimeout} is negative.
+   * @throws NullPointerException If {@code logger} or {@code level} is null.
+   */
+  public LoggerPrintWriter(final Logger logger, final Level level, final long stackTraceTimeout) {
+    this(logger, level, stackTraceTimeout, 0, Overflow.TRUNCATE);
+  }
+
+  /**
+   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger}, {@link Level}, stack trace timeout, maximum line
+   * length, and {@link Overflow} policy.
+   *
+   * @param logger The {@link Logger} instance to which methods of this {@link LoggerPrintWriter} will be delegated.
+   * @param level The {@link Level} that will be used for log statements from this {@link LoggerPrintWriter}.
+   * @param stackTraceTimeout The maximum time (in milliseconds) from the previous line of a stack trace within which a continuation
+   *          line is merged into the event that started the trace, and after which the pending event is logged, or {@code 0} to
+   *          disable stack trace aggregation.
+   * @param maxLineLength The maximum number of characters (excluding the terminating {@code '\n'}) of a line, or {@code 0} for no
+   *          limit.
+   * @param overflow The {@link Overflow} policy for the characters of a line that exceed {@code maxLineLength}.
+   * @throws IllegalArgumentException If {@code stackTraceTimeout} or {@code maxLineLength} is negative.
+   * @throws NullPointerException If {@code logger}, {@code level} or {@code overflow} is null.
+   */
+  public LoggerPrintWriter(final Logger logger, final Level level, final long stackTraceTimeout, final int maxLineLength, final Overflow overflow) {
+    this(logger, level, stackTraceTimeout, maxLineLength, overflow, 1, 0);
+  }
+
+  /**
+   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger}, {@link Level}, stack trace timeout, maximum line
+   * length, {@link Overflow} policy, batch size, and batch window.
+   *
+   * @param logger The {@link Logger} instance to which methods of this {@link LoggerPrintWriter} will be delegated.
+   * @param level The {@link Level} that will be used for log statements from this {@link LoggerPrintWriter}.
+   * @param stackTraceTimeout The maximum time (in milliseconds) from the previous line of a stack trace within which a continuation
+   *          line is merged into the event that started the trace, and after which the pending event is logged, or {@code 0} to
+   *          disable stack trace aggregation.
+   * @param maxLineLength The maximum number of characters (excluding the terminating {@code '\n'}) of a line, or {@code 0} for no
+   *          limit.
+   * @param overflow The {@link Overflow} policy for the characters of a line that exceed {@code maxLineLength}.
+   * @param batchSize The maximum number of lines to gather into a single event, or {@code 1} to disable batching.
+   * @param batchWindow The maximum time (in milliseconds) from the first line of a batch after which the batch is logged, or
+   *          {@code 0} for the batch to be logged only when full, or upon {@link #flush()} or {@link #close()}.
+   * @throws IllegalArgumentException If {@code stackTraceTimeout}, {@code maxLineLength} or {@code batchWindow} is negative, or if
+   *           {@code batchSize} is less than {@code 1}.
+   * @throws NullPointerException If {@code logger}, {@code level} or {@code overflow} is null.
+   */
+  public LoggerPrintWriter(final Logger logger, final Level level, final long stackTraceTimeout, final int maxLineLength, final Overflow overflow, final int batchSize, final long batchWindow) {
+    this(logger, level, stackTraceTimeout, maxLineLength, overflow, batchSize, batchWindow, DEFAULT_TIMER, System::nanoTime);
+  }
+
+  /**
+   * Creates a new {@link LoggerPrintWriter} with the specified {@link Logger}, {@link Level}, stack trace timeout, maximum line
+   * length, {@link Overflow} policy, batch size, batch window, and the {@link Timer} and clock by which the batch window and stack
+   * trace timeout are measured.
+   *
+   * @param logger The {@link Logger} instance to which methods of this {@link LoggerPrintWriter} will be delegated.
+   * @param level The {@link Level} that will be used for log statements from this {@link LoggerPrintWriter}.
+   * @param stackTraceTimeout The stack trace timeout (in milliseconds), or {@code 0} to disable stack trace aggregation.
+   * @param maxLineLength The maximum line length, or {@code 0} for no limit.
+   * @param overflow The {@link Overflow} policy for the characters of a line that exceed {@code maxLineLength}.
+   * @param batchSize The maximum number of lines to gather into a single event, or {@code 1} to disable batching.
+   * @param batchWindow The batch window (in milliseconds), or {@code 0} for no window.
+   * @param timer The {@link Timer} by which the batch window and stack trace timeout tasks are scheduled.
+   * @param clock The clock (in nanoseconds) by which the stack trace timeout is measured.
+   */
+  LoggerPrintWriter(final Logger logger, final Level level, final long stackTraceTimeout, final int maxLineLength, final Overflow overflow, final int batchSize, final long batchWindow, final Timer timer, final LongSupplier clock) {
     super(new Writer() {
       @Override
       public void close() {
@@ -58,53 +259,331 @@ public class LoggerPrintWriter extends PrintWriter {
 
     this.logger = Objects.requireNonNull(logger);
     this.level = Objects.requireNonNull(level);
+    if (stackTraceTimeout < 0)
+      throw new IllegalArgumentException("stackTraceTimeout (" + stackTraceTimeout + ") must be non-negative");
+
+    this.stackTraceTimeout = TimeUnit.MILLISECONDS.toNanos(stackTraceTimeout);
+    if ((this.maxLineLength = maxLineLength) < 0)
+      throw new IllegalArgumentException("maxLineLength (" + maxLineLength + ") must be non-negative");
+
+    this.overflow = Objects.requireNonNull(overflow, "overflow is null");
+    if ((this.batchSize = batchSize) < 1)
+      throw new IllegalArgumentException("batchSize (" + batchSize + ") must be positive");
+
+    if ((this.batchWindow = batchWindow) < 0)
+      throw new IllegalArgumentException("batchWindow (" + batchWindow + ") must be non-negative");
+
+    this.batch = batchSize > 1 ? new StringBuilder() : null;
+    this.timer = timer;
+    this.clock = clock;
   }
 
-  @Override
-  public void flush() {
-    if (buffer.length() == 0 || buffer.charAt(buffer.length() - 1) != '\n')
+  /**
+   * Logs the specified message, or adds it to the current batch if batching is enabled.
+   *
+   * @param msg The message.
+   */
+  private void log(final String msg) {
+    if (batch == null) {
+      LoggerUtil.log(logger, level, msg);
       return;
+    }
 
-    LoggerUtil.log(logger, level, () -> buffer.toString());
+    batch.append(msg);
+    if (batch.charAt(batch.length() - 1) != '\n')
+      batch.append('\n');
+
+    if (++batchCount >= batchSize)
+      flushBatch();
+    else if (batchCount == 1 && batchWindow > 0)
+      scheduleBatch();
+  }
+
+  /**
+   * Schedules the current batch to be logged when the batch window elapses. The task captures the batch generation, so that a task
+   * that is already running (and thus cannot be cancelled) when its batch is flushed does not flush the next batch prematurely.
+   */
+  private void scheduleBatch() {
+    final long generation = batchGeneration;
+    batchFuture = timer.schedule(() -> {
+      synchronized (lock) {
+        if (generation == batchGeneration)
+          flushBatch();
+      }
+    }, batchWindow, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Logs the current batch as a single event, if any.
+   */
+  private void flushBatch() {
+    if (batchCount == 0)
+      return;
+
+    ++batchGeneration;
+    if (batchFuture != null) {
+      batchFuture.cancel(false);
+      batchFuture = null;
+    }
+
+    LoggerUtil.log(logger, level, batch.toString());
+    batch.setLength(0);
+    if (batch.capacity() > MAX_RETAINED_CAPACITY)
+      batch.trimToSize();
+
+    batchCount = 0;
+  }
+
+  /**
+   * Clears the buffer, and trims its capacity if it has grown past 8192 characters.
+   */
+  private void clearBuffer() {
     buffer.setLength(0);
+    trimBuffer();
+  }
+
+  /**
+   * Trims the capacity of the buffer if it has grown past 8192 characters.
+   */
+  private void trimBuffer() {
+    if (buffer.capacity() > MAX_RETAINED_CAPACITY)
+      buffer.trimToSize();
+  }
+
+  /**
+   * Applies the {@link Overflow} policy to the characters of the buffer that exceed {@code maxLineLength}.
+   *
+   * @param len The length of the buffer.
+   * @param eol Whether the buffer ends with a {@code '\n'} character.
+   * @return {@code true} if the buffer was fully logged by this method, otherwise {@code false}.
+   */
+  private boolean overflowBuffer(final int len, final boolean eol) {
+    final int end = eol ? len - 1 : len;
+    if (overflow == Overflow.TRUNCATE) {
+      if (end > maxLineLength) {
+        truncated += end - maxLineLength;
+        buffer.setLength(maxLineLength);
+        if (!eol) {
+          trimBuffer();
+          return false;
+        }
+      }
+      else if (!eol || truncated == 0) {
+        return false;
+      }
+      else {
+        buffer.setLength(end);
+      }
+
+      buffer.append("...[").append(truncated).append(" chars truncated]\n");
+      truncated = 0;
+      return false;
+    }
+
+    if (end <= maxLineLength && splitSequence == 0)
+      return false;
+
+    flushStackTrace();
+    if (splitSequence == 0)
+      splitSequence = sequence.incrementAndGet();
+
+    int off = 0;
+    for (; end - off > maxLineLength; off += maxLineLength) // [N]
+      log("[#" + splitSequence + ":" + ++splitPart + "] " + buffer.substring(off, off + maxLineLength));
+
+    if (!eol) {
+      buffer.delete(0, off);
+      trimBuffer();
+      return false;
+    }
+
+    log("[#" + splitSequence + ":" + ++splitPart + "] " + buffer.substring(off));
+    splitSequence = 0;
+    splitPart = 0;
+    clearBuffer();
+    return true;
+  }
+
+  /**
+   * Logs the content of the buffer if it ends with a {@code '\n'} character, merging stack trace continuation lines into the pending
+   * stack trace event.
+   */
+  private void flushBuffer() {
+    synchronized (lock) {
+      final int len = buffer.length();
+      if (len == 0)
+        return;
+
+      final boolean eol = buffer.charAt(len - 1) == '\n';
+      if (maxLineLength > 0) {
+        if (len > maxLineLength && !LoggerUtil.isLoggable(logger, level)) {
+          truncated = 0;
+          splitSequence = 0;
+          splitPart = 0;
+          clearBuffer();
+          return;
+        }
+
+        if (overflowBuffer(len, eol))
+          return;
+      }
+
+      if (!eol)
+        return;
+
+      if (!LoggerUtil.isLoggable(logger, level)) {
+        clearBuffer();
+        return;
+      }
+
+      final String line = buffer.toString();
+      clearBuffer();
+      if (stackTraceTimeout > 0) {
+        if (stackTrace != null || throwable != null) {
+          final long now = clock.getAsLong();
+          if (now - stackTraceTime < stackTraceTimeout && isStackTraceContinuation(line)) {
+            if (throwable == null)
+              stackTrace.append(line);
+
+            stackTraceTime = now;
+            return;
+          }
+
+          flushStackTrace();
+        }
+
+        if (isStackTraceStart(line)) {
+          stackTrace = new StringBuilder(line);
+          stackTraceTime = clock.getAsLong();
+          scheduleStackTrace(stackTraceTimeout);
+          return;
+        }
+      }
+
+      log(line);
+    }
+  }
+
+  /**
+   * Schedules the pending stack trace event to be logged after the specified delay, if the stack trace timeout has elapsed since
+   * its last line by then, or otherwise to be rescheduled.
+   *
+   * @param delay The delay, in nanoseconds.
+   */
+  private void scheduleStackTrace(final long delay) {
+    final long generation = stackTraceGeneration;
+    stackTraceFuture = timer.schedule(() -> {
+      synchronized (lock) {
+        if (generation != stackTraceGeneration)
+          return;
+
+        final long remaining = stackTraceTimeout - (clock.getAsLong() - stackTraceTime);
+        if (remaining > 0)
+          scheduleStackTrace(remaining);
+        else
+          flushStackTrace();
+      }
+    }, delay, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Logs the pending stack trace event, if any.
+   */
+  private void flushStackTrace() {
+    ++stackTraceGeneration;
+    if (stackTraceFuture != null) {
+      stackTraceFuture.cancel(false);
+      stackTraceFuture = null;
+    }
+
+    if (stackTrace != null) {
+      log(stackTrace.toString());
+      stackTrace = null;
+    }
+
+    throwable = null;
+  }
+
+  /**
+   * Logs the specified {@link Throwable} as the throwable of a new stack trace event, discarding the continuation lines of its stack
+   * trace that follow within the stack trace timeout.
+   *
+   * @param t The {@link Throwable}.
+   */
+  private void printThrowable(final Throwable t) {
+    synchronized (lock) {
+      flushStackTrace();
+      flushBatch();
+
+      LoggerUtil.log(logger, level, () -> t + "\n", t);
+      throwable = t;
+      stackTraceTime = clock.getAsLong();
+    }
+  }
+
+  /**
+   * Returns the specified object, or its rendering by {@link ArgumentRenderer#DEFAULT} if it is an array, {@link java.util.Collection},
+   * {@link java.util.Map} or {@link Class}, so as to bound the cost of its rendering.
+   *
+   * @param obj The object.
+   * @return The specified object, or its rendering by {@link ArgumentRenderer#DEFAULT} if it is an array,
+   *         {@link java.util.Collection}, {@link java.util.Map} or {@link Class}.
+   */
+  private static Object render(final Object obj) {
+    return ArgumentRenderer.DEFAULT.isStructured(obj) ? ArgumentRenderer.DEFAULT.toString(obj) : obj;
+  }
+
+  /**
+   * Logs the content of the buffer if it ends with a {@code '\n'} character, as well as the pending stack trace event and the
+   * current batch, if any.
+   */
+  @Override
+  public void flush() {
+    synchronized (lock) {
+      flushBuffer();
+      flushStackTrace();
+      flushBatch();
+    }
   }
 
   @Override
   public void close() {
-    if (buffer.length() > 0 && buffer.charAt(buffer.length() - 1) != '\n')
-      buffer.append('\n');
+    synchronized (lock) {
+      if (buffer.length() > 0 && buffer.charAt(buffer.length() - 1) != '\n')
+        buffer.append('\n');
 
-    flush();
+      flush();
+    }
   }
 
   @Override
   public void write(final int c) {
     buffer.append(c);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void write(final char[] buf, final int off, final int len) {
     buffer.append(buf, off, len);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void write(final char[] buf) {
     buffer.append(buf);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void write(final String s, final int off, final int len) {
     buffer.append(s, off, off + len);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void write(final String s) {
     buffer.append(s);
-    flush();
+    flushBuffer();
   }
 
   @Override
@@ -115,109 +594,114 @@ public class LoggerPrintWriter extends PrintWriter {
   @Override
   public void print(final char c) {
     buffer.append(c);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final int i) {
     buffer.append(i);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final long l) {
     buffer.append(l);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final float f) {
     buffer.append(f);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final double d) {
     buffer.append(d);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final char[] s) {
     buffer.append(s);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final String s) {
     buffer.append(s);
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void print(final Object obj) {
-    buffer.append(obj);
-    flush();
+    buffer.append(render(obj));
+    flushBuffer();
   }
 
   @Override
   public void println() {
     buffer.append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final boolean x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final char x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final int x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final long x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final float x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final double x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final char[] x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final String x) {
     buffer.append(x).append('\n');
-    flush();
+    flushBuffer();
   }
 
   @Override
   public void println(final Object x) {
-    buffer.append(x).append('\n');
-    flush();
+    if (x instanceof Throwable && stackTraceTimeout > 0 && buffer.length() == 0) {
+      printThrowable((Throwable)x);
+      return;
+    }
+
+    buffer.append(render(x)).append('\n');
+    flushBuffer();
   }
 
   @Override
@@ -232,36 +716,50 @@ public class LoggerPrintWriter extends PrintWriter {
 
   @Override
   public PrintWriter format(final String format, final Object ... args) {
-    buffer.append(String.format(format, args));
-    flush();
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      buffer.append(MessageFormatter.printf(builder, null, format, args));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+
+    flushBuffer();
     return this;
   }
 
   @Override
   public PrintWriter format(final Locale l, final String format, final Object ... args) {
-    buffer.append(String.format(l, format, args));
-    flush();
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      buffer.append(MessageFormatter.printf(builder, l, format, args));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+
+    flushBuffer();
     return this;
   }
 
   @Override
   public PrintWriter append(final CharSequence csq) {
     buffer.append(csq);
-    flush();
+    flushBuffer();
     return this;
   }
 
   @Override
   public PrintWriter append(final CharSequence csq, final int start, final int end) {
     buffer.append(csq, start, end);
-    flush();
+    flushBuffer();
     return this;
   }
 
   @Override
   public PrintWriter append(final char c) {
     buffer.append(c);
-    flush();
+    flushBuffer();
     return this;
   }
 }
\ No newline at end of file
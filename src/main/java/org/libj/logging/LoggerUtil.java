@@ -18,20 +18,39 @@ package org.libj.logging;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
-import java.util.Arrays;
-import java.util.Enumeration;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.Marker;
 import org.slf4j.event.Level;
+import org.slf4j.spi.LocationAwareLogger;
+import org.xml.sax.Attributes;
 
 import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.event.EndEvent;
+import ch.qos.logback.core.joran.event.SaxEvent;
+import ch.qos.logback.core.joran.event.SaxEventRecorder;
+import ch.qos.logback.core.joran.event.StartEvent;
 import ch.qos.logback.core.joran.spi.JoranException;
+import ch.qos.logback.core.status.WarnStatus;
+import ch.qos.logback.core.util.OptionHelper;
 
 /**
  * Utility functions for operations pertaining to {@link Logger}.
@@ -58,6 +77,92 @@ public final class LoggerUtil {
     T getThrows() throws E;
   }
 
+  /**
+   * A trie of logger name segments (delimited by {@code '.'}) to {@link ch.qos.logback.classic.Level}s, which resolves the most
+   * specific level of a profile for a logger name in a single walk of the name.
+   */
+  private static final class LevelTrie {
+    private HashMap<String,LevelTrie> children;
+    private ch.qos.logback.classic.Level level;
+    private boolean hasLevel;
+
+    /**
+     * Creates a new {@link LevelTrie} for the specified profile of logger names to {@link Level}s.
+     *
+     * @param levels The profile of logger names to {@link Level}s.
+     * @throws NullPointerException If {@code levels} or a logger name in {@code levels} is null.
+     */
+    private LevelTrie(final Map<String,Level> levels) {
+      for (final Map.Entry<String,Level> entry : levels.entrySet()) { // [S]
+        final Level level = entry.getValue();
+        put(entry.getKey(), level == null ? null : logbackLevel[level.ordinal()]);
+      }
+    }
+
+    private LevelTrie() {
+    }
+
+    /**
+     * Puts the specified {@link ch.qos.logback.classic.Level} for the specified logger name into this {@link LevelTrie}.
+     *
+     * @param name The logger name.
+     * @param level The {@link ch.qos.logback.classic.Level}, or {@code null} to inherit the level from the parent logger.
+     * @throws NullPointerException If {@code name} is null.
+     */
+    private void put(final String name, final ch.qos.logback.classic.Level level) {
+      LevelTrie node = this;
+      for (int start = 0, end, i$ = name.length(); start < i$; start = end + 1) { // [N]
+        if ((end = name.indexOf('.', start)) == -1)
+          end = i$;
+
+        if (node.children == null)
+          node.children = new HashMap<>();
+
+        final String segment = name.substring(start, end);
+        LevelTrie child = node.children.get(segment);
+        if (child == null)
+          node.children.put(segment, child = new LevelTrie());
+
+        node = child;
+      }
+
+      node.level = level;
+      node.hasLevel = true;
+    }
+
+    /**
+     * Returns the node of the most specific logger name in this {@link LevelTrie} that is equal to, or is an ancestor of the specified
+     * logger name.
+     *
+     * @param name The logger name.
+     * @return The node of the most specific logger name in this {@link LevelTrie} that is equal to, or is an ancestor of the specified
+     *         logger name, or {@code null} if no such logger name exists.
+     */
+    private LevelTrie match(final String name) {
+      LevelTrie match = hasLevel ? this : null;
+      LevelTrie node = this;
+      for (int start = 0, end, i$ = name.length(); start < i$ && node.children != null; start = end + 1) { // [N]
+        if ((end = name.indexOf('.', start)) == -1)
+          end = i$;
+
+        if ((node = node.children.get(name.substring(start, end))) == null)
+          break;
+
+        if (node.hasLevel)
+          match = node;
+      }
+
+      return match;
+    }
+  }
+
+  private static LevelTrie profile;
+
+  private static final String CONFIG_KEY = LoggerUtil.class.getName() + ".config";
+  private static final HashMap<String,List<SaxEvent>> configEvents = new HashMap<>();
+  private static final HashMap<Path,Thread> configWatchers = new HashMap<>();
+  private static List<URL> configUrls;
+
   /**
    * An array of {@link ch.qos.logback.classic.Level} values corresponding to the ordinal of the {@link org.slf4j.event.Level}
    * equivalents.
@@ -65,7 +170,8 @@ public final class LoggerUtil {
   static final ch.qos.logback.classic.Level[] logbackLevel = {ch.qos.logback.classic.Level.ERROR, ch.qos.logback.classic.Level.WARN, ch.qos.logback.classic.Level.INFO, ch.qos.logback.classic.Level.DEBUG, ch.qos.logback.classic.Level.TRACE};
 
   /**
-   * Programmatically sets the {@link Level} of the specified {@link Logger}.
+   * Programmatically sets the {@link Level} of the specified {@link Logger}, and re-evaluates the enable checks of all
+   * {@link LevelSwitch} instances.
    *
    * @implSpec This method is only applicable to the <a href="https://logback.qos.ch/">LogBack</a> implementation of {@link Logger}
    *           instances.
@@ -78,16 +184,121 @@ public final class LoggerUtil {
     final String name = logger.getName();
     final int nameLen = name.length();
     final ch.qos.logback.classic.Level lev = logbackLevel[level.ordinal()];
-    ((ch.qos.logback.classic.Logger)logger).setLevel(lev);
+    LevelSwitch.suspend();
+    try {
+      ((ch.qos.logback.classic.Logger)logger).setLevel(lev);
+      final LoggerContext loggerContext = (LoggerContext)LoggerFactory.getILoggerFactory();
+      final List<ch.qos.logback.classic.Logger> loggers = loggerContext.getLoggerList();
+      for (final ch.qos.logback.classic.Logger log : loggers) {
+        final String n = log.getName();
+        final int len = n.length();
+        if (nameLen == 0 || nameLen == len && name.equals(n))
+          log.setLevel(lev);
+        else if (nameLen < len && n.startsWith(name) && n.charAt(nameLen) == '.')
+          log.setLevel(lev);
+      }
+    }
+    finally {
+      LevelSwitch.resume();
+    }
+  }
+
+  /**
+   * Programmatically sets the {@link Level}s of the loggers in the specified profile of logger names to {@link Level}s. Each logger
+   * (existing or not) named in {@code levels}, and each existing descendant thereof, is set to the {@link Level} of its most specific
+   * ancestor (or self) in {@code levels}. An empty logger name in {@code levels} matches all loggers, and a null {@link Level}
+   * resets the level of the matching loggers to be inherited from their parent.
+   * <p>
+   * The profile is applied in a single pass over the loggers of the {@link LoggerContext}, whereby the level of each logger is
+   * resolved with a trie of the logger names in {@code levels}, and is set only if it differs from the current level. The enable
+   * checks of all {@link LevelSwitch} instances are re-evaluated once after the profile is applied.
+   *
+   * @implSpec This method is only applicable to the <a href="https://logback.qos.ch/">LogBack</a> implementation of {@link Logger}
+   *           instances.
+   * @param levels The profile of logger names to {@link Level}s.
+   * @throws ClassCastException If the {@link org.slf4j.ILoggerFactory} is not an instance of {@link LoggerContext}.
+   * @throws IllegalArgumentException If the {@link Level} of the root logger is null.
+   * @throws NullPointerException If {@code levels} or a logger name in {@code levels} is null.
+   */
+  public static void setLevels(final Map<String,Level> levels) {
+    synchronized (LevelTrie.class) {
+      applyLevels(new LevelTrie(levels), null);
+    }
+  }
+
+  /**
+   * Atomically replaces the profile of logger names to {@link Level}s that was previously set with this method, with the specified
+   * profile. The profile is applied as with {@link #setLevels(Map)}, except that the existing loggers that matched the previous
+   * profile but do not match the specified profile are reset to inherit their level from their parent. Calls to this method, and to
+   * {@link #setLevels(Map)}, are serialized.
+   *
+   * @implSpec This method is only applicable to the <a href="https://logback.qos.ch/">LogBack</a> implementation of {@link Logger}
+   *           instances.
+   * @param levels The profile of logger names to {@link Level}s.
+   * @throws ClassCastException If the {@link org.slf4j.ILoggerFactory} is not an instance of {@link LoggerContext}.
+   * @throws IllegalArgumentException If the {@link Level} of the root logger is null.
+   * @throws NullPointerException If {@code levels} or a logger name in {@code levels} is null.
+   */
+  public static void swapLevels(final Map<String,Level> levels) {
+    synchronized (LevelTrie.class) {
+      final LevelTrie trie = new LevelTrie(levels);
+      applyLevels(trie, profile);
+      profile = trie;
+    }
+  }
+
+  /**
+   * Applies the specified {@link LevelTrie} to the loggers of the {@link LoggerContext}.
+   *
+   * @param trie The {@link LevelTrie} to apply.
+   * @param previous The previously applied {@link LevelTrie}, whose matching loggers that do not match {@code trie} are to be reset
+   *          to inherit their level from their parent, or {@code null}.
+   * @throws IllegalArgumentException If the {@link Level} of the root logger is null.
+   */
+  private static void applyLevels(final LevelTrie trie, final LevelTrie previous) {
     final LoggerContext loggerContext = (LoggerContext)LoggerFactory.getILoggerFactory();
-    final List<ch.qos.logback.classic.Logger> loggers = loggerContext.getLoggerList();
-    for (final ch.qos.logback.classic.Logger log : loggers) {
-      final String n = log.getName();
-      final int len = n.length();
-      if (nameLen == 0 || nameLen == len && name.equals(n))
-        log.setLevel(lev);
-      else if (nameLen < len && n.startsWith(name) && n.charAt(nameLen) == '.')
-        log.setLevel(lev);
+    LevelSwitch.suspend();
+    try {
+      final ch.qos.logback.classic.Logger root = loggerContext.getLogger(Logger.ROOT_LOGGER_NAME);
+      final LevelTrie rootMatch = trie.match(Logger.ROOT_LOGGER_NAME);
+      if (rootMatch != null && rootMatch.level == null)
+        throw new IllegalArgumentException("Level of root logger cannot be null");
+
+      if (trie.children != null)
+        createLoggers(loggerContext, trie, null);
+
+      for (final ch.qos.logback.classic.Logger log : loggerContext.getLoggerList()) { // [L]
+        final LevelTrie match = trie.match(log.getName());
+        if (match != null) {
+          if (log.getLevel() != match.level)
+            log.setLevel(match.level);
+        }
+        else if (previous != null && log != root && log.getLevel() != null && previous.match(log.getName()) != null) {
+          log.setLevel(null);
+        }
+      }
+    }
+    finally {
+      LevelSwitch.resume();
+    }
+  }
+
+  /**
+   * Creates the loggers named by the nodes with a level in the specified {@link LevelTrie}.
+   *
+   * @param loggerContext The {@link LoggerContext}.
+   * @param node The {@link LevelTrie} node.
+   * @param name The logger name of {@code node}, or {@code null} if {@code node} is the root of the trie.
+   */
+  private static void createLoggers(final LoggerContext loggerContext, final LevelTrie node, final String name) {
+    for (final Map.Entry<String,LevelTrie> entry : node.children.entrySet()) { // [S]
+      final String childName = name == null ? entry.getKey() : name + "." + entry.getKey();
+      final LevelTrie child = entry.getValue();
+      if (child.hasLevel)
+        loggerContext.getLogger(childName);
+
+      if (child.children != null)
+        createLoggers(loggerContext, child, childName);
     }
   }
 
@@ -99,7 +310,21 @@ public final class LoggerUtil {
    * @throws NullPointerException If {@code cls} is null.
    */
   public static boolean loadConfigExcludeLocation(final Class<?> cls) {
-    return loadConfigViaLocation(cls, true);
+    return loadConfigViaLocation(cls, true, false);
+  }
+
+  /**
+   * Find and load a {@code "logback.xml"} file that IS NOT located in the root location matching that of the provided {@code cls},
+   * and optionally watch the file for changes to the levels of its loggers.
+   *
+   * @param cls The {@link Class} of which to find and load a {@code "logback.xml"} file NOT belonging to the same root location.
+   * @param watchLevels Whether to watch the {@code "logback.xml"} file (if it is a {@code file:} resource) for changes, upon which
+   *          the levels of its loggers are applied without a reset of the {@link LoggerContext}.
+   * @return {@code true} if a {@code "logback.xml"} file was found, otherwise {@code false}.
+   * @throws NullPointerException If {@code cls} is null.
+   */
+  public static boolean loadConfigExcludeLocation(final Class<?> cls, final boolean watchLevels) {
+    return loadConfigViaLocation(cls, true, watchLevels);
   }
 
   /**
@@ -110,28 +335,79 @@ public final class LoggerUtil {
    * @throws NullPointerException If {@code cls} is null.
    */
   public static boolean loadConfigIncludeLocation(final Class<?> cls) {
-    return loadConfigViaLocation(cls, false);
+    return loadConfigViaLocation(cls, false, false);
+  }
+
+  /**
+   * Find and load a {@code "logback.xml"} file that IS located in the root location matching that of the provided {@code cls}, and
+   * optionally watch the file for changes to the levels of its loggers.
+   *
+   * @param cls The {@link Class} of which to find and load a {@code "logback.xml"} file belonging to the same root location.
+   * @param watchLevels Whether to watch the {@code "logback.xml"} file (if it is a {@code file:} resource) for changes, upon which
+   *          the levels of its loggers are applied without a reset of the {@link LoggerContext}.
+   * @return {@code true} if a {@code "logback.xml"} file was found, otherwise {@code false}.
+   * @throws NullPointerException If {@code cls} is null.
+   */
+  public static boolean loadConfigIncludeLocation(final Class<?> cls, final boolean watchLevels) {
+    return loadConfigViaLocation(cls, false, watchLevels);
+  }
+
+  /**
+   * Returns the {@code "logback.xml"} resources of the system {@link ClassLoader}, which are scanned once and cached.
+   *
+   * @return The {@code "logback.xml"} resources of the system {@link ClassLoader}.
+   * @throws IOException If an I/O error has occurred.
+   */
+  static synchronized List<URL> getConfigUrls() throws IOException {
+    return configUrls != null ? configUrls : (configUrls = Collections.list(ClassLoader.getSystemClassLoader().getResources("logback.xml")));
   }
 
-  private static boolean loadConfigViaLocation(final Class<?> cls, final boolean exclude) {
+  /**
+   * Records the SAX events of the specified {@code "logback.xml"} resource.
+   *
+   * @param loggerContext The {@link LoggerContext}.
+   * @param url The {@link URL} of the {@code "logback.xml"} resource.
+   * @return The SAX events of the specified {@code "logback.xml"} resource.
+   * @throws IOException If an I/O error has occurred.
+   * @throws JoranException If the {@code "logback.xml"} resource could not be parsed.
+   */
+  private static List<SaxEvent> recordEvents(final LoggerContext loggerContext, final URL url) throws IOException, JoranException {
+    final SaxEventRecorder recorder = new SaxEventRecorder(loggerContext);
+    try (final InputStream in = url.openStream()) {
+      recorder.recordEvents(in);
+    }
+
+    return recorder.getSaxEventList();
+  }
+
+  private static boolean loadConfigViaLocation(final Class<?> cls, final boolean exclude, final boolean watchLevels) {
     final String classResource = cls.getName().replace('.', '/').concat(".class");
-    final ClassLoader classLoader = ClassLoader.getSystemClassLoader();
-    final URL classResourceUrl = classLoader.getResource(classResource);
+    final URL classResourceUrl = ClassLoader.getSystemClassLoader().getResource(classResource);
     if (classResourceUrl != null) {
       try {
         final String classResourcePath = classResourceUrl.toString();
-        final Enumeration<URL> e = classLoader.getResources("logback.xml");
-        while (e.hasMoreElements()) {
-          final URL url = e.nextElement();
+        for (final URL url : getConfigUrls()) { // [L]
           if (url.toString().regionMatches(0, classResourcePath, 0, classResourcePath.length() - classResource.length()) != exclude) {
+            final String location = url.toString();
             final LoggerContext loggerContext = (LoggerContext)LoggerFactory.getILoggerFactory();
-            loggerContext.reset();
-            final JoranConfigurator configurator = new JoranConfigurator();
-            configurator.setContext(loggerContext);
-            try (final InputStream in = url.openStream()) {
-              configurator.doConfigure(in);
-              return true;
+            synchronized (configEvents) {
+              if (!location.equals(loggerContext.getObject(CONFIG_KEY))) {
+                List<SaxEvent> events = configEvents.get(location);
+                if (events == null)
+                  configEvents.put(location, events = recordEvents(loggerContext, url));
+
+                loggerContext.reset();
+                final JoranConfigurator configurator = new JoranConfigurator();
+                configurator.setContext(loggerContext);
+                configurator.doConfigure(events);
+                loggerContext.putObject(CONFIG_KEY, location);
+              }
             }
+
+            if (watchLevels)
+              watchLevels(url);
+
+            return true;
           }
         }
       }
@@ -143,6 +419,229 @@ public final class LoggerUtil {
     return false;
   }
 
+  /**
+   * Returns a {@link LevelTrie} of the logger names to {@link ch.qos.logback.classic.Level}s declared by the {@code <logger>} and
+   * {@code <root>} elements of the specified SAX events of a {@code "logback.xml"} resource.
+   *
+   * @param loggerContext The {@link LoggerContext} with which variables in the names and levels are substituted.
+   * @param events The SAX events of a {@code "logback.xml"} resource.
+   * @return The {@link LevelTrie} of logger names to {@link ch.qos.logback.classic.Level}s declared by the {@code <logger>} and
+   *         {@code <root>} elements of the specified SAX events.
+   */
+  private static LevelTrie getLevels(final LoggerContext loggerContext, final List<SaxEvent> events) {
+    final LevelTrie trie = new LevelTrie();
+    String name = null;
+    for (final SaxEvent event : events) { // [L]
+      final String tag = event.localName != null && event.localName.length() > 0 ? event.localName : event.qName;
+      final boolean isLogger = "logger".equalsIgnoreCase(tag);
+      final boolean isRoot = !isLogger && "root".equalsIgnoreCase(tag);
+      if (event instanceof EndEvent) {
+        if (isLogger || isRoot)
+          name = null;
+      }
+      else if (event instanceof StartEvent) {
+        final Attributes attributes = ((StartEvent)event).attributes;
+        final String level;
+        if (isLogger || isRoot) {
+          name = isRoot ? Logger.ROOT_LOGGER_NAME : attributes.getValue("name");
+          if (name != null)
+            name = OptionHelper.substVars(name, loggerContext);
+
+          level = attributes.getValue("level");
+        }
+        else {
+          level = name != null && "level".equalsIgnoreCase(tag) ? attributes.getValue("value") : null;
+        }
+
+        if (name != null && level != null) {
+          final String value = OptionHelper.substVars(level, loggerContext);
+          if ("INHERITED".equalsIgnoreCase(value) || "NULL".equalsIgnoreCase(value))
+            trie.put(name, null);
+          else if (ch.qos.logback.classic.Level.toLevel(value, null) != null)
+            trie.put(name, ch.qos.logback.classic.Level.toLevel(value));
+        }
+      }
+    }
+
+    return trie;
+  }
+
+  /**
+   * Starts a daemon thread that watches the specified {@code "logback.xml"} resource (if it is a {@code file:} resource) for changes,
+   * upon which the levels of the loggers declared therein are applied without a reset of the {@link LoggerContext}. The loggers
+   * that are no longer declared in the resource (as compared to the levels last loaded therefrom) are reset to inherit their level
+   * from their parent. The thread is stopped with {@link #unwatchLevels()}.
+   *
+   * @param url The {@link URL} of the {@code "logback.xml"} resource.
+   */
+  static void watchLevels(final URL url) {
+    if (!"file".equals(url.getProtocol()))
+      return;
+
+    final Path path;
+    try {
+      path = Paths.get(url.toURI());
+    }
+    catch (final URISyntaxException e) {
+      return;
+    }
+
+    synchronized (configWatchers) {
+      if (configWatchers.containsKey(path))
+        return;
+
+      final LoggerContext loggerContext = (LoggerContext)LoggerFactory.getILoggerFactory();
+      final WatchService watchService;
+      try {
+        watchService = path.getFileSystem().newWatchService();
+        try {
+          path.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        }
+        catch (final IOException | RuntimeException e) {
+          watchService.close();
+          throw e;
+        }
+      }
+      catch (final IOException e) {
+        loggerContext.getStatusManager().add(new WarnStatus("Unable to watch " + url, LoggerUtil.class, e));
+        return;
+      }
+
+      LevelTrie initial;
+      try {
+        List<SaxEvent> events;
+        synchronized (configEvents) {
+          events = configEvents.get(url.toString());
+        }
+
+        initial = getLevels(loggerContext, events != null ? events : recordEvents(loggerContext, url));
+      }
+      catch (final IOException | JoranException | RuntimeException e) {
+        loggerContext.getStatusManager().add(new WarnStatus("Unable to load levels from " + url, LoggerUtil.class, e));
+        initial = null;
+      }
+
+      final LevelTrie loaded = initial;
+      final Thread thread = new Thread(() -> {
+        try {
+          LevelTrie previous = loaded;
+          while (true) {
+            final WatchKey key = watchService.take();
+            boolean changed = false;
+            for (final WatchEvent<?> event : key.pollEvents()) // [L]
+              changed |= path.getFileName().equals(event.context());
+
+            key.reset();
+            if (!changed)
+              continue;
+
+            try {
+              final List<SaxEvent> events = recordEvents(loggerContext, url);
+              synchronized (configEvents) {
+                configEvents.put(url.toString(), events);
+              }
+
+              final LevelTrie trie = getLevels(loggerContext, events);
+              synchronized (LevelTrie.class) {
+                applyLevels(trie, previous);
+              }
+
+              previous = trie;
+            }
+            catch (final IOException | JoranException | RuntimeException e) {
+              loggerContext.getStatusManager().add(new WarnStatus("Unable to reload levels from " + url, LoggerUtil.class, e));
+            }
+          }
+        }
+        catch (final InterruptedException e) {
+        }
+        finally {
+          try {
+            watchService.close();
+          }
+          catch (final IOException e) {
+          }
+
+          synchronized (configWatchers) {
+            configWatchers.remove(path);
+          }
+        }
+      }, LoggerUtil.class.getSimpleName() + "-watch");
+      thread.setDaemon(true);
+      configWatchers.put(path, thread);
+      thread.start();
+    }
+  }
+
+  /**
+   * Stops the threads that watch {@code "logback.xml"} files for changes to the levels of their loggers, which were started with
+   * {@link #loadConfigExcludeLocation(Class,boolean)} or {@link #loadConfigIncludeLocation(Class,boolean)}, and waits for the
+   * threads to terminate.
+   *
+   * @throws InterruptedException If the current thread is interrupted while waiting for the threads to terminate.
+   */
+  public static void unwatchLevels() throws InterruptedException {
+    final Thread[] threads;
+    synchronized (configWatchers) {
+      threads = configWatchers.values().toArray(new Thread[configWatchers.size()]);
+    }
+
+    for (final Thread thread : threads) // [A]
+      thread.interrupt();
+
+    for (final Thread thread : threads) // [A]
+      thread.join();
+  }
+
+  /**
+   * A log argument whose {@link #toString()} is computed from a {@link Supplier} upon first invocation, and is memoized thereafter.
+   */
+  private static final class Lazy {
+    private final Supplier<?> supplier;
+    private volatile String string;
+
+    private Lazy(final Supplier<?> supplier) {
+      this.supplier = supplier;
+    }
+
+    @Override
+    public String toString() {
+      String string = this.string;
+      if (string == null) {
+        synchronized (this) {
+          if ((string = this.string) == null) {
+            final Object value = supplier.get();
+            this.string = string = ArgumentRenderer.DEFAULT.isStructured(value) ? ArgumentRenderer.DEFAULT.toString(value) : String.valueOf(value);
+          }
+        }
+      }
+
+      return string;
+    }
+  }
+
+  /**
+   * Returns a log argument whose {@link Object#toString()} is computed from the specified {@link Supplier} only when the message is
+   * formatted, and is memoized thereafter. The returned argument can be passed to any log method, whereby the (possibly expensive)
+   * {@link Supplier} is invoked only if the message is actually formatted, and at most once.
+   *
+   * @param supplier The {@link Supplier} of the argument.
+   * @return A log argument whose {@link Object#toString()} is computed from the specified {@link Supplier} only when the message is
+   *         formatted.
+   * @throws NullPointerException If {@code supplier} is null.
+   */
+  public static Object lazy(final Supplier<?> supplier) {
+    return new Lazy(Objects.requireNonNull(supplier, "supplier is null"));
+  }
+
+  private static Object[] lazy(final Supplier<?>[] suppliers) {
+    final Object[] args = new Object[suppliers.length];
+    for (int i = 0, i$ = suppliers.length; i < i$; ++i) // [A]
+      args[i] = lazy(suppliers[i]);
+
+    return args;
+  }
+
   /**
    * Check if a message of the specified {@code level} would be logged by {@code logger}.
    *
@@ -303,6 +802,64 @@ public final class LoggerUtil {
       throw new UnsupportedOperationException("Unsupported level: " + level);
   }
 
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the value of the {@code arg}
+   * supplier.
+   * <p>
+   * The {@code arg} supplier is not invoked if the logger is disabled for the {@code level}. Otherwise, it is passed to the logger
+   * as a {@link #lazy(Supplier) lazy} argument, which is invoked only if (and when) the message is formatted, such as upon the flush
+   * of a deferred event.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arg The supplier of the argument.
+   * @throws NullPointerException If {@code logger} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final String format, final Supplier<?> arg) {
+    if (isLoggable(logger, level))
+      log(logger, level, format, lazy(arg));
+  }
+
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the values of the {@code arg1}
+   * and {@code arg2} suppliers.
+   * <p>
+   * The suppliers are not invoked if the logger is disabled for the {@code level}. Otherwise, they are passed to the logger as
+   * {@link #lazy(Supplier) lazy} arguments, which are invoked only if (and when) the message is formatted, such as upon the flush of
+   * a deferred event.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arg1 The supplier of the first argument.
+   * @param arg2 The supplier of the second argument.
+   * @throws NullPointerException If {@code logger} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final String format, final Supplier<?> arg1, final Supplier<?> arg2) {
+    if (isLoggable(logger, level))
+      log(logger, level, format, lazy(arg1), lazy(arg2));
+  }
+
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the values of the
+   * {@code arguments} suppliers.
+   * <p>
+   * The suppliers are not invoked if the logger is disabled for the {@code level}. Otherwise, they are passed to the logger as
+   * {@link #lazy(Supplier) lazy} arguments, which are invoked only if (and when) the message is formatted, such as upon the flush of
+   * a deferred event.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arguments The suppliers of 3 or more arguments.
+   * @throws NullPointerException If {@code logger} or {@code arguments} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final String format, final Supplier<?> ... arguments) {
+    if (isLoggable(logger, level))
+      log(logger, level, format, lazy(arguments));
+  }
+
   /**
    * Log a {@code msg} message with {@code logger} at {@code level}.
    *
@@ -512,6 +1069,64 @@ public final class LoggerUtil {
       throw new UnsupportedOperationException("Unsupported level: " + level);
   }
 
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the value of the {@code arg}
+   * supplier, with the specific {@code marker}.
+   * <p>
+   * This method is similar to {@link #logLazy(Logger,Level,String,Supplier)} method except that the marker data is also taken into
+   * consideration.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arg The supplier of the argument.
+   * @throws NullPointerException If {@code logger} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final Marker marker, final String format, final Supplier<?> arg) {
+    if (isLoggable(logger, level, marker))
+      log(logger, level, marker, format, lazy(arg));
+  }
+
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the values of the {@code arg1}
+   * and {@code arg2} suppliers, with the specific {@code marker}.
+   * <p>
+   * This method is similar to {@link #logLazy(Logger,Level,String,Supplier,Supplier)} method except that the marker data is also taken
+   * into consideration.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arg1 The supplier of the first argument.
+   * @param arg2 The supplier of the second argument.
+   * @throws NullPointerException If {@code logger} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final Marker marker, final String format, final Supplier<?> arg1, final Supplier<?> arg2) {
+    if (isLoggable(logger, level, marker))
+      log(logger, level, marker, format, lazy(arg1), lazy(arg2));
+  }
+
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and the values of the
+   * {@code arguments} suppliers, with the specific {@code marker}.
+   * <p>
+   * This method is similar to {@link #logLazy(Logger,Level,String,Supplier...)} method except that the marker data is also taken into
+   * consideration.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param marker The marker specific to this log statement.
+   * @param format The format string.
+   * @param arguments The suppliers of 3 or more arguments.
+   * @throws NullPointerException If {@code logger} or {@code arguments} is null.
+   */
+  public static void logLazy(final Logger logger, final Level level, final Marker marker, final String format, final Supplier<?> ... arguments) {
+    if (isLoggable(logger, level, marker))
+      log(logger, level, marker, format, lazy(arguments));
+  }
+
   /**
    * Log a {@code msg} message with {@code logger} at {@code level}.
    *
@@ -574,31 +1189,158 @@ public final class LoggerUtil {
       throw new UnsupportedOperationException("Unsupported level: " + level);
   }
 
-  private static int convert(final StringBuilder builder, final CharSequence str, int a, final Object[] args) {
-    for (int i = 0, i$ = str.length(); i < i$;) { // [N]
-      final char ch = str.charAt(i++);
-      if (ch == '%') {
-        if (i < str.length() && str.charAt(i) == '?') {
-          ++i;
-          final Object arg = args[a++];
-          if (arg != null) {
-            final Class<?> cls = arg.getClass();
-            builder.append(cls.isAnonymousClass() ? cls.getName() : cls.getSimpleName()).append("@%h");
-          }
-          else {
-            builder.append("%s");
-          }
+  /**
+   * Log a {@code msg} message with {@code logger} at {@code level}, if permitted by the specified {@link RateLimit}.
+   * <p>
+   * The {@link RateLimit} is consulted only if the logger is enabled for the {@code level}. A suppressed statement does not allocate.
+   *
+   * @param limit The {@link RateLimit}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param msg The message string to be logged.
+   * @throws NullPointerException If {@code limit} or {@code logger} is null.
+   */
+  public static void log(final RateLimit limit, final Logger logger, final Level level, final String msg) {
+    if (isLoggable(logger, level) && limit.tryAcquire())
+      log(logger, level, limit.report(msg));
+  }
 
-          continue;
-        }
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and {@code arg}, if permitted by the
+   * specified {@link RateLimit}.
+   * <p>
+   * The {@link RateLimit} is consulted only if the logger is enabled for the {@code level}. A suppressed statement does not allocate.
+   *
+   * @param limit The {@link RateLimit}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arg The argument.
+   * @throws NullPointerException If {@code limit} or {@code logger} is null.
+   */
+  public static void log(final RateLimit limit, final Logger logger, final Level level, final String format, final Object arg) {
+    if (isLoggable(logger, level) && limit.tryAcquire())
+      log(logger, level, limit.report(format), arg);
+  }
 
-        ++a;
-      }
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and arguments, if permitted by the
+   * specified {@link RateLimit}.
+   * <p>
+   * The {@link RateLimit} is consulted only if the logger is enabled for the {@code level}. A suppressed statement does not allocate.
+   *
+   * @param limit The {@link RateLimit}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arg1 The first argument.
+   * @param arg2 The second argument.
+   * @throws NullPointerException If {@code limit} or {@code logger} is null.
+   */
+  public static void log(final RateLimit limit, final Logger logger, final Level level, final String format, final Object arg1, final Object arg2) {
+    if (isLoggable(logger, level) && limit.tryAcquire())
+      log(logger, level, limit.report(format), arg1, arg2);
+  }
 
-      builder.append(ch);
-    }
+  /**
+   * Log a message with {@code logger} at {@code level} according to the specified {@code format} and arguments, if permitted by the
+   * specified {@link RateLimit}.
+   * <p>
+   * The {@link RateLimit} is consulted only if the logger is enabled for the {@code level}.
+   *
+   * @param limit The {@link RateLimit}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param format The format string.
+   * @param arguments A list of 3 or more arguments.
+   * @throws NullPointerException If {@code limit} or {@code logger} is null.
+   */
+  public static void log(final RateLimit limit, final Logger logger, final Level level, final String format, final Object ... arguments) {
+    if (isLoggable(logger, level) && limit.tryAcquire())
+      log(logger, level, limit.report(format), arguments);
+  }
 
-    return a;
+  /**
+   * Log an exception (throwable) with {@code logger} at {@code level} with an accompanying message, if permitted by the specified
+   * {@link RateLimit}.
+   * <p>
+   * The {@link RateLimit} is consulted only if the logger is enabled for the {@code level}. A suppressed statement does not allocate.
+   *
+   * @param limit The {@link RateLimit}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param msg The message accompanying the exception.
+   * @param t The exception (throwable) to log.
+   * @throws NullPointerException If {@code limit} or {@code logger} is null.
+   */
+  public static void log(final RateLimit limit, final Logger logger, final Level level, final String msg, final Throwable t) {
+    if (isLoggable(logger, level) && limit.tryAcquire())
+      log(logger, level, limit.report(msg), t);
+  }
+
+  /**
+   * Log an exception (throwable) with {@code logger} at {@code level} with an accompanying message, suppressing the stack trace if
+   * the fingerprint of the exception was already recorded by the specified {@link ThrowableFingerprints} within its window.
+   *
+   * @param fingerprints The {@link ThrowableFingerprints}.
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param msg The message accompanying the exception.
+   * @param t The exception (throwable) to log.
+   * @throws NullPointerException If {@code fingerprints} or {@code logger} is null.
+   * @see ThrowableFingerprints#log(Logger,Level,String,Throwable)
+   */
+  public static void log(final ThrowableFingerprints fingerprints, final Logger logger, final Level level, final String msg, final Throwable t) {
+    fingerprints.log(logger, level, msg, t);
+  }
+
+  private static final String FQCN = LoggerUtil.class.getName();
+
+  /**
+   * Log the specified {@link LogEvent}s with {@code logger}, in order.
+   * <p>
+   * Each event is logged through the regular API of the logger, so that it is subject to the same filters as an individual call.
+   * For {@link LocationAwareLogger} instances (such as those of <a href="https://logback.qos.ch/">LogBack</a>), the caller data of
+   * each event is that of the caller of this method.
+   *
+   * @param logger The {@link Logger}.
+   * @param events The {@link LogEvent}s.
+   * @throws NullPointerException If {@code logger}, {@code events}, or any member of {@code events} is null.
+   */
+  public static void log(final Logger logger, final Iterable<LogEvent> events) {
+    log(logger, events.iterator());
+  }
+
+  /**
+   * Log the specified {@link LogEvent}s with {@code logger}, in order.
+   * <p>
+   * Each event is logged through the regular API of the logger, so that it is subject to the same filters as an individual call.
+   * For {@link LocationAwareLogger} instances (such as those of <a href="https://logback.qos.ch/">LogBack</a>), the caller data of
+   * each event is that of the caller of this method.
+   *
+   * @param logger The {@link Logger}.
+   * @param events The {@link Stream} of {@link LogEvent}s.
+   * @throws NullPointerException If {@code logger}, {@code events}, or any member of {@code events} is null.
+   */
+  public static void log(final Logger logger, final Stream<LogEvent> events) {
+    log(logger, events.sequential().iterator());
+  }
+
+  private static void log(final Logger logger, final Iterator<LogEvent> events) {
+    if (logger instanceof LocationAwareLogger) {
+      final LocationAwareLogger locationAware = (LocationAwareLogger)logger;
+      while (events.hasNext()) {
+        final LogEvent event = events.next();
+        locationAware.log(null, FQCN, event.getLevel().toInt(), event.getFormat(), event.getArgs(), null);
+      }
+    }
+    else {
+      Objects.requireNonNull(logger, "logger is null");
+      while (events.hasNext()) {
+        final LogEvent event = events.next();
+        log(logger, event.getLevel(), event.getFormat(), event.getArgs());
+      }
+    }
   }
 
   /**
@@ -616,40 +1358,41 @@ public final class LoggerUtil {
    * @param args The arguments to be appended via {@link String#valueOf(Object)}.
    * @throws NullPointerException If {@code method} or {@code args} is null.
    */
-  public static void logm(final Logger logger, final Level level, String method, final String format, final Object ... args) {
+  public static void logm(final Logger logger, final Level level, final String method, final String format, final Object ... args) {
     if (!isLoggable(logger, level))
       return;
 
-    for (int i = 0, i$ = args.length; i < i$; ++i) { // [A]
-      final Object arg = args[i];
-      if (arg == null)
-        continue;
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      if (args.length == 0) {
+        builder.append(method).append('(');
+        if (format != null)
+          builder.append(format);
+      }
+      else {
+        final MethodTemplate template = MethodTemplate.of(method);
+        template.render(builder, args, 0);
+        builder.append('(');
+        final int a = template.getArity();
+        if (format != null) {
+          MethodTemplate.of(format).render(builder, args, a);
+        }
+        else {
+          for (int i = a, i$ = args.length; i < i$; ++i) { // [A]
+            if (i > a)
+              builder.append(',');
 
-      if (arg.getClass().isArray())
-        args[i] = Arrays.toString((Object[])arg);
-      else if (arg instanceof Class)
-        args[i] = ((Class<?>)arg).getSimpleName();
-    }
+            MethodTemplate.appendArg(builder, args[i]);
+          }
+        }
+      }
 
-    final StringBuilder builder = new StringBuilder();
-    final int a = convert(builder, method, 0, args);
-    builder.append('(');
-    if (format != null) {
-      convert(builder, format, a, args);
       builder.append(')');
+      log(logger, level, builder.toString());
     }
-    else if (args.length > 0 && a < args.length) {
-      for (int i = a, i$ = args.length; i < i$; ++i) // [A]
-        builder.append("%s,");
-
-      builder.setCharAt(builder.length() - 1, ')');
+    finally {
+      MessageFormatter.releaseBuilder(builder);
     }
-    else {
-      builder.append(')');
-    }
-
-    final String msg = args.length > 0 ? String.format(builder.toString(), args) : builder.toString();
-    log(logger, level, (Marker)null, msg, (Throwable)null);
   }
 
   /**
@@ -0,0 +1,694 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A {@link Logger} that writes UTF-8 lines rendered by a {@link CompiledLayout} into memory-mapped segments of a file.
+ * <p>
+ * Each segment is a new file of a fixed size named {@code <file>.<index>}, with the index starting after the highest index of the
+ * existing segments. Existing files are never overwritten. Space in the mapped region of a segment is claimed with an atomic
+ * position counter, whereby threads copy their lines into the region concurrently, without locks and without system calls. The
+ * thread whose line overflows the region maps the next segment, while the threads whose lines follow it wait for the next segment
+ * to be mapped. Persistence of the written lines is left to the writeback of the page cache, or can be forced with
+ * {@link #flush()}.
+ * <p>
+ * The unused tail of a segment is filled with {@code '\0'} bytes. Lines that cannot be written because a segment cannot be mapped
+ * are dropped, and counted by {@link #getDroppedCount()}. The mapping of the segment is retried by the first line that is logged
+ * after a backoff of 1 second.
+ */
+public class MappedFileLogger implements AutoCloseable, Logger {
+  /** The default pattern of the {@link CompiledLayout} of the lines. */
+  public static final String DEFAULT_PATTERN = "%d [%level] [%thread] %logger - %msg%n";
+
+  private static final byte[] EMPTY = {};
+  private static final long RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  /**
+   * A memory-mapped segment of the file, or a placeholder for a segment that could not be mapped.
+   */
+  private static final class Segment {
+    private static final AtomicLongFieldUpdater<Segment> claimed = AtomicLongFieldUpdater.newUpdater(Segment.class, "position");
+
+    private final int index;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final long retryTime;
+    private volatile long position;
+
+    private Segment(final Path path, final int index, final int capacity) throws IOException {
+      this.index = index;
+      this.capacity = capacity;
+      this.retryTime = 0;
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+      }
+    }
+
+    /**
+     * Creates a placeholder for the segment of the specified index that could not be mapped, whose mapping is to be retried by the
+     * first claimant at or after the specified time.
+     *
+     * @param index The index of the segment.
+     * @param retryTime The {@link System#nanoTime()} at or after which the mapping is to be retried.
+     */
+    private Segment(final int index, final long retryTime) {
+      this.index = index;
+      this.buffer = null;
+      this.capacity = 0;
+      this.retryTime = retryTime;
+    }
+
+    private void put(final int start, final byte[] bytes, final int length) {
+      final ByteBuffer region = buffer.duplicate();
+      region.position(start);
+      region.put(bytes, 0, length);
+    }
+  }
+
+  private final String name;
+  private final Level level;
+  private final Path file;
+  private final int segmentSize;
+  private final CompiledLayout layout;
+  private final long retryNanos;
+  private final AtomicLong dropped = new AtomicLong();
+  private volatile Segment segment;
+
+  /**
+   * Creates a new {@link MappedFileLogger} with the provided name and logging {@link Level} to be used with this logger, which writes
+   * lines rendered by the given {@link CompiledLayout} into segments of the given size of the given file.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param file The path of the file, to which the index of each segment is appended.
+   * @param segmentSize The size of each segment, in bytes.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws IOException If an I/O error has occurred mapping the first segment.
+   * @throws NullPointerException If {@code name}, {@code level}, {@code file}, or {@code layout} is null.
+   * @throws IllegalArgumentException If {@code segmentSize} is not positive, or if the pattern of {@code layout} does not contain the
+   *           message conversion word.
+   */
+  public MappedFileLogger(final String name, final Level level, final Path file, final int segmentSize, final CompiledLayout layout) throws IOException {
+    this(name, level, file, segmentSize, layout, RETRY_NANOS);
+  }
+
+  /**
+   * Creates a new {@link MappedFileLogger} with the specified parameters, and the specified backoff after which the mapping of a
+   * segment that could not be mapped is retried.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param file The path of the file, to which the index of each segment is appended.
+   * @param segmentSize The size of each segment, in bytes.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @param retryNanos The backoff after which the mapping of a segment that could not be mapped is retried, in nanoseconds.
+   * @throws IOException If an I/O error has occurred mapping the first segment.
+   */
+  MappedFileLogger(final String name, final Level level, final Path file, final int segmentSize, final CompiledLayout layout, final long retryNanos) throws IOException {
+    this.name = Objects.requireNonNull(name, "name is null");
+    this.level = Objects.requireNonNull(level, "level is null");
+    this.file = Objects.requireNonNull(file, "file is null");
+    if (segmentSize <= 0)
+      throw new IllegalArgumentException("segmentSize (" + segmentSize + ") must be positive");
+
+    if (!Objects.requireNonNull(layout, "layout is null").hasMessage())
+      throw new IllegalArgumentException("layout (" + layout + ") must contain %msg");
+
+    this.segmentSize = segmentSize;
+    this.layout = layout;
+    this.retryNanos = retryNanos;
+    this.segment = map(nextIndex(), segmentSize);
+  }
+
+  /**
+   * Creates a new {@link MappedFileLogger} with the provided name and logging {@link Level} to be used with this logger, which writes
+   * lines rendered by the {@value #DEFAULT_PATTERN} pattern into segments of the given size of the given file.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param file The path of the file, to which the index of each segment is appended.
+   * @param segmentSize The size of each segment, in bytes.
+   * @throws IOException If an I/O error has occurred mapping the first segment.
+   * @throws NullPointerException If {@code name}, {@code level}, or {@code file} is null.
+   * @throws IllegalArgumentException If {@code segmentSize} is not positive.
+   */
+  public MappedFileLogger(final String name, final Level level, final Path file, final int segmentSize) throws IOException {
+    this(name, level, file, segmentSize, new CompiledLayout(DEFAULT_PATTERN));
+  }
+
+  private Path path(final int index) {
+    return file.resolveSibling(file.getFileName() + "." + index);
+  }
+
+  /**
+   * Returns the index after the highest index of the existing segments of the file, or {@code 0} if there are none.
+   *
+   * @return The index after the highest index of the existing segments of the file, or {@code 0} if there are none.
+   * @throws IOException If an I/O error has occurred listing the directory of the file.
+   */
+  private int nextIndex() throws IOException {
+    final String prefix = file.getFileName() + ".";
+    int next = 0;
+    try (final DirectoryStream<Path> paths = Files.newDirectoryStream(file.toAbsolutePath().getParent())) {
+      for (final Path path : paths) { // [I]
+        final String fileName = path.getFileName().toString();
+        if (fileName.length() > prefix.length() && fileName.startsWith(prefix)) {
+          try {
+            next = Math.max(next, Integer.parseInt(fileName.substring(prefix.length())) + 1);
+          }
+          catch (final NumberFormatException e) {
+          }
+        }
+      }
+    }
+
+    return next;
+  }
+
+  /**
+   * Maps a new segment of the specified capacity at the specified index, or at the next index that is not taken by an existing file.
+   *
+   * @param index The index of the segment.
+   * @param capacity The capacity of the segment, in bytes.
+   * @return The new {@link Segment}.
+   * @throws IOException If an I/O error has occurred mapping the segment.
+   */
+  private Segment map(int index, final int capacity) throws IOException {
+    for (;; ++index) { // [N]
+      try {
+        return new Segment(path(index), index, capacity);
+      }
+      catch (final FileAlreadyExistsException e) {
+      }
+    }
+  }
+
+  /**
+   * Returns the path of the segment to which lines are currently written.
+   *
+   * @return The path of the segment to which lines are currently written.
+   */
+  public Path getSegmentPath() {
+    return path(segment.index);
+  }
+
+  /**
+   * Returns the number of lines that were dropped because a segment could not be mapped.
+   *
+   * @return The number of lines that were dropped because a segment could not be mapped.
+   */
+  public long getDroppedCount() {
+    return dropped.get();
+  }
+
+  private void write(final byte[] bytes, final int length) {
+    for (Segment segment = this.segment;;) { // [N]
+      if (segment.buffer == null && System.nanoTime() - segment.retryTime < 0) {
+        dropped.incrementAndGet();
+        return;
+      }
+
+      final long start = Segment.claimed.getAndAdd(segment, length);
+      if (segment.buffer != null && start + length <= segment.capacity) {
+        segment.put((int)start, bytes, length);
+        return;
+      }
+
+      if (start <= segment.capacity) {
+        // The line of this thread is the first to overflow the segment (or to claim the placeholder of a segment that could not be
+        // mapped), so this thread maps the next segment
+        final int index = segment.buffer == null ? segment.index : segment.index + 1;
+        try {
+          this.segment = segment = map(index, Math.max(segmentSize, length));
+          continue;
+        }
+        catch (final IOException e) {
+          this.segment = new Segment(index, System.nanoTime() + retryNanos);
+          dropped.incrementAndGet();
+          return;
+        }
+      }
+
+      Segment next;
+      while ((next = this.segment) == segment)
+        Thread.yield();
+
+      segment = next;
+    }
+  }
+
+  private void write(final Level level, final StringBuilder builder) {
+    emit(layout.renderTail(builder, level, name));
+  }
+
+  private void emit(final StringBuilder builder) {
+    final PrintStreamLogger.Buffer buffer = PrintStreamLogger.Buffer.acquire();
+    try {
+      final int length = buffer.encode(EMPTY, builder, StandardCharsets.UTF_8, true);
+      write(buffer.bytes, length);
+    }
+    finally {
+      PrintStreamLogger.Buffer.release(buffer);
+    }
+  }
+
+  private void println(final Level level, final String msg) {
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      write(level, layout.renderHead(builder, level, name).append(msg));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object arg) {
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      write(level, MessageFormatter.format(layout.renderHead(builder, level, name), format, arg));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object arg1, final Object arg2) {
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      write(level, MessageFormatter.format(layout.renderHead(builder, level, name), format, arg1, arg2));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+  }
+
+  private void println(final Level level, final String format, final Object[] arguments) {
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      write(level, MessageFormatter.format(layout.renderHead(builder, level, name), format, arguments));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+  }
+
+  private void println(final Level level, final String msg, final Throwable t) {
+    if (t == null) {
+      println(level, msg);
+      return;
+    }
+
+    final StringWriter out = new StringWriter();
+    t.printStackTrace(new PrintWriter(out));
+    final StringBuilder builder = MessageFormatter.acquireBuilder();
+    try {
+      emit(layout.renderTail(layout.renderHead(builder, level, name).append(msg), level, name).append(out.getBuffer()));
+    }
+    finally {
+      MessageFormatter.releaseBuilder(builder);
+    }
+  }
+
+  /**
+   * Forces the lines written to the current segment to be written to the storage device.
+   */
+  public void flush() {
+    final MappedByteBuffer buffer = segment.buffer;
+    if (buffer != null)
+      buffer.force();
+  }
+
+  /**
+   * Forces the lines written to the current segment to be written to the storage device. Lines logged thereafter are still written.
+   * The mapped regions of the segments are released when they are garbage collected.
+   */
+  @Override
+  public void close() {
+    flush();
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public boolean isTraceEnabled() {
+    return level.toInt() <= Level.TRACE.toInt();
+  }
+
+  @Override
+  public void trace(final String msg) {
+    if (isTraceEnabled())
+      println(Level.TRACE, msg);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arg);
+  }
+
+  @Override
+  public void trace(final String format, final Object arg1, final Object arg2) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arg1, arg2);
+  }
+
+  @Override
+  public void trace(final String format, final Object ... arguments) {
+    if (isTraceEnabled())
+      println(Level.TRACE, format, arguments);
+  }
+
+  @Override
+  public void trace(final String msg, final Throwable t) {
+    if (isTraceEnabled())
+      println(Level.TRACE, msg, t);
+  }
+
+  @Override
+  public boolean isTraceEnabled(final Marker marker) {
+    return isTraceEnabled();
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg) {
+    trace(msg);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg) {
+    trace(format, arg);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    trace(format, arg1, arg2);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object ... argArray) {
+    trace(format, argArray);
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg, final Throwable t) {
+    trace(msg, t);
+  }
+
+  @Override
+  public boolean isDebugEnabled() {
+    return level.toInt() <= Level.DEBUG.toInt();
+  }
+
+  @Override
+  public void debug(final String msg) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, msg);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arg);
+  }
+
+  @Override
+  public void debug(final String format, final Object arg1, final Object arg2) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arg1, arg2);
+  }
+
+  @Override
+  public void debug(final String format, final Object ... arguments) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, format, arguments);
+  }
+
+  @Override
+  public void debug(final String msg, final Throwable t) {
+    if (isDebugEnabled())
+      println(Level.DEBUG, msg, t);
+  }
+
+  @Override
+  public boolean isDebugEnabled(final Marker marker) {
+    return isDebugEnabled();
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg) {
+    debug(msg);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg) {
+    debug(format, arg);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    debug(format, arg1, arg2);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object ... argArray) {
+    debug(format, argArray);
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg, final Throwable t) {
+    debug(msg, t);
+  }
+
+  @Override
+  public boolean isInfoEnabled() {
+    return level.toInt() <= Level.INFO.toInt();
+  }
+
+  @Override
+  public void info(final String msg) {
+    if (isInfoEnabled())
+      println(Level.INFO, msg);
+  }
+
+  @Override
+  public void info(final String format, final Object arg) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arg);
+  }
+
+  @Override
+  public void info(final String format, final Object arg1, final Object arg2) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arg1, arg2);
+  }
+
+  @Override
+  public void info(final String format, final Object ... arguments) {
+    if (isInfoEnabled())
+      println(Level.INFO, format, arguments);
+  }
+
+  @Override
+  public void info(final String msg, final Throwable t) {
+    if (isInfoEnabled())
+      println(Level.INFO, msg, t);
+  }
+
+  @Override
+  public boolean isInfoEnabled(final Marker marker) {
+    return isInfoEnabled();
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg) {
+    info(msg);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg) {
+    info(format, arg);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    info(format, arg1, arg2);
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object ... argArray) {
+    info(format, argArray);
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg, final Throwable t) {
+    info(msg, t);
+  }
+
+  @Override
+  public boolean isWarnEnabled() {
+    return level.toInt() <= Level.WARN.toInt();
+  }
+
+  @Override
+  public void warn(final String msg) {
+    if (isWarnEnabled())
+      println(Level.WARN, msg);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arg);
+  }
+
+  @Override
+  public void warn(final String format, final Object arg1, final Object arg2) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arg1, arg2);
+  }
+
+  @Override
+  public void warn(final String format, final Object ... arguments) {
+    if (isWarnEnabled())
+      println(Level.WARN, format, arguments);
+  }
+
+  @Override
+  public void warn(final String msg, final Throwable t) {
+    if (isWarnEnabled())
+      println(Level.WARN, msg, t);
+  }
+
+  @Override
+  public boolean isWarnEnabled(final Marker marker) {
+    return isWarnEnabled();
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg) {
+    warn(msg);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg) {
+    warn(format, arg);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    warn(format, arg1, arg2);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object ... argArray) {
+    warn(format, argArray);
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg, final Throwable t) {
+    warn(msg, t);
+  }
+
+  @Override
+  public boolean isErrorEnabled() {
+    return level.toInt() <= Level.ERROR.toInt();
+  }
+
+  @Override
+  public void error(final String msg) {
+    if (isErrorEnabled())
+      println(Level.ERROR, msg);
+  }
+
+  @Override
+  public void error(final String format, final Object arg) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arg);
+  }
+
+  @Override
+  public void error(final String format, final Object arg1, final Object arg2) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arg1, arg2);
+  }
+
+  @Override
+  public void error(final String format, final Object ... arguments) {
+    if (isErrorEnabled())
+      println(Level.ERROR, format, arguments);
+  }
+
+  @Override
+  public void error(final String msg, final Throwable t) {
+    if (isErrorEnabled())
+      println(Level.ERROR, msg, t);
+  }
+
+  @Override
+  public boolean isErrorEnabled(final Marker marker) {
+    return isErrorEnabled();
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg) {
+    error(msg);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg) {
+    error(format, arg);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    error(format, arg1, arg2);
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object ... argArray) {
+    error(format, argArray);
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg, final Throwable t) {
+    error(msg, t);
+  }
+}
\ No newline at end of file
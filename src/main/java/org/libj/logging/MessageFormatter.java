@@ -0,0 +1,372 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Formattable;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+
+/**
+ * A garbage-free formatter of log messages, which renders SLF4J {@code {}} placeholders, and a {@link String#format(String,Object...)}
+ * compatible subset of {@code %} specifiers, directly into a {@link StringBuilder}.
+ * <p>
+ * The {@code {}} placeholder renders its argument as SLF4J does, and the {@code %s} specifier renders its argument as
+ * {@link String#format(String,Object...)} does. If the {@code org.libj.logging.MessageFormatter.bounded} system property is
+ * {@code true}, both render their argument with {@link ArgumentRenderer#DEFAULT} instead. The {@code %d} specifier renders
+ * {@link Integer}, {@link Long}, {@link Short}, {@link Byte} and {@link BigInteger} arguments without intermediate objects. The
+ * {@code %%} and {@code %n} specifiers are rendered as literals. All other specifiers are delegated to
+ * {@link String#format(String,Object...)} individually, unless the format string has explicitly indexed ({@code %1$s}) or relative
+ * ({@code %<s}) specifiers, in which case the whole format string is delegated. A {@code {}} placeholder preceded by {@code \} is
+ * rendered as a literal, as with SLF4J.
+ * <p>
+ * The {@code format(...)} methods format SLF4J messages, and never throw {@link IllegalFormatException}: a message with a
+ * {@code {}} placeholder renders {@code %} as a literal, and a message with an illegal {@code %} specifier, or a {@code %}
+ * specifier without a matching argument, is rendered as is. As with SLF4J, a {@code {}} placeholder without a matching argument is
+ * rendered as a literal. The {@code printf(...)} method has the semantics of {@link String#format(Locale,String,Object...)}, and
+ * throws {@link IllegalFormatException} as it does.
+ */
+public final class MessageFormatter {
+  private static final int MAX_RETAINED_CAPACITY = 8192;
+  private static final ThreadLocal<StringBuilder> builders = ThreadLocal.withInitial(StringBuilder::new);
+  private static final Object[] EMPTY = {};
+  private static final boolean bounded = Boolean.getBoolean(MessageFormatter.class.getName() + ".bounded");
+
+  /**
+   * Returns the {@link StringBuilder} of the current thread, or a new {@link StringBuilder} if the {@link StringBuilder} of the
+   * current thread is in use (i.e. upon reentrant invocation). The returned {@link StringBuilder} must be returned with
+   * {@link #releaseBuilder(StringBuilder)}.
+   *
+   * @return The {@link StringBuilder} of the current thread, or a new {@link StringBuilder} if the {@link StringBuilder} of the
+   *         current thread is in use.
+   */
+  static StringBuilder acquireBuilder() {
+    final StringBuilder builder = builders.get();
+    if (builder == null)
+      return new StringBuilder();
+
+    builders.set(null);
+    return builder;
+  }
+
+  /**
+   * Clears the specified {@link StringBuilder}, and returns it to the current thread.
+   *
+   * @param builder The {@link StringBuilder} acquired with {@link #acquireBuilder()}.
+   */
+  static void releaseBuilder(final StringBuilder builder) {
+    builder.setLength(0);
+    if (builder.capacity() > MAX_RETAINED_CAPACITY)
+      builder.trimToSize();
+
+    builders.set(builder);
+  }
+
+  /**
+   * Returns the message of the specified {@code format} and arguments.
+   *
+   * @param format The format string.
+   * @param args The arguments.
+   * @return The message of the specified {@code format} and arguments.
+   */
+  public static String format(final String format, final Object ... args) {
+    final StringBuilder builder = acquireBuilder();
+    try {
+      return format(builder, format, args).toString();
+    }
+    finally {
+      releaseBuilder(builder);
+    }
+  }
+
+  /**
+   * Appends the message of the specified {@code format} and {@code arg} to the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param format The format string.
+   * @param arg The argument.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder format(final StringBuilder builder, final String format, final Object arg) {
+    return format(builder, null, true, format, 1, arg, null, null);
+  }
+
+  /**
+   * Appends the message of the specified {@code format} and arguments to the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param format The format string.
+   * @param arg1 The first argument.
+   * @param arg2 The second argument.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder format(final StringBuilder builder, final String format, final Object arg1, final Object arg2) {
+    return format(builder, null, true, format, 2, arg1, arg2, null);
+  }
+
+  /**
+   * Appends the message of the specified {@code format} and arguments to the provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param format The format string.
+   * @param args The arguments.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder format(final StringBuilder builder, final String format, final Object ... args) {
+    final Object[] a = args != null ? args : EMPTY;
+    return format(builder, null, true, format, a.length, null, null, a);
+  }
+
+  /**
+   * Appends the message of the specified {@code format} and arguments to the provided {@link StringBuilder}, with the semantics of
+   * {@link String#format(Locale,String,Object...)}, whereby {@code {}} placeholders are not recognized. If {@code locale} is not
+   * null, the {@code %d} specifier is delegated to {@link String#format(Locale,String,Object...)}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param locale The {@link Locale}, or {@code null} for no localization.
+   * @param format The format string.
+   * @param args The arguments.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} or {@code format} is null.
+   * @throws MissingFormatArgumentException If a {@code %} specifier does not have a matching argument.
+   * @throws IllegalFormatException If a {@code %} specifier is illegal, or is incompatible with its argument.
+   */
+  public static StringBuilder printf(final StringBuilder builder, final Locale locale, final String format, final Object ... args) {
+    final Object[] a = args != null ? args : EMPTY;
+    return format(builder, locale, false, format, a.length, null, null, a);
+  }
+
+  private static Object get(final int index, final Object arg1, final Object arg2, final Object[] args) {
+    return args != null ? args[index] : index == 0 ? arg1 : arg2;
+  }
+
+  private static Object[] toArray(final int length, final Object arg1, final Object arg2, final Object[] args) {
+    final Object[] array = new Object[length];
+    for (int i = 0; i < length; ++i) // [A]
+      array[i] = bounded ? toArg(get(i, arg1, arg2, args)) : get(i, arg1, arg2, args);
+
+    return array;
+  }
+
+  /**
+   * Returns the specified argument as it is to be rendered by {@link String#format(String,Object...)}, whereby arrays,
+   * {@link java.util.Collection}s, {@link java.util.Map}s and {@link Class}es are rendered by {@link ArgumentRenderer#DEFAULT}.
+   *
+   * @param arg The argument.
+   * @return The specified argument as it is to be rendered by {@link String#format(String,Object...)}.
+   */
+  static Object toArg(final Object arg) {
+    return ArgumentRenderer.DEFAULT.isStructured(arg) ? ArgumentRenderer.DEFAULT.toString(arg) : arg;
+  }
+
+  /**
+   * Appends the specified argument to the provided {@link StringBuilder} as it is rendered by the {@code %d} specifier, or returns
+   * {@code false} if the argument is not an integral type that can be appended without {@link String#format(String,Object...)}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param arg The argument.
+   * @return Whether the argument was appended.
+   */
+  static boolean appendInteger(final StringBuilder builder, final Object arg) {
+    if (arg == null)
+      builder.append("null");
+    else if (arg instanceof Integer || arg instanceof Long || arg instanceof Short || arg instanceof Byte)
+      builder.append(((Number)arg).longValue());
+    else if (arg instanceof BigInteger)
+      builder.append(arg);
+    else
+      return false;
+
+    return true;
+  }
+
+  /**
+   * Appends the specified argument to the provided {@link StringBuilder} as it is rendered by SLF4J for a {@code {}} placeholder.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param arg The argument.
+   */
+  private static void appendPlaceholder(final StringBuilder builder, final Object arg) {
+    if (bounded) {
+      ArgumentRenderer.DEFAULT.render(builder, arg);
+      return;
+    }
+
+    try {
+      if (arg == null || !arg.getClass().isArray())
+        builder.append(arg);
+      else if (arg instanceof Object[])
+        builder.append(Arrays.deepToString((Object[])arg));
+      else if (arg instanceof int[])
+        builder.append(Arrays.toString((int[])arg));
+      else if (arg instanceof long[])
+        builder.append(Arrays.toString((long[])arg));
+      else if (arg instanceof byte[])
+        builder.append(Arrays.toString((byte[])arg));
+      else if (arg instanceof short[])
+        builder.append(Arrays.toString((short[])arg));
+      else if (arg instanceof char[])
+        builder.append(Arrays.toString((char[])arg));
+      else if (arg instanceof boolean[])
+        builder.append(Arrays.toString((boolean[])arg));
+      else if (arg instanceof float[])
+        builder.append(Arrays.toString((float[])arg));
+      else
+        builder.append(Arrays.toString((double[])arg));
+    }
+    catch (final RuntimeException e) {
+      builder.append("[FAILED toString()]");
+    }
+  }
+
+  /**
+   * Returns whether the specified format string has an explicitly indexed ({@code %1$s}) or relative ({@code %<s}) specifier.
+   *
+   * @param format The format string.
+   * @return Whether the specified format string has an explicitly indexed or relative specifier.
+   */
+  private static boolean isExplicit(final String format) {
+    for (int i = format.indexOf('%'), i$ = format.length(); i != -1; i = format.indexOf('%', i)) { // [N]
+      char c;
+      for (++i; i < i$ && ((c = format.charAt(i)) >= '0' && c <= '9' || "$-#+ ,(<.".indexOf(c) != -1); ++i) // [N]
+        if (c == '$' || c == '<')
+          return true;
+
+      ++i;
+    }
+
+    return false;
+  }
+
+  private static StringBuilder format(final StringBuilder builder, final Locale locale, final boolean braces, final String format, final int length, final Object arg1, final Object arg2, final Object[] args) {
+    if (format == null) {
+      if (braces)
+        return builder.append((String)null);
+
+      throw new NullPointerException("format is null");
+    }
+
+    if (!braces)
+      return isExplicit(format) ? delegate(builder, locale, format, length, arg1, arg2, args) : format(builder, locale, false, true, format, length, arg1, arg2, args);
+
+    // As with SLF4J, a message with {} placeholders does not have % specifiers
+    if (format.indexOf("{}") != -1)
+      return format(builder, null, true, false, format, length, arg1, arg2, args);
+
+    final int mark = builder.length();
+    try {
+      return isExplicit(format) ? delegate(builder, null, format, length, arg1, arg2, args) : format(builder, null, true, true, format, length, arg1, arg2, args);
+    }
+    catch (final IllegalFormatException e) {
+      builder.setLength(mark);
+      return builder.append(format);
+    }
+  }
+
+  private static StringBuilder delegate(final StringBuilder builder, final Locale locale, final String format, final int length, final Object arg1, final Object arg2, final Object[] args) {
+    return builder.append(locale != null ? String.format(locale, format, toArray(length, arg1, arg2, args)) : String.format(format, toArray(length, arg1, arg2, args)));
+  }
+
+  private static StringBuilder format(final StringBuilder builder, final Locale locale, final boolean braces, final boolean percent, final String format, final int length, final Object arg1, final Object arg2, final Object[] args) {
+    int index = 0;
+    int start = 0;
+    for (int i = 0, i$ = format.length(); i < i$;) { // [N]
+      final char ch = format.charAt(i);
+      if (ch == '{') {
+        if (!braces || i + 1 == i$ || format.charAt(i + 1) != '}' || index == length) {
+          ++i;
+          continue;
+        }
+
+        if (i > 0 && format.charAt(i - 1) == '\\') {
+          if (i > 1 && format.charAt(i - 2) == '\\') {
+            builder.append(format, start, i - 1);
+          }
+          else {
+            builder.append(format, start, i - 1).append("{}");
+            start = i += 2;
+            continue;
+          }
+        }
+        else {
+          builder.append(format, start, i);
+        }
+
+        appendPlaceholder(builder, get(index++, arg1, arg2, args));
+        start = i += 2;
+        continue;
+      }
+
+      if (ch != '%' || !percent) {
+        ++i;
+        continue;
+      }
+
+      builder.append(format, start, i);
+      int j = i + 1;
+      for (char c; j < i$ && ((c = format.charAt(j)) >= '0' && c <= '9' || "-#+ ,(.".indexOf(c) != -1); ++j); // [N]
+
+      if (j < i$ && (format.charAt(j) == 't' || format.charAt(j) == 'T'))
+        ++j;
+
+      if (j < i$)
+        ++j;
+
+      final int len = j - i;
+      final char conversion = format.charAt(j - 1);
+      if (len == 2 && conversion == '%') {
+        builder.append('%');
+      }
+      else if (len == 2 && conversion == 'n') {
+        builder.append(System.lineSeparator());
+      }
+      else if (len == 1 || conversion == '%' || conversion == 'n') {
+        final String spec = format.substring(i, j);
+        builder.append(locale != null ? String.format(locale, spec, toArray(length, arg1, arg2, args)) : String.format(spec, toArray(length, arg1, arg2, args)));
+      }
+      else {
+        if (index == length)
+          throw new MissingFormatArgumentException(format.substring(i, j));
+
+        final Object arg = get(index++, arg1, arg2, args);
+        if (len == 2 && conversion == 's' && (bounded || !(arg instanceof Formattable))) {
+          if (bounded)
+            ArgumentRenderer.DEFAULT.render(builder, arg);
+          else
+            builder.append(arg);
+        }
+        else if (len != 2 || conversion != 'd' || locale != null || !appendInteger(builder, arg)) {
+          final String spec = format.substring(i, j);
+          final Object a = bounded ? toArg(arg) : arg;
+          builder.append(locale != null ? String.format(locale, spec, a) : String.format(spec, a));
+        }
+      }
+
+      start = i = j;
+    }
+
+    return builder.append(format, start, format.length());
+  }
+
+  private MessageFormatter() {
+  }
+}
@@ -0,0 +1,228 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Arrays;
+import java.util.MissingFormatArgumentException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A compiled form of the {@code method} and {@code format} strings of
+ * {@link LoggerUtil#logm(org.slf4j.Logger,org.slf4j.event.Level,String,String,Object...)}. A {@link MethodTemplate} is parsed
+ * once into an array of {@link Element}s, which render their arguments directly into a {@link StringBuilder}. The {@code %s},
+ * {@code %d}, {@code %h}, {@code %n}, {@code %%} and {@code %?} specifiers are rendered without
+ * {@link String#format(String,Object...)}, and all other specifiers are delegated to {@link String#format(String,Object...)}
+ * individually.
+ */
+final class MethodTemplate {
+  private abstract static class Element {
+    /**
+     * Renders this {@link Element} into the specified {@link StringBuilder}.
+     *
+     * @param builder The {@link StringBuilder}.
+     * @param args The arguments.
+     * @param base The index in {@code args} of the first argument of the {@link MethodTemplate}.
+     */
+    abstract void render(StringBuilder builder, Object[] args, int base);
+  }
+
+  private static final class Literal extends Element {
+    private final String text;
+
+    private Literal(final String text) {
+      this.text = text;
+    }
+
+    @Override
+    void render(final StringBuilder builder, final Object[] args, final int base) {
+      builder.append(text);
+    }
+  }
+
+  private static final class Argument extends Element {
+    private final String spec;
+    private final char conversion;
+    private final int index;
+
+    private Argument(final String spec, final int index) {
+      this.spec = spec;
+      this.conversion = spec.charAt(1);
+      this.index = index;
+    }
+
+    @Override
+    void render(final StringBuilder builder, final Object[] args, final int base) {
+      final int i = base + index;
+      if (i >= args.length)
+        throw new MissingFormatArgumentException(spec);
+
+      final Object arg = args[i];
+      if (conversion == 's') {
+        appendArg(builder, arg);
+      }
+      else if (arg == null) {
+        builder.append("null");
+      }
+      else if (conversion == 'h') {
+        builder.append(Integer.toHexString(arg.hashCode()));
+      }
+      else if (conversion == '?') {
+        final Class<?> cls = arg.getClass();
+        builder.append(cls.isAnonymousClass() ? cls.getName() : cls.getSimpleName()).append('@').append(Integer.toHexString(arg.hashCode()));
+      }
+      else if (conversion != 'd' || !MessageFormatter.appendInteger(builder, arg)) {
+        builder.append(String.format(spec, MessageFormatter.toArg(arg)));
+      }
+    }
+  }
+
+  private static final class Fallback extends Element {
+    private final String spec;
+    private final int index;
+
+    private Fallback(final String spec, final int index) {
+      this.spec = spec;
+      this.index = index;
+    }
+
+    @Override
+    void render(final StringBuilder builder, final Object[] args, final int base) {
+      if (index == -1) {
+        final Object[] copy = new Object[args.length];
+        for (int i = 0, i$ = args.length; i < i$; ++i) // [A]
+          copy[i] = MessageFormatter.toArg(args[i]);
+
+        builder.append(String.format(spec, copy));
+      }
+      else {
+        final int i = base + index;
+        if (i >= args.length)
+          throw new MissingFormatArgumentException(spec);
+
+        builder.append(String.format(spec, MessageFormatter.toArg(args[i])));
+      }
+    }
+  }
+
+  private static final int MAX_CACHE_SIZE = 1024;
+  private static final ConcurrentHashMap<String,MethodTemplate> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the {@link MethodTemplate} for the specified string, compiling and caching it if it is not already cached.
+   *
+   * @param str The string.
+   * @return The {@link MethodTemplate} for the specified string.
+   * @throws NullPointerException If {@code str} is null.
+   */
+  static MethodTemplate of(final String str) {
+    MethodTemplate template = cache.get(str);
+    if (template == null) {
+      template = new MethodTemplate(str);
+      if (cache.size() < MAX_CACHE_SIZE)
+        cache.putIfAbsent(str, template);
+    }
+
+    return template;
+  }
+
+  /**
+   * Appends the specified argument to the provided {@link StringBuilder} as it is rendered by the {@code %s} specifier.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param arg The argument.
+   */
+  static void appendArg(final StringBuilder builder, final Object arg) {
+    ArgumentRenderer.DEFAULT.render(builder, arg);
+  }
+
+  private final Element[] elements;
+  private final int arity;
+
+  private MethodTemplate(final String str) {
+    final Element[] elements = new Element[str.length()];
+    int size = 0;
+    int arity = 0;
+    int start = 0;
+    for (int i = 0, i$ = str.length(); i < i$;) { // [N]
+      if (str.charAt(i) != '%') {
+        ++i;
+        continue;
+      }
+
+      if (start < i)
+        elements[size++] = new Literal(str.substring(start, i));
+
+      int j = i + 1;
+      if (j < i$ && str.charAt(j) == '?') {
+        elements[size++] = new Argument("%?", arity++);
+        start = i = j + 1;
+        continue;
+      }
+
+      boolean explicit = false;
+      for (char ch; j < i$ && ((ch = str.charAt(j)) >= '0' && ch <= '9' || "$-#+ ,(<.".indexOf(ch) != -1); ++j) // [N]
+        explicit |= ch == '$' || ch == '<';
+
+      if (j < i$ && (str.charAt(j) == 't' || str.charAt(j) == 'T'))
+        ++j;
+
+      final String spec = str.substring(i, j < i$ ? ++j : j);
+      final char conversion = spec.charAt(spec.length() - 1);
+      if ("%%".equals(spec))
+        elements[size++] = new Literal("%");
+      else if ("%n".equals(spec))
+        elements[size++] = new Literal(System.lineSeparator());
+      else if (spec.length() == 1 || conversion == '%' || conversion == 'n')
+        elements[size++] = new Fallback(spec, -1);
+      else if (explicit)
+        elements[size++] = new Fallback(spec, -1);
+      else if (spec.length() == 2 && (conversion == 's' || conversion == 'd' || conversion == 'h'))
+        elements[size++] = new Argument(spec, arity++);
+      else
+        elements[size++] = new Fallback(spec, arity++);
+
+      start = i = j;
+    }
+
+    if (start < str.length())
+      elements[size++] = new Literal(str.substring(start));
+
+    this.elements = Arrays.copyOf(elements, size);
+    this.arity = arity;
+  }
+
+  /**
+   * Returns the number of arguments consumed by this {@link MethodTemplate}.
+   *
+   * @return The number of arguments consumed by this {@link MethodTemplate}.
+   */
+  int getArity() {
+    return arity;
+  }
+
+  /**
+   * Renders this {@link MethodTemplate} into the specified {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @param args The arguments.
+   * @param base The index in {@code args} of the first argument of this {@link MethodTemplate}.
+   */
+  void render(final StringBuilder builder, final Object[] args, final int base) {
+    for (final Element element : elements) // [A]
+      element.render(builder, args, base);
+  }
+}
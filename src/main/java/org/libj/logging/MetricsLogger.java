@@ -0,0 +1,808 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A {@link DelegateLogger} that counts the calls to its target {@link Logger} per {@link Level}, both those that are enabled and
+ * those that are rejected by level, and estimates the number of message bytes of the enabled calls as the length of the message
+ * or format plus the lengths of the {@link CharSequence} arguments. The counters are striped {@link LongAdder}s, and are exposed
+ * by {@link #snapshot()}, and through JMX by way of {@link MetricsLoggerMXBean}.
+ *
+ * @see MetricsLoggerFactory
+ */
+public class MetricsLogger extends DelegateLogger implements MetricsLoggerMXBean {
+  private static final Level[] levels = Level.values();
+  private static final int ERROR = Level.ERROR.ordinal();
+  private static final int WARN = Level.WARN.ordinal();
+  private static final int INFO = Level.INFO.ordinal();
+  private static final int DEBUG = Level.DEBUG.ordinal();
+  private static final int TRACE = Level.TRACE.ordinal();
+
+  /**
+   * An immutable snapshot of the counters of a {@link MetricsLogger}.
+   */
+  public static final class Snapshot {
+    private final String name;
+    private final long[] enabled;
+    private final long[] disabled;
+    private final long[] bytes;
+
+    private Snapshot(final String name, final long[] enabled, final long[] disabled, final long[] bytes) {
+      this.name = name;
+      this.enabled = enabled;
+      this.disabled = disabled;
+      this.bytes = bytes;
+    }
+
+    /**
+     * Returns the name of the logger.
+     *
+     * @return The name of the logger.
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * Returns the number of calls of the specified {@link Level} that were enabled.
+     *
+     * @param level The {@link Level}.
+     * @return The number of calls of the specified {@link Level} that were enabled.
+     * @throws NullPointerException If {@code level} is null.
+     */
+    public long getEnabledCount(final Level level) {
+      return enabled[level.ordinal()];
+    }
+
+    /**
+     * Returns the number of calls of the specified {@link Level} that were rejected by level.
+     *
+     * @param level The {@link Level}.
+     * @return The number of calls of the specified {@link Level} that were rejected by level.
+     * @throws NullPointerException If {@code level} is null.
+     */
+    public long getDisabledCount(final Level level) {
+      return disabled[level.ordinal()];
+    }
+
+    /**
+     * Returns the estimated number of message bytes of calls of the specified {@link Level} that were enabled.
+     *
+     * @param level The {@link Level}.
+     * @return The estimated number of message bytes of calls of the specified {@link Level} that were enabled.
+     * @throws NullPointerException If {@code level} is null.
+     */
+    public long getByteCount(final Level level) {
+      return bytes[level.ordinal()];
+    }
+
+    @Override
+    public String toString() {
+      final StringBuilder builder = new StringBuilder(name).append(" {");
+      for (int i = 0; i < levels.length; ++i) { // [A]
+        if (i > 0)
+          builder.append(", ");
+
+        builder.append(levels[i]).append(": ").append(enabled[i]).append('/').append(disabled[i]).append(" (").append(bytes[i]).append("B)");
+      }
+
+      return builder.append('}').toString();
+    }
+  }
+
+  private static LongAdder[] newAdders() {
+    final LongAdder[] adders = new LongAdder[levels.length];
+    for (int i = 0; i < adders.length; ++i) // [A]
+      adders[i] = new LongAdder();
+
+    return adders;
+  }
+
+  private static long[] sum(final LongAdder[] adders) {
+    final long[] sums = new long[adders.length];
+    for (int i = 0; i < adders.length; ++i) // [A]
+      sums[i] = adders[i].sum();
+
+    return sums;
+  }
+
+  private static Map<String,Long> toMap(final LongAdder[] adders) {
+    final LinkedHashMap<String,Long> map = new LinkedHashMap<>();
+    for (int i = 0; i < adders.length; ++i) // [A]
+      map.put(levels[i].toString(), adders[i].sum());
+
+    return Collections.unmodifiableMap(map);
+  }
+
+  private static int length(final String format) {
+    return format == null ? 4 : format.length();
+  }
+
+  private static int length(final Object arg) {
+    return arg instanceof CharSequence ? ((CharSequence)arg).length() : 0;
+  }
+
+  private static int length(final Object[] args) {
+    int length = 0;
+    if (args != null)
+      for (final Object arg : args) // [A]
+        length += length(arg);
+
+    return length;
+  }
+
+  private final LongAdder[] enabled = newAdders();
+  private final LongAdder[] disabled = newAdders();
+  private final LongAdder[] bytes = newAdders();
+
+  /**
+   * Creates a new {@link MetricsLogger} with the specified target {@link Logger}.
+   *
+   * @param target The target {@link Logger}.
+   * @throws NullPointerException If {@code target} is null.
+   */
+  public MetricsLogger(final Logger target) {
+    super(target);
+  }
+
+  /**
+   * Returns an immutable snapshot of the counters of this {@link MetricsLogger}.
+   *
+   * @return An immutable snapshot of the counters of this {@link MetricsLogger}.
+   */
+  public Snapshot snapshot() {
+    return new Snapshot(getName(), sum(enabled), sum(disabled), sum(bytes));
+  }
+
+  @Override
+  public Map<String,Long> getEnabledCounts() {
+    return toMap(enabled);
+  }
+
+  @Override
+  public Map<String,Long> getDisabledCounts() {
+    return toMap(disabled);
+  }
+
+  @Override
+  public Map<String,Long> getByteCounts() {
+    return toMap(bytes);
+  }
+
+  @Override
+  public void reset() {
+    for (int i = 0; i < levels.length; ++i) { // [A]
+      enabled[i].reset();
+      disabled[i].reset();
+      bytes[i].reset();
+    }
+  }
+
+  private void count(final int level, final long length) {
+    enabled[level].increment();
+    bytes[level].add(length);
+  }
+
+  @Override
+  public void trace(final String msg) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled()) {
+      count(TRACE, length(msg));
+      target.trace(msg);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled()) {
+      count(TRACE, length(format) + length(arg));
+      target.trace(format, arg);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled()) {
+      count(TRACE, length(format) + length(arg1) + length(arg2));
+      target.trace(format, arg1, arg2);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object ... arguments) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled()) {
+      count(TRACE, length(format) + length(arguments));
+      target.trace(format, arguments);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled()) {
+      count(TRACE, length(msg));
+      target.trace(msg, t);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled(marker)) {
+      count(TRACE, length(msg));
+      target.trace(marker, msg);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled(marker)) {
+      count(TRACE, length(format) + length(arg));
+      target.trace(marker, format, arg);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled(marker)) {
+      count(TRACE, length(format) + length(arg1) + length(arg2));
+      target.trace(marker, format, arg1, arg2);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object ... argArray) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled(marker)) {
+      count(TRACE, length(format) + length(argArray));
+      target.trace(marker, format, argArray);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isTraceEnabled(marker)) {
+      count(TRACE, length(msg));
+      target.trace(marker, msg, t);
+    }
+    else {
+      disabled[TRACE].increment();
+    }
+  }
+
+  @Override
+  public void debug(final String msg) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled()) {
+      count(DEBUG, length(msg));
+      target.debug(msg);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled()) {
+      count(DEBUG, length(format) + length(arg));
+      target.debug(format, arg);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled()) {
+      count(DEBUG, length(format) + length(arg1) + length(arg2));
+      target.debug(format, arg1, arg2);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object ... arguments) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled()) {
+      count(DEBUG, length(format) + length(arguments));
+      target.debug(format, arguments);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled()) {
+      count(DEBUG, length(msg));
+      target.debug(msg, t);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled(marker)) {
+      count(DEBUG, length(msg));
+      target.debug(marker, msg);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled(marker)) {
+      count(DEBUG, length(format) + length(arg));
+      target.debug(marker, format, arg);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled(marker)) {
+      count(DEBUG, length(format) + length(arg1) + length(arg2));
+      target.debug(marker, format, arg1, arg2);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object ... argArray) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled(marker)) {
+      count(DEBUG, length(format) + length(argArray));
+      target.debug(marker, format, argArray);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isDebugEnabled(marker)) {
+      count(DEBUG, length(msg));
+      target.debug(marker, msg, t);
+    }
+    else {
+      disabled[DEBUG].increment();
+    }
+  }
+
+  @Override
+  public void info(final String msg) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled()) {
+      count(INFO, length(msg));
+      target.info(msg);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled()) {
+      count(INFO, length(format) + length(arg));
+      target.info(format, arg);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled()) {
+      count(INFO, length(format) + length(arg1) + length(arg2));
+      target.info(format, arg1, arg2);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object ... arguments) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled()) {
+      count(INFO, length(format) + length(arguments));
+      target.info(format, arguments);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled()) {
+      count(INFO, length(msg));
+      target.info(msg, t);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled(marker)) {
+      count(INFO, length(msg));
+      target.info(marker, msg);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled(marker)) {
+      count(INFO, length(format) + length(arg));
+      target.info(marker, format, arg);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled(marker)) {
+      count(INFO, length(format) + length(arg1) + length(arg2));
+      target.info(marker, format, arg1, arg2);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object ... argArray) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled(marker)) {
+      count(INFO, length(format) + length(argArray));
+      target.info(marker, format, argArray);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isInfoEnabled(marker)) {
+      count(INFO, length(msg));
+      target.info(marker, msg, t);
+    }
+    else {
+      disabled[INFO].increment();
+    }
+  }
+
+  @Override
+  public void warn(final String msg) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled()) {
+      count(WARN, length(msg));
+      target.warn(msg);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled()) {
+      count(WARN, length(format) + length(arg));
+      target.warn(format, arg);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled()) {
+      count(WARN, length(format) + length(arg1) + length(arg2));
+      target.warn(format, arg1, arg2);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object ... arguments) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled()) {
+      count(WARN, length(format) + length(arguments));
+      target.warn(format, arguments);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled()) {
+      count(WARN, length(msg));
+      target.warn(msg, t);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled(marker)) {
+      count(WARN, length(msg));
+      target.warn(marker, msg);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled(marker)) {
+      count(WARN, length(format) + length(arg));
+      target.warn(marker, format, arg);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled(marker)) {
+      count(WARN, length(format) + length(arg1) + length(arg2));
+      target.warn(marker, format, arg1, arg2);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object ... argArray) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled(marker)) {
+      count(WARN, length(format) + length(argArray));
+      target.warn(marker, format, argArray);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isWarnEnabled(marker)) {
+      count(WARN, length(msg));
+      target.warn(marker, msg, t);
+    }
+    else {
+      disabled[WARN].increment();
+    }
+  }
+
+  @Override
+  public void error(final String msg) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled()) {
+      count(ERROR, length(msg));
+      target.error(msg);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled()) {
+      count(ERROR, length(format) + length(arg));
+      target.error(format, arg);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled()) {
+      count(ERROR, length(format) + length(arg1) + length(arg2));
+      target.error(format, arg1, arg2);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object ... arguments) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled()) {
+      count(ERROR, length(format) + length(arguments));
+      target.error(format, arguments);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled()) {
+      count(ERROR, length(msg));
+      target.error(msg, t);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled(marker)) {
+      count(ERROR, length(msg));
+      target.error(marker, msg);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled(marker)) {
+      count(ERROR, length(format) + length(arg));
+      target.error(marker, format, arg);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled(marker)) {
+      count(ERROR, length(format) + length(arg1) + length(arg2));
+      target.error(marker, format, arg1, arg2);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object ... argArray) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled(marker)) {
+      count(ERROR, length(format) + length(argArray));
+      target.error(marker, format, argArray);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg, final Throwable t) {
+    final Logger target = this.target;
+    if (target.isErrorEnabled(marker)) {
+      count(ERROR, length(msg));
+      target.error(marker, msg, t);
+    }
+    else {
+      disabled[ERROR].increment();
+    }
+  }
+}
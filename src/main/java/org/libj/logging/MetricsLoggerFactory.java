@@ -0,0 +1,156 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.ILoggerFactory;
+
+/**
+ * An {@link ILoggerFactory} that wraps the loggers of another {@link ILoggerFactory} in {@link MetricsLogger}s, which are cached
+ * per name, and optionally registered with the platform MBean server as {@code org.libj.logging:type=MetricsLogger,name="<name>"}.
+ * A name that is already registered by another factory is not replaced: {@link #getLogger(String)} fails instead. The registered
+ * MBeans are unregistered when the factory is {@linkplain #close() closed}.
+ */
+public class MetricsLoggerFactory implements AutoCloseable, ILoggerFactory {
+  /** The domain of the {@link ObjectName}s of the registered {@link MetricsLogger}s. */
+  public static final String DOMAIN = "org.libj.logging";
+
+  private final ConcurrentHashMap<String,MetricsLogger> loggers = new ConcurrentHashMap<>();
+  private final ILoggerFactory factory;
+  private final boolean register;
+  private final ArrayList<ObjectName> registered = new ArrayList<>();
+  private boolean closed;
+
+  /**
+   * Creates a new {@link MetricsLoggerFactory} that wraps the loggers of the specified {@link ILoggerFactory}.
+   *
+   * @param factory The {@link ILoggerFactory} of the target loggers.
+   * @param register Whether each {@link MetricsLogger} is to be registered with the platform MBean server.
+   * @throws NullPointerException If {@code factory} is null.
+   */
+  public MetricsLoggerFactory(final ILoggerFactory factory, final boolean register) {
+    this.factory = Objects.requireNonNull(factory, "factory is null");
+    this.register = register;
+  }
+
+  /**
+   * Returns the {@link ObjectName} with which a {@link MetricsLogger} of the specified name is registered.
+   *
+   * @param name The name of the logger.
+   * @return The {@link ObjectName} with which a {@link MetricsLogger} of the specified name is registered.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public static ObjectName getObjectName(final String name) {
+    final Hashtable<String,String> properties = new Hashtable<>();
+    properties.put("type", MetricsLogger.class.getSimpleName());
+    properties.put("name", ObjectName.quote(name));
+    try {
+      return new ObjectName(DOMAIN, properties);
+    }
+    catch (final JMException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private MetricsLogger newLogger(final String name) {
+    final MetricsLogger logger = new MetricsLogger(factory.getLogger(name));
+    if (register) {
+      synchronized (this) {
+        if (!closed) {
+          final ObjectName objectName = getObjectName(name);
+          try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(logger, objectName);
+            registered.add(objectName);
+          }
+          catch (final JMException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      }
+    }
+
+    return logger;
+  }
+
+  /**
+   * Returns the {@link MetricsLogger} of the specified name, which is created and registered with the platform MBean server (if so
+   * configured, and this factory is not closed) when it is first requested.
+   *
+   * @param name The name of the logger.
+   * @return The {@link MetricsLogger} of the specified name.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalStateException If an MBean is already registered with the {@link ObjectName} of the logger, or the
+   *           registration otherwise fails.
+   */
+  @Override
+  public MetricsLogger getLogger(final String name) {
+    final MetricsLogger logger = loggers.get(name);
+    return logger != null ? logger : loggers.computeIfAbsent(name, this::newLogger);
+  }
+
+  /**
+   * Returns snapshots of the counters of all {@link MetricsLogger}s of this factory, by name.
+   *
+   * @return Snapshots of the counters of all {@link MetricsLogger}s of this factory, by name.
+   */
+  public Map<String,MetricsLogger.Snapshot> snapshot() {
+    final TreeMap<String,MetricsLogger.Snapshot> snapshots = new TreeMap<>();
+    for (final Map.Entry<String,MetricsLogger> entry : loggers.entrySet()) // [S]
+      snapshots.put(entry.getKey(), entry.getValue().snapshot());
+
+    return snapshots;
+  }
+
+  /**
+   * Unregisters the {@link MetricsLogger}s of this factory from the platform MBean server. Loggers that are created thereafter are
+   * not registered.
+   *
+   * @throws IllegalStateException If the unregistration fails.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed)
+      return;
+
+    closed = true;
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (int i = 0, i$ = registered.size(); i < i$; ++i) { // [RA]
+      try {
+        server.unregisterMBean(registered.get(i));
+      }
+      catch (final InstanceNotFoundException e) {
+      }
+      catch (final JMException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    registered.clear();
+  }
+}
@@ -0,0 +1,57 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Map;
+
+/**
+ * The management interface of a {@link MetricsLogger}, by which its counters are exposed through JMX.
+ */
+public interface MetricsLoggerMXBean {
+  /**
+   * Returns the name of the logger.
+   *
+   * @return The name of the logger.
+   */
+  String getName();
+
+  /**
+   * Returns the number of calls that were enabled, by level.
+   *
+   * @return The number of calls that were enabled, by level.
+   */
+  Map<String,Long> getEnabledCounts();
+
+  /**
+   * Returns the number of calls that were rejected by level, by level.
+   *
+   * @return The number of calls that were rejected by level, by level.
+   */
+  Map<String,Long> getDisabledCounts();
+
+  /**
+   * Returns the estimated number of message bytes of calls that were enabled, by level.
+   *
+   * @return The estimated number of message bytes of calls that were enabled, by level.
+   */
+  Map<String,Long> getByteCounts();
+
+  /**
+   * Resets all counters to zero.
+   */
+  void reset();
+}
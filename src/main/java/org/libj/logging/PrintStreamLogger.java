@@ -17,7 +17,22 @@
 package org.libj.logging;
 
 import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.Marker;
@@ -25,20 +40,538 @@ import org.slf4j.event.Level;
 
 /**
  * A {@link Logger} that proxies its output to a {@link PrintStream}, such as {@link System#out} and {@link System#err}.
+ * <p>
+ * Each line is formatted with {@link MessageFormatter} into a per-thread buffer, encoded into a per-thread {@code byte[]} following
+ * the pre-encoded level prefix, and written to the {@link PrintStream} with a single {@link PrintStream#write(byte[],int,int)} call.
+ * Lines are encoded with the {@link Charset} provided to the constructor, or otherwise with the {@link Charset} of the
+ * {@code stdout.encoding} or {@code stderr.encoding} system properties (or the {@link Charset#defaultCharset() default charset}) for
+ * {@link System#out} and {@link System#err}. As the {@link Charset} of any other {@link PrintStream} cannot be determined, lines
+ * that are logged to a {@link PrintStream} constructed without a {@link Charset} are written with {@link PrintStream#print(String)},
+ * so as to be encoded by the {@link PrintStream} itself.
+ * <p>
+ * By default, lines are written as {@code [LEVEL] message}. A {@link CompiledLayout} can be provided to the constructor for lines to
+ * be rendered by its pattern of element writers, directly into the per-thread buffer.
+ * <p>
+ * In asynchronous mode, encoded lines are placed in a bounded lock-free ring buffer, which is drained by a single background
+ * writer thread that groups lines into large writes, and flushes the {@link PrintStream} when the ring buffer is empty, and upon
+ * {@link #close()} or shutdown of the JVM. When the ring buffer is full, a line of a level at or above the {@code blockLevel}
+ * blocks until space is available, and a line of a lower level is dropped. Dropped lines are counted, and reported in the output
+ * by the writer thread.
  */
-public class PrintStreamLogger implements Logger {
-  private static final String TRACE = "[TRACE] ";
-  private static final String DEBUG = "[DEBUG] ";
-  private static final String INFO = "[INFO] ";
-  private static final String WARN = "[WARN] ";
-  private static final String ERROR = "[ERROR] ";
-
-  private final PrintStream trace;
-  private final PrintStream debug;
-  private final PrintStream info;
-  private final PrintStream warn;
-  private final PrintStream error;
+public class PrintStreamLogger implements AutoCloseable, Logger {
+  private static final String lineSeparator = System.lineSeparator();
+
+  /**
+   * A per-thread buffer into which lines are encoded.
+   */
+  static final class Buffer {
+    private static final int MAX_RETAINED_CAPACITY = 8192;
+    private static final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(Buffer::new);
+
+    /**
+     * Returns the {@link Buffer} of the current thread, or a new {@link Buffer} if the {@link Buffer} of the current thread is in
+     * use (i.e. upon reentrant invocation). The returned {@link Buffer} must be returned with {@link #release(Buffer)}.
+     *
+     * @return The {@link Buffer} of the current thread, or a new {@link Buffer} if the {@link Buffer} of the current thread is in
+     *         use.
+     */
+    static Buffer acquire() {
+      final Buffer buffer = buffers.get();
+      if (buffer == null)
+        return new Buffer();
+
+      buffers.set(null);
+      return buffer;
+    }
+
+    static void release(final Buffer buffer) {
+      if (buffer.bytes.length > MAX_RETAINED_CAPACITY)
+        buffer.bytes = new byte[MAX_RETAINED_CAPACITY];
+
+      buffers.set(buffer);
+    }
+
+    byte[] bytes = new byte[256];
+    private CharsetEncoder encoder;
+
+    /**
+     * Encodes the specified {@code prefix} and {@code chars} into this buffer.
+     *
+     * @param prefix The pre-encoded prefix.
+     * @param chars The characters to encode.
+     * @param charset The {@link Charset}.
+     * @param ascii Whether the {@link Charset} encodes ASCII characters as single bytes of the same value.
+     * @return The number of encoded bytes.
+     */
+    int encode(final byte[] prefix, final CharSequence chars, final Charset charset, final boolean ascii) {
+      final int length = chars.length();
+      int position = prefix.length;
+      if (bytes.length < position + length)
+        bytes = new byte[Math.max(bytes.length * 2, position + length)];
+
+      System.arraycopy(prefix, 0, bytes, 0, position);
+      int i = 0;
+      if (ascii)
+        for (char ch; i < length && (ch = chars.charAt(i)) < 0x80; ++i) // [N]
+          bytes[position++] = (byte)ch;
+
+      return i == length ? position : encode(chars, i, position, charset);
+    }
+
+    private int encode(final CharSequence chars, final int start, final int position, final Charset charset) {
+      if (encoder == null || !encoder.charset().equals(charset))
+        encoder = charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+      else
+        encoder.reset();
+
+      final CharBuffer in = CharBuffer.wrap(chars, start, chars.length());
+      ByteBuffer out = ByteBuffer.wrap(bytes, position, bytes.length - position);
+      for (boolean flush = false;;) { // [N]
+        final CoderResult result = flush ? encoder.flush(out) : encoder.encode(in, out, true);
+        if (result.isOverflow()) {
+          final int pos = out.position();
+          bytes = Arrays.copyOf(bytes, bytes.length * 2);
+          out = ByteBuffer.wrap(bytes, pos, bytes.length - pos);
+        }
+        else if (!flush) {
+          flush = true;
+        }
+        else {
+          return out.position();
+        }
+      }
+    }
+  }
+
+  /**
+   * The background writer of the asynchronous mode.
+   */
+  private static final class Async implements Runnable {
+    private static final int BATCH_SIZE = 8192;
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long SHUTDOWN_MILLIS = 1000;
+    private static final HashSet<Async> open = new HashSet<>();
+    private static boolean hooked;
+
+    private final PrintStream ps;
+    private final Charset charset;
+    private final RingBuffer<Object> queue;
+    private final Level blockLevel;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean waiting;
+    private volatile boolean closed;
+    private volatile long deadline;
+    private long reported;
+
+    private Async(final PrintStream ps, final Charset charset, final int capacity, final Level blockLevel) {
+      this.ps = ps;
+      this.charset = charset;
+      this.queue = new RingBuffer<>(capacity);
+      this.blockLevel = blockLevel;
+      this.thread = new Thread(this, "PrintStreamLogger-writer");
+      thread.setDaemon(true);
+      synchronized (open) {
+        if (!hooked) {
+          hooked = true;
+          Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            final ArrayList<Async> asyncs;
+            synchronized (open) {
+              asyncs = new ArrayList<>(open);
+            }
+
+            for (int i = 0, i$ = asyncs.size(); i < i$; ++i) // [L]
+              asyncs.get(i).close(SHUTDOWN_MILLIS);
+          }, "PrintStreamLogger-shutdown"));
+        }
+
+        open.add(this);
+      }
+
+      thread.start();
+    }
+
+    /**
+     * Queues the specified line for the writer thread.
+     *
+     * @param level The {@link Level} of the line.
+     * @param line The encoded {@code byte[]} line, or the {@link String} line to be encoded by the {@link PrintStream}.
+     */
+    void offer(final Level level, final Object line) {
+      if (!closed) {
+        if (queue.offer(line)) {
+          // The writer thread may have completed its final drain before the line was queued
+          if (closed)
+            drainClosed();
+          else if (waiting)
+            LockSupport.unpark(thread);
+
+          return;
+        }
+
+        if (blockLevel == null || level.toInt() < blockLevel.toInt()) {
+          dropped.incrementAndGet();
+          return;
+        }
+
+        do {
+          LockSupport.unpark(thread);
+          LockSupport.parkNanos(this, 100000);
+          if (queue.offer(line)) {
+            if (closed)
+              drainClosed();
+
+            return;
+          }
+        }
+        while (!closed);
+      }
+
+      write(line);
+    }
+
+    private void write(final Object line) {
+      if (line instanceof byte[]) {
+        final byte[] bytes = (byte[])line;
+        ps.write(bytes, 0, bytes.length);
+      }
+      else {
+        ps.print((String)line);
+      }
+    }
+
+    private void drain(final byte[] batch) {
+      int length = 0;
+      boolean written = false;
+      for (Object next; (next = queue.poll()) != null; written = true) { // [N]
+        if (!(next instanceof byte[])) {
+          if (length > 0) {
+            ps.write(batch, 0, length);
+            length = 0;
+          }
+
+          ps.print((String)next);
+          continue;
+        }
+
+        final byte[] line = (byte[])next;
+        if (length + line.length > batch.length) {
+          if (length > 0) {
+            ps.write(batch, 0, length);
+            length = 0;
+          }
+
+          if (line.length > batch.length) {
+            ps.write(line, 0, line.length);
+            continue;
+          }
+        }
+
+        System.arraycopy(line, 0, batch, length, line.length);
+        length += line.length;
+      }
+
+      if (length > 0)
+        ps.write(batch, 0, length);
+
+      final long dropped = this.dropped.get();
+      if (dropped != reported) {
+        final String line = "[WARN] " + (dropped - reported) + " log lines dropped" + lineSeparator;
+        write(charset == null ? line : line.getBytes(charset));
+        reported = dropped;
+        written = true;
+      }
+
+      if (written)
+        ps.flush();
+    }
+
+    /**
+     * Waits for the writer thread to terminate, for no longer than the remainder of the timeout of {@link #close(long)}, and writes
+     * the lines that were queued after its final drain. If the writer thread does not terminate in time, the line that was just
+     * queued is counted as dropped.
+     */
+    private void drainClosed() {
+      if (Thread.currentThread() == thread)
+        return;
+
+      try {
+        final long deadline = this.deadline;
+        if (deadline == 0)
+          thread.join();
+        else
+          TimeUnit.NANOSECONDS.timedJoin(thread, deadline - System.nanoTime());
+      }
+      catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      if (thread.isAlive()) {
+        dropped.incrementAndGet();
+        return;
+      }
+
+      synchronized (this) {
+        drain(new byte[BATCH_SIZE]);
+      }
+    }
+
+    @Override
+    public void run() {
+      final byte[] batch = new byte[BATCH_SIZE];
+      while (true) {
+        drain(batch);
+        if (closed) {
+          drain(batch);
+          return;
+        }
+
+        waiting = true;
+        if (queue.isEmpty())
+          LockSupport.parkNanos(this, IDLE_NANOS);
+
+        waiting = false;
+      }
+    }
+
+    /**
+     * Stops the writer thread after it writes all queued lines, and waits for it to terminate.
+     *
+     * @param millis The time to wait for the writer thread to terminate, in milliseconds, or {@code 0} to wait indefinitely.
+     */
+    void close(final long millis) {
+      synchronized (open) {
+        if (closed)
+          return;
+
+        deadline = millis == 0 ? 0 : System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        closed = true;
+        open.remove(this);
+      }
+
+      LockSupport.unpark(thread);
+      if (Thread.currentThread() == thread)
+        return;
+
+      try {
+        thread.join(millis);
+      }
+      catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      // Write the lines that were queued after the final drain of the writer thread
+      if (!thread.isAlive()) {
+        synchronized (this) {
+          drain(new byte[BATCH_SIZE]);
+        }
+      }
+    }
+  }
+
+  /**
+   * The output of a logging {@link Level}, with its pre-encoded prefix, or its {@link CompiledLayout}.
+   */
+  private static final class Sink {
+    private final PrintStream ps;
+    private final Charset charset;
+    private final boolean ascii;
+    private final Level level;
+    private final String name;
+    private final CompiledLayout layout;
+    private final String prefix;
+    private final byte[] encodedPrefix;
+    private final Async async;
+
+    /**
+     * Creates a new {@link Sink}.
+     *
+     * @param ps The {@link PrintStream}.
+     * @param charset The {@link Charset} with which lines are encoded, or {@code null} for the {@link Charset} to be determined from
+     *          {@code ps}, if possible.
+     * @param level The logging {@link Level}.
+     * @param name The name of the logger.
+     * @param layout The {@link CompiledLayout}, or {@code null} for the {@code [LEVEL] } prefix.
+     * @param async The {@link Async} writer, or {@code null} for lines to be written synchronously.
+     */
+    private Sink(final PrintStream ps, final Charset charset, final Level level, final String name, final CompiledLayout layout, final Async async) {
+      this.ps = ps;
+      this.charset = charset != null ? charset : charset(ps);
+      this.ascii = this.charset != null && isAsciiCompatible(this.charset);
+      this.level = level;
+      this.name = name;
+      this.layout = layout;
+      this.prefix = layout != null ? "" : "[" + level + "] ";
+      this.encodedPrefix = this.charset == null ? null : prefix.getBytes(this.charset);
+      this.async = async;
+    }
+
+    private StringBuilder head(final StringBuilder builder) {
+      return layout == null ? builder : layout.renderHead(builder, level, name);
+    }
+
+    private StringBuilder tail(final StringBuilder builder) {
+      return layout == null ? builder.append(lineSeparator) : layout.renderTail(builder, level, name);
+    }
+
+    private void write(final StringBuilder builder) {
+      emit(tail(builder));
+    }
+
+    private void emit(final StringBuilder builder) {
+      if (charset == null) {
+        final String line = builder.insert(0, prefix).toString();
+        if (async != null)
+          async.offer(level, line);
+        else
+          ps.print(line);
+
+        return;
+      }
+
+      final Buffer buffer = Buffer.acquire();
+      try {
+        final int length = buffer.encode(encodedPrefix, builder, charset, ascii);
+        if (async != null)
+          async.offer(level, Arrays.copyOf(buffer.bytes, length));
+        else
+          ps.write(buffer.bytes, 0, length);
+      }
+      finally {
+        Buffer.release(buffer);
+      }
+    }
+
+    void println(final String msg) {
+      final StringBuilder builder = MessageFormatter.acquireBuilder();
+      try {
+        write(head(builder).append(msg));
+      }
+      finally {
+        MessageFormatter.releaseBuilder(builder);
+      }
+    }
+
+    void println(final String format, final Object arg) {
+      final StringBuilder builder = MessageFormatter.acquireBuilder();
+      try {
+        write(MessageFormatter.format(head(builder), format, arg));
+      }
+      finally {
+        MessageFormatter.releaseBuilder(builder);
+      }
+    }
+
+    void println(final String format, final Object arg1, final Object arg2) {
+      final StringBuilder builder = MessageFormatter.acquireBuilder();
+      try {
+        write(MessageFormatter.format(head(builder), format, arg1, arg2));
+      }
+      finally {
+        MessageFormatter.releaseBuilder(builder);
+      }
+    }
+
+    void println(final String format, final Object[] arguments) {
+      final StringBuilder builder = MessageFormatter.acquireBuilder();
+      try {
+        write(MessageFormatter.format(head(builder), format, arguments));
+      }
+      finally {
+        MessageFormatter.releaseBuilder(builder);
+      }
+    }
+
+    void println(final String msg, final Throwable t) {
+      if (t == null) {
+        println(msg);
+      }
+      else if (async != null) {
+        final StringWriter out = new StringWriter();
+        t.printStackTrace(new PrintWriter(out));
+        final StringBuilder builder = MessageFormatter.acquireBuilder();
+        try {
+          emit(tail(head(builder).append(msg)).append(out.getBuffer()));
+        }
+        finally {
+          MessageFormatter.releaseBuilder(builder);
+        }
+      }
+      else {
+        synchronized (ps) {
+          println(msg);
+          t.printStackTrace(ps);
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the {@link Charset} of the specified {@link PrintStream}, if it is {@link System#out} or {@link System#err}.
+   *
+   * @param ps The {@link PrintStream}.
+   * @return The {@link Charset} of the specified {@link PrintStream}, or {@code null} if it cannot be determined.
+   */
+  private static Charset charset(final PrintStream ps) {
+    if (ps != System.out && ps != System.err)
+      return null;
+
+    final String name = ps == System.out ? System.getProperty("stdout.encoding", System.getProperty("sun.stdout.encoding")) : System.getProperty("stderr.encoding", System.getProperty("sun.stderr.encoding"));
+    if (name != null) {
+      try {
+        return Charset.forName(name);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    return Charset.defaultCharset();
+  }
+
+  private static boolean isAsciiCompatible(final Charset charset) {
+    final byte[] bytes = new byte[0x80];
+    for (int i = 0; i < bytes.length; ++i) // [A]
+      bytes[i] = (byte)i;
+
+    return Arrays.equals(bytes, new String(bytes, StandardCharsets.US_ASCII).getBytes(charset));
+  }
+
+  private final Sink trace;
+  private final Sink debug;
+  private final Sink info;
+  private final Sink warn;
+  private final Sink error;
   private final Level level;
+  private final String name;
+  private final Async async;
+
+  private static int checkCapacity(final int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be positive");
+
+    return capacity;
+  }
+
+  private static CompiledLayout checkLayout(final CompiledLayout layout) {
+    if (!Objects.requireNonNull(layout, "layout is null").hasMessage())
+      throw new IllegalArgumentException("layout (" + layout + ") must contain %msg");
+
+    return layout;
+  }
+
+  private PrintStreamLogger(final String name, final Level level, final PrintStream trace, final PrintStream debug, final PrintStream info, final PrintStream warn, final PrintStream error, final Charset charset, final CompiledLayout layout, final int capacity, final Level blockLevel) {
+    this.name = name;
+    this.level = level;
+    if (capacity < 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be non-negative");
+
+    this.async = capacity == 0 ? null : new Async(trace, charset != null ? charset : charset(trace), capacity, blockLevel);
+    this.trace = new Sink(trace, charset, Level.TRACE, name, layout, async);
+    this.debug = new Sink(debug, charset, Level.DEBUG, name, layout, async);
+    this.info = new Sink(info, charset, Level.INFO, name, layout, async);
+    this.warn = new Sink(warn, charset, Level.WARN, name, layout, async);
+    this.error = new Sink(error, charset, Level.ERROR, name, layout, async);
+  }
 
   /**
    * Constructs a new {@link PrintStreamLogger} with the provided logging {@link Level} to be used with this logger, and the given
@@ -53,12 +586,37 @@ public class PrintStreamLogger implements Logger {
    * @throws NullPointerException If any argument is null.
    */
   public PrintStreamLogger(final Level level, final PrintStream trace, final PrintStream debug, final PrintStream info, final PrintStream warn, final PrintStream error) {
-    this.level = Objects.requireNonNull(level, "level is null");
-    this.trace = Objects.requireNonNull(trace, "trace is null");
-    this.debug = Objects.requireNonNull(debug, "debug is null");
-    this.info = Objects.requireNonNull(info, "info is null");
-    this.warn = Objects.requireNonNull(warn, "warn is null");
-    this.error = Objects.requireNonNull(error, "error is null");
+    this(ROOT_LOGGER_NAME, Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(trace, "trace is null"), Objects.requireNonNull(debug, "debug is null"), Objects.requireNonNull(info, "info is null"), Objects.requireNonNull(warn, "warn is null"), Objects.requireNonNull(error, "error is null"), null, null, 0, null);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided logging {@link Level} to be used with this logger, and the given
+   * {@link PrintStream}s to apply to each individual logging {@link Level}, with lines encoded by the given {@link Charset}.
+   *
+   * @param level The logging {@link Level}.
+   * @param trace The {@link PrintStream} to be used for {@link Level#TRACE}.
+   * @param debug The {@link PrintStream} to be used for {@link Level#DEBUG}.
+   * @param info The {@link PrintStream} to be used for {@link Level#INFO}.
+   * @param warn The {@link PrintStream} to be used for {@link Level#WARN}.
+   * @param error The {@link PrintStream} to be used for {@link Level#ERROR}.
+   * @param charset The {@link Charset} with which lines are encoded.
+   * @throws NullPointerException If any argument is null.
+   */
+  public PrintStreamLogger(final Level level, final PrintStream trace, final PrintStream debug, final PrintStream info, final PrintStream warn, final PrintStream error, final Charset charset) {
+    this(ROOT_LOGGER_NAME, Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(trace, "trace is null"), Objects.requireNonNull(debug, "debug is null"), Objects.requireNonNull(info, "info is null"), Objects.requireNonNull(warn, "warn is null"), Objects.requireNonNull(error, "error is null"), Objects.requireNonNull(charset, "charset is null"), null, 0, null);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided logging {@link Level} to be used with this logger, and the given
+   * {@link PrintStream} to apply to all logging {@link Level}s, with lines encoded by the given {@link Charset}.
+   *
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded.
+   * @throws NullPointerException If any argument is null.
+   */
+  public PrintStreamLogger(final Level level, final PrintStream ps, final Charset charset) {
+    this(level, ps, ps, ps, ps, ps, charset);
   }
 
   /**
@@ -70,8 +628,116 @@ public class PrintStreamLogger implements Logger {
    * @throws NullPointerException If any argument is null.
    */
   public PrintStreamLogger(final Level level, final PrintStream ps) {
-    this.level = Objects.requireNonNull(level, "level is null");
-    this.trace = this.debug = this.info = this.warn = this.error = Objects.requireNonNull(ps, "ps is null");
+    this(level, ps, ps, ps, ps, ps);
+  }
+
+  /**
+   * Constructs a new asynchronous {@link PrintStreamLogger} with the provided logging {@link Level} to be used with this logger, and
+   * the given {@link PrintStream} to apply to all logging {@link Level}s, which is written by a background writer thread.
+   *
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param capacity The number of lines that can be queued for the writer thread, which is rounded up to a power of 2.
+   * @param blockLevel The {@link Level} at or above which lines block when the queue is full, and below which lines are dropped, or
+   *          {@code null} for all lines to be dropped when the queue is full.
+   * @throws NullPointerException If {@code level} or {@code ps} is null.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public PrintStreamLogger(final Level level, final PrintStream ps, final int capacity, final Level blockLevel) {
+    this(ROOT_LOGGER_NAME, Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(ps, "ps is null"), ps, ps, ps, ps, null, null, checkCapacity(capacity), blockLevel);
+  }
+
+  /**
+   * Constructs a new asynchronous {@link PrintStreamLogger} with the provided logging {@link Level} to be used with this logger, and
+   * the given {@link PrintStream} to apply to all logging {@link Level}s, which is written by a background writer thread, with lines
+   * encoded by the given {@link Charset}.
+   *
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded.
+   * @param capacity The number of lines that can be queued for the writer thread, which is rounded up to a power of 2.
+   * @param blockLevel The {@link Level} at or above which lines block when the queue is full, and below which lines are dropped, or
+   *          {@code null} for all lines to be dropped when the queue is full.
+   * @throws NullPointerException If {@code level}, {@code ps}, or {@code charset} is null.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  public PrintStreamLogger(final Level level, final PrintStream ps, final Charset charset, final int capacity, final Level blockLevel) {
+    this(ROOT_LOGGER_NAME, Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(ps, "ps is null"), ps, ps, ps, ps, Objects.requireNonNull(charset, "charset is null"), null, checkCapacity(capacity), blockLevel);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided name and logging {@link Level} to be used with this logger, and the
+   * given {@link PrintStream} to apply to all logging {@link Level}s, with lines rendered by the given {@link CompiledLayout}.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If any argument is null.
+   * @throws IllegalArgumentException If the pattern of {@code layout} does not contain the message conversion word.
+   */
+  public PrintStreamLogger(final String name, final Level level, final PrintStream ps, final CompiledLayout layout) {
+    this(name, level, ps, layout, 0, null);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided name and logging {@link Level} to be used with this logger, and the
+   * given {@link PrintStream} to apply to all logging {@link Level}s, with lines rendered by the given {@link CompiledLayout}, and
+   * encoded by the given {@link Charset}.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If any argument is null.
+   * @throws IllegalArgumentException If the pattern of {@code layout} does not contain the message conversion word.
+   */
+  public PrintStreamLogger(final String name, final Level level, final PrintStream ps, final Charset charset, final CompiledLayout layout) {
+    this(name, level, ps, charset, layout, 0, null);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided name and logging {@link Level} to be used with this logger, and the
+   * given {@link PrintStream} to apply to all logging {@link Level}s, with lines rendered by the given {@link CompiledLayout}, and
+   * written by a background writer thread if {@code capacity} is positive.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @param capacity The number of lines that can be queued for the writer thread, which is rounded up to a power of 2, or {@code 0}
+   *          for lines to be written synchronously.
+   * @param blockLevel The {@link Level} at or above which lines block when the queue is full, and below which lines are dropped, or
+   *          {@code null} for all lines to be dropped when the queue is full.
+   * @throws NullPointerException If {@code name}, {@code level}, {@code ps}, or {@code layout} is null.
+   * @throws IllegalArgumentException If the pattern of {@code layout} does not contain the message conversion word, or if
+   *           {@code capacity} is negative.
+   */
+  public PrintStreamLogger(final String name, final Level level, final PrintStream ps, final CompiledLayout layout, final int capacity, final Level blockLevel) {
+    this(Objects.requireNonNull(name, "name is null"), Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(ps, "ps is null"), ps, ps, ps, ps, null, checkLayout(layout), capacity, blockLevel);
+  }
+
+  /**
+   * Constructs a new {@link PrintStreamLogger} with the provided name and logging {@link Level} to be used with this logger, and the
+   * given {@link PrintStream} to apply to all logging {@link Level}s, with lines rendered by the given {@link CompiledLayout}, encoded
+   * by the given {@link Charset}, and written by a background writer thread if {@code capacity} is positive.
+   *
+   * @param name The name of this logger.
+   * @param level The logging {@link Level}.
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @param capacity The number of lines that can be queued for the writer thread, which is rounded up to a power of 2, or {@code 0}
+   *          for lines to be written synchronously.
+   * @param blockLevel The {@link Level} at or above which lines block when the queue is full, and below which lines are dropped, or
+   *          {@code null} for all lines to be dropped when the queue is full.
+   * @throws NullPointerException If {@code name}, {@code level}, {@code ps}, {@code charset}, or {@code layout} is null.
+   * @throws IllegalArgumentException If the pattern of {@code layout} does not contain the message conversion word, or if
+   *           {@code capacity} is negative.
+   */
+  public PrintStreamLogger(final String name, final Level level, final PrintStream ps, final Charset charset, final CompiledLayout layout, final int capacity, final Level blockLevel) {
+    this(Objects.requireNonNull(name, "name is null"), Objects.requireNonNull(level, "level is null"), Objects.requireNonNull(ps, "ps is null"), ps, ps, ps, ps, Objects.requireNonNull(charset, "charset is null"), checkLayout(layout), capacity, blockLevel);
   }
 
   /**
@@ -82,8 +748,7 @@ public class PrintStreamLogger implements Logger {
    * @throws NullPointerException If {@code level} is null.
    */
   public PrintStreamLogger(final Level level) {
-    this.level = Objects.requireNonNull(level, "level is null");
-    this.trace = this.debug = this.info = this.warn = this.error = System.out;
+    this(level, System.out);
   }
 
   /**
@@ -91,13 +756,33 @@ public class PrintStreamLogger implements Logger {
    * System.out} as the {@link PrintStream} for all logging {@link Level}s.
    */
   public PrintStreamLogger() {
-    this.level = Level.INFO;
-    this.trace = this.debug = this.info = this.warn = this.error = System.out;
+    this(Level.INFO);
+  }
+
+  /**
+   * Returns the number of lines that were dropped because the queue of the asynchronous mode was full.
+   *
+   * @return The number of lines that were dropped because the queue of the asynchronous mode was full, or {@code 0} if this
+   *         {@link PrintStreamLogger} is not asynchronous.
+   */
+  public long getDroppedCount() {
+    return async == null ? 0 : async.dropped.get();
+  }
+
+  /**
+   * Writes all queued lines, flushes the {@link PrintStream}, and stops the writer thread of the asynchronous mode. Lines logged
+   * thereafter are written synchronously. This method has no effect if this {@link PrintStreamLogger} is not asynchronous. The
+   * {@link PrintStream} is not closed.
+   */
+  @Override
+  public void close() {
+    if (async != null)
+      async.close(0);
   }
 
   @Override
   public String getName() {
-    return ROOT_LOGGER_NAME;
+    return name;
   }
 
   @Override
@@ -108,33 +793,31 @@ public class PrintStreamLogger implements Logger {
   @Override
   public void trace(final String msg) {
     if (isTraceEnabled())
-      trace.println(TRACE + msg);
+      trace.println(msg);
   }
 
   @Override
   public void trace(final String format, final Object arg) {
     if (isTraceEnabled())
-      trace.println(TRACE + String.format(format, arg));
+      trace.println(format, arg);
   }
 
   @Override
   public void trace(final String format, final Object arg1, final Object arg2) {
     if (isTraceEnabled())
-      trace.println(TRACE + String.format(format, arg1, arg2));
+      trace.println(format, arg1, arg2);
   }
 
   @Override
   public void trace(final String format, final Object ... arguments) {
     if (isTraceEnabled())
-      trace.println(TRACE + String.format(format, arguments));
+      trace.println(format, arguments);
   }
 
   @Override
   public void trace(final String msg, final Throwable t) {
-    if (isTraceEnabled()) {
-      trace.println(TRACE + msg);
-      t.printStackTrace(trace);
-    }
+    if (isTraceEnabled())
+      trace.println(msg, t);
   }
 
   @Override
@@ -175,33 +858,31 @@ public class PrintStreamLogger implements Logger {
   @Override
   public void debug(final String msg) {
     if (isDebugEnabled())
-      debug.println(DEBUG + msg);
+      debug.println(msg);
   }
 
   @Override
   public void debug(final String format, final Object arg) {
     if (isDebugEnabled())
-      debug.println(DEBUG + String.format(format, arg));
+      debug.println(format, arg);
   }
 
   @Override
   public void debug(final String format, final Object arg1, final Object arg2) {
     if (isDebugEnabled())
-      debug.println(DEBUG + String.format(format, arg1, arg2));
+      debug.println(format, arg1, arg2);
   }
 
   @Override
   public void debug(final String format, final Object ... arguments) {
     if (isDebugEnabled())
-      debug.println(DEBUG + String.format(format, arguments));
+      debug.println(format, arguments);
   }
 
   @Override
   public void debug(final String msg, final Throwable t) {
-    if (isDebugEnabled()) {
-      debug.println(DEBUG + msg);
-      t.printStackTrace(debug);
-    }
+    if (isDebugEnabled())
+      debug.println(msg, t);
   }
 
   @Override
@@ -242,33 +923,31 @@ public class PrintStreamLogger implements Logger {
   @Override
   public void info(final String msg) {
     if (isInfoEnabled())
-      info.println(INFO + msg);
+      info.println(msg);
   }
 
   @Override
   public void info(final String format, final Object arg) {
     if (isInfoEnabled())
-      info.println(INFO + String.format(format, arg));
+      info.println(format, arg);
   }
 
   @Override
   public void info(final String format, final Object arg1, final Object arg2) {
     if (isInfoEnabled())
-      info.println(INFO + String.format(format, arg1, arg2));
+      info.println(format, arg1, arg2);
   }
 
   @Override
   public void info(final String format, final Object ... arguments) {
     if (isInfoEnabled())
-      info.println(INFO + String.format(format, arguments));
+      info.println(format, arguments);
   }
 
   @Override
   public void info(final String msg, final Throwable t) {
-    if (isInfoEnabled()) {
-      info.println(INFO + msg);
-      t.printStackTrace(info);
-    }
+    if (isInfoEnabled())
+      info.println(msg, t);
   }
 
   @Override
@@ -309,33 +988,31 @@ public class PrintStreamLogger implements Logger {
   @Override
   public void warn(final String msg) {
     if (isWarnEnabled())
-      warn.println(WARN + msg);
+      warn.println(msg);
   }
 
   @Override
   public void warn(final String format, final Object arg) {
     if (isWarnEnabled())
-      warn.println(WARN + String.format(format, arg));
+      warn.println(format, arg);
   }
 
   @Override
   public void warn(final String format, final Object arg1, final Object arg2) {
     if (isWarnEnabled())
-      warn.println(WARN + String.format(format, arg1, arg2));
+      warn.println(format, arg1, arg2);
   }
 
   @Override
   public void warn(final String format, final Object ... arguments) {
     if (isWarnEnabled())
-      warn.println(WARN + String.format(format, arguments));
+      warn.println(format, arguments);
   }
 
   @Override
   public void warn(final String msg, final Throwable t) {
-    if (isWarnEnabled()) {
-      warn.println(WARN + msg);
-      t.printStackTrace(warn);
-    }
+    if (isWarnEnabled())
+      warn.println(msg, t);
   }
 
   @Override
@@ -376,33 +1053,31 @@ public class PrintStreamLogger implements Logger {
   @Override
   public void error(final String msg) {
     if (isErrorEnabled())
-      error.println(ERROR + msg);
+      error.println(msg);
   }
 
   @Override
   public void error(final String format, final Object arg) {
     if (isErrorEnabled())
-      error.println(ERROR + String.format(format, arg));
+      error.println(format, arg);
   }
 
   @Override
   public void error(final String format, final Object arg1, final Object arg2) {
     if (isErrorEnabled())
-      error.println(ERROR + String.format(format, arg1, arg2));
+      error.println(format, arg1, arg2);
   }
 
   @Override
   public void error(final String format, final Object ... arguments) {
     if (isErrorEnabled())
-      error.println(ERROR + String.format(format, arguments));
+      error.println(format, arguments);
   }
 
   @Override
   public void error(final String msg, final Throwable t) {
-    if (isErrorEnabled()) {
-      error.println(ERROR + msg);
-      t.printStackTrace(error);
-    }
+    if (isErrorEnabled())
+      error.println(msg, t);
   }
 
   @Override
@@ -0,0 +1,216 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * A lightweight {@link ILoggerFactory} of named {@link PrintStreamLogger}s, for short-lived processes for which the startup cost of
+ * a full logging backend is significant. Loggers are created on first request and cached in a flat map, and involve no XML or
+ * reflection.
+ * <p>
+ * The level of each logger is resolved hierarchically from properties of the form:
+ *
+ * <pre>
+ * org.libj.logging.level=WARN
+ * org.libj.logging.level.com.example=DEBUG
+ * org.libj.logging.level.com.example.noisy=OFF
+ * </pre>
+ *
+ * The level of a logger is that of the property of its name, or of the nearest ancestor name, or otherwise {@link Level#INFO}. The
+ * level {@code OFF} yields a {@link NoopLogger}. With the {@link #PrintStreamLoggerFactory(PrintStream,CompiledLayout)} constructor,
+ * the properties are read from the file specified by the {@value #CONFIG} system property, if present, and from the system
+ * properties, which take precedence.
+ */
+public class PrintStreamLoggerFactory implements ILoggerFactory {
+  /** The name of the system property that specifies the path of the properties file. */
+  public static final String CONFIG = "org.libj.logging.config";
+
+  /** The prefix of the properties that specify the levels of loggers. */
+  public static final String LEVEL = "org.libj.logging.level";
+
+  /** The default pattern of the {@link CompiledLayout} of the loggers. */
+  public static final String DEFAULT_PATTERN = "[%level] %logger - %msg%n";
+
+  private static final NoopLogger noopLogger = new NoopLogger();
+
+  private static Properties loadProperties() {
+    final Properties properties = new Properties();
+    final String config = System.getProperty(CONFIG);
+    if (config != null) {
+      try (final InputStream in = new FileInputStream(config)) {
+        properties.load(in);
+      }
+      catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    properties.putAll(System.getProperties());
+    return properties;
+  }
+
+  private final ConcurrentHashMap<String,Logger> loggers = new ConcurrentHashMap<>();
+  private final HashMap<String,Level> levels = new HashMap<>();
+  private final PrintStream ps;
+  private final Charset charset;
+  private final CompiledLayout layout;
+
+  /**
+   * Creates a new {@link PrintStreamLoggerFactory} with the levels of loggers specified by the provided {@link Properties}, and
+   * loggers that write to the given {@link PrintStream} with the given {@link CompiledLayout}.
+   *
+   * @param properties The {@link Properties} that specify the levels of loggers.
+   * @param ps The {@link PrintStream}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If any argument is null.
+   * @throws IllegalArgumentException If a level property specifies an unknown level, or if the pattern of {@code layout} does not
+   *           contain the message conversion word.
+   */
+  public PrintStreamLoggerFactory(final Properties properties, final PrintStream ps, final CompiledLayout layout) {
+    this(properties, ps, null, layout);
+  }
+
+  /**
+   * Creates a new {@link PrintStreamLoggerFactory} with the levels of loggers specified by the provided {@link Properties}, and
+   * loggers that write to the given {@link PrintStream} with the given {@link CompiledLayout}, with lines encoded by the given
+   * {@link Charset}.
+   *
+   * @param properties The {@link Properties} that specify the levels of loggers.
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded, or {@code null} for lines to be encoded as described in
+   *          {@link PrintStreamLogger}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If {@code properties}, {@code ps}, or {@code layout} is null.
+   * @throws IllegalArgumentException If a level property specifies an unknown level, or if the pattern of {@code layout} does not
+   *           contain the message conversion word.
+   */
+  public PrintStreamLoggerFactory(final Properties properties, final PrintStream ps, final Charset charset, final CompiledLayout layout) {
+    this.ps = Objects.requireNonNull(ps, "ps is null");
+    this.charset = charset;
+    if (!Objects.requireNonNull(layout, "layout is null").hasMessage())
+      throw new IllegalArgumentException("layout (" + layout + ") must contain %msg");
+
+    this.layout = layout;
+    for (final String key : Objects.requireNonNull(properties, "properties is null").stringPropertyNames()) { // [S]
+      if (key.startsWith(LEVEL) && (key.length() == LEVEL.length() || key.charAt(LEVEL.length()) == '.'))
+        levels.put(key.length() == LEVEL.length() ? "" : key.substring(LEVEL.length() + 1), toLevel(key, properties.getProperty(key)));
+    }
+  }
+
+  /**
+   * Creates a new {@link PrintStreamLoggerFactory} with the levels of loggers specified by the properties file of the {@value #CONFIG}
+   * system property, if present, and by the system properties, and loggers that write to the given {@link PrintStream} with the
+   * given {@link CompiledLayout}.
+   *
+   * @param ps The {@link PrintStream}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If any argument is null.
+   * @throws IllegalArgumentException If a level property specifies an unknown level, or if the pattern of {@code layout} does not
+   *           contain the message conversion word.
+   * @throws UncheckedIOException If an I/O error has occurred reading the properties file.
+   */
+  public PrintStreamLoggerFactory(final PrintStream ps, final CompiledLayout layout) {
+    this(loadProperties(), ps, null, layout);
+  }
+
+  /**
+   * Creates a new {@link PrintStreamLoggerFactory} with the levels of loggers specified by the properties file of the {@value #CONFIG}
+   * system property, if present, and by the system properties, and loggers that write to the given {@link PrintStream} with the
+   * given {@link CompiledLayout}, with lines encoded by the given {@link Charset}.
+   *
+   * @param ps The {@link PrintStream}.
+   * @param charset The {@link Charset} with which lines are encoded, or {@code null} for lines to be encoded as described in
+   *          {@link PrintStreamLogger}.
+   * @param layout The {@link CompiledLayout} by which lines are rendered.
+   * @throws NullPointerException If {@code ps} or {@code layout} is null.
+   * @throws IllegalArgumentException If a level property specifies an unknown level, or if the pattern of {@code layout} does not
+   *           contain the message conversion word.
+   * @throws UncheckedIOException If an I/O error has occurred reading the properties file.
+   */
+  public PrintStreamLoggerFactory(final PrintStream ps, final Charset charset, final CompiledLayout layout) {
+    this(loadProperties(), ps, charset, layout);
+  }
+
+  /**
+   * Creates a new {@link PrintStreamLoggerFactory} with the levels of loggers specified by the properties file of the {@value #CONFIG}
+   * system property, if present, and by the system properties, and loggers that write to {@link System#err System.err} with the
+   * {@value #DEFAULT_PATTERN} pattern.
+   *
+   * @throws IllegalArgumentException If a level property specifies an unknown level.
+   * @throws UncheckedIOException If an I/O error has occurred reading the properties file.
+   */
+  public PrintStreamLoggerFactory() {
+    this(System.err, new CompiledLayout(DEFAULT_PATTERN));
+  }
+
+  private static Level toLevel(final String key, final String value) {
+    final String name = value.trim().toUpperCase(Locale.ROOT);
+    if ("OFF".equals(name))
+      return null;
+
+    try {
+      return Level.valueOf(name);
+    }
+    catch (final IllegalArgumentException e) {
+      throw new IllegalArgumentException("Unknown level \"" + value + "\" of property " + key);
+    }
+  }
+
+  /**
+   * Returns the {@link Level} of the logger with the specified name, which is that of the nearest configured name in its hierarchy.
+   *
+   * @param name The name of the logger.
+   * @return The {@link Level} of the logger with the specified name, or {@code null} if the logger is {@code OFF}.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public Level getLevel(final String name) {
+    for (String key = Logger.ROOT_LOGGER_NAME.equals(name) ? "" : name;;) { // [N]
+      if (levels.containsKey(key))
+        return levels.get(key);
+
+      if (key.length() == 0)
+        return Level.INFO;
+
+      final int dot = key.lastIndexOf('.');
+      key = dot == -1 ? "" : key.substring(0, dot);
+    }
+  }
+
+  @Override
+  public Logger getLogger(final String name) {
+    final Logger logger = loggers.get(name);
+    return logger != null ? logger : loggers.computeIfAbsent(name, (final String key) -> {
+      final Level level = getLevel(key);
+      return level == null ? noopLogger : charset == null ? new PrintStreamLogger(key, level, ps, layout) : new PrintStreamLogger(key, level, ps, charset, layout);
+    });
+  }
+}
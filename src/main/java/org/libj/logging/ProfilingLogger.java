@@ -0,0 +1,756 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.ToLongFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+/**
+ * A {@link DelegateLogger} that measures the time spent in the logging calls to its target {@link Logger} with
+ * {@link System#nanoTime()}, for a configurable fraction of randomly sampled calls that are enabled in the target, and records
+ * the durations into a {@link LatencyHistogram} per {@link Level}. The histograms are exposed by {@link #getHistogram(Level)},
+ * and through JMX by way of {@link ProfilingLoggerMXBean}.
+ *
+ * @see ProfilingLoggerFactory
+ */
+public class ProfilingLogger extends DelegateLogger implements ProfilingLoggerMXBean {
+  private static final Level[] levels = Level.values();
+  private static final int ERROR = Level.ERROR.ordinal();
+  private static final int WARN = Level.WARN.ordinal();
+  private static final int INFO = Level.INFO.ordinal();
+  private static final int DEBUG = Level.DEBUG.ordinal();
+  private static final int TRACE = Level.TRACE.ordinal();
+
+  private final LatencyHistogram[] histograms = new LatencyHistogram[levels.length];
+  private final long threshold;
+
+  /**
+   * Creates a new {@link ProfilingLogger} with the specified target {@link Logger}, which measures the specified fraction of calls.
+   *
+   * @param target The target {@link Logger}.
+   * @param fraction The fraction of calls to measure, between {@code 0} and {@code 1}.
+   * @throws NullPointerException If {@code target} is null.
+   * @throws IllegalArgumentException If {@code fraction} is not between {@code 0} and {@code 1}.
+   */
+  public ProfilingLogger(final Logger target, final double fraction) {
+    super(target);
+    if (!(fraction >= 0 && fraction <= 1))
+      throw new IllegalArgumentException("fraction (" + fraction + ") must be between 0 and 1");
+
+    this.threshold = (long)(fraction * (1L << 32));
+    for (int i = 0; i < histograms.length; ++i) // [A]
+      histograms[i] = new LatencyHistogram();
+  }
+
+  /**
+   * Returns the {@link LatencyHistogram} of the durations of the sampled calls of the specified {@link Level}, in nanoseconds.
+   *
+   * @param level The {@link Level}.
+   * @return The {@link LatencyHistogram} of the durations of the sampled calls of the specified {@link Level}.
+   * @throws NullPointerException If {@code level} is null.
+   */
+  public LatencyHistogram getHistogram(final Level level) {
+    return histograms[level.ordinal()];
+  }
+
+  private Map<String,Long> toMap(final ToLongFunction<LatencyHistogram> function) {
+    final LinkedHashMap<String,Long> map = new LinkedHashMap<>();
+    for (int i = 0; i < histograms.length; ++i) // [A]
+      map.put(levels[i].toString(), function.applyAsLong(histograms[i]));
+
+    return Collections.unmodifiableMap(map);
+  }
+
+  @Override
+  public Map<String,Long> getCounts() {
+    return toMap(LatencyHistogram::getCount);
+  }
+
+  @Override
+  public Map<String,Long> getP50() {
+    return toMap(h -> h.getValueAtPercentile(50));
+  }
+
+  @Override
+  public Map<String,Long> getP99() {
+    return toMap(h -> h.getValueAtPercentile(99));
+  }
+
+  @Override
+  public Map<String,Long> getP999() {
+    return toMap(h -> h.getValueAtPercentile(99.9));
+  }
+
+  @Override
+  public Map<String,Long> getMax() {
+    return toMap(LatencyHistogram::getMax);
+  }
+
+  @Override
+  public void reset() {
+    for (final LatencyHistogram histogram : histograms) // [A]
+      histogram.reset();
+  }
+
+  private boolean sample() {
+    return threshold != 0 && (ThreadLocalRandom.current().nextInt() & 0xFFFFFFFFL) < threshold;
+  }
+
+  private boolean sample(final int level) {
+    if (!sample())
+      return false;
+
+    // Calls that are disabled in the target are not recorded, so as to not skew the histograms with no-op durations
+    if (level == TRACE)
+      return target.isTraceEnabled();
+    if (level == DEBUG)
+      return target.isDebugEnabled();
+    if (level == INFO)
+      return target.isInfoEnabled();
+    if (level == WARN)
+      return target.isWarnEnabled();
+
+    return target.isErrorEnabled();
+  }
+
+  private boolean sample(final int level, final Marker marker) {
+    if (!sample())
+      return false;
+
+    if (level == TRACE)
+      return target.isTraceEnabled(marker);
+    if (level == DEBUG)
+      return target.isDebugEnabled(marker);
+    if (level == INFO)
+      return target.isInfoEnabled(marker);
+    if (level == WARN)
+      return target.isWarnEnabled(marker);
+
+    return target.isErrorEnabled(marker);
+  }
+
+  private void record(final int level, final long start) {
+    histograms[level].record(System.nanoTime() - start);
+  }
+
+  @Override
+  public void trace(final String msg) {
+    if (sample(TRACE)) {
+      final long start = System.nanoTime();
+      target.trace(msg);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(msg);
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object arg) {
+    if (sample(TRACE)) {
+      final long start = System.nanoTime();
+      target.trace(format, arg);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(format, arg);
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object arg1, final Object arg2) {
+    if (sample(TRACE)) {
+      final long start = System.nanoTime();
+      target.trace(format, arg1, arg2);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void trace(final String format, final Object ... arguments) {
+    if (sample(TRACE)) {
+      final long start = System.nanoTime();
+      target.trace(format, arguments);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(format, arguments);
+    }
+  }
+
+  @Override
+  public void trace(final String msg, final Throwable t) {
+    if (sample(TRACE)) {
+      final long start = System.nanoTime();
+      target.trace(msg, t);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(msg, t);
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg) {
+    if (sample(TRACE, marker)) {
+      final long start = System.nanoTime();
+      target.trace(marker, msg);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(marker, msg);
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg) {
+    if (sample(TRACE, marker)) {
+      final long start = System.nanoTime();
+      target.trace(marker, format, arg);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(marker, format, arg);
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (sample(TRACE, marker)) {
+      final long start = System.nanoTime();
+      target.trace(marker, format, arg1, arg2);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(marker, format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String format, final Object ... argArray) {
+    if (sample(TRACE, marker)) {
+      final long start = System.nanoTime();
+      target.trace(marker, format, argArray);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(marker, format, argArray);
+    }
+  }
+
+  @Override
+  public void trace(final Marker marker, final String msg, final Throwable t) {
+    if (sample(TRACE, marker)) {
+      final long start = System.nanoTime();
+      target.trace(marker, msg, t);
+      record(TRACE, start);
+    }
+    else {
+      target.trace(marker, msg, t);
+    }
+  }
+
+  @Override
+  public void debug(final String msg) {
+    if (sample(DEBUG)) {
+      final long start = System.nanoTime();
+      target.debug(msg);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(msg);
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object arg) {
+    if (sample(DEBUG)) {
+      final long start = System.nanoTime();
+      target.debug(format, arg);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(format, arg);
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object arg1, final Object arg2) {
+    if (sample(DEBUG)) {
+      final long start = System.nanoTime();
+      target.debug(format, arg1, arg2);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void debug(final String format, final Object ... arguments) {
+    if (sample(DEBUG)) {
+      final long start = System.nanoTime();
+      target.debug(format, arguments);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(format, arguments);
+    }
+  }
+
+  @Override
+  public void debug(final String msg, final Throwable t) {
+    if (sample(DEBUG)) {
+      final long start = System.nanoTime();
+      target.debug(msg, t);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(msg, t);
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg) {
+    if (sample(DEBUG, marker)) {
+      final long start = System.nanoTime();
+      target.debug(marker, msg);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(marker, msg);
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg) {
+    if (sample(DEBUG, marker)) {
+      final long start = System.nanoTime();
+      target.debug(marker, format, arg);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(marker, format, arg);
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (sample(DEBUG, marker)) {
+      final long start = System.nanoTime();
+      target.debug(marker, format, arg1, arg2);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(marker, format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String format, final Object ... argArray) {
+    if (sample(DEBUG, marker)) {
+      final long start = System.nanoTime();
+      target.debug(marker, format, argArray);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(marker, format, argArray);
+    }
+  }
+
+  @Override
+  public void debug(final Marker marker, final String msg, final Throwable t) {
+    if (sample(DEBUG, marker)) {
+      final long start = System.nanoTime();
+      target.debug(marker, msg, t);
+      record(DEBUG, start);
+    }
+    else {
+      target.debug(marker, msg, t);
+    }
+  }
+
+  @Override
+  public void info(final String msg) {
+    if (sample(INFO)) {
+      final long start = System.nanoTime();
+      target.info(msg);
+      record(INFO, start);
+    }
+    else {
+      target.info(msg);
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object arg) {
+    if (sample(INFO)) {
+      final long start = System.nanoTime();
+      target.info(format, arg);
+      record(INFO, start);
+    }
+    else {
+      target.info(format, arg);
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object arg1, final Object arg2) {
+    if (sample(INFO)) {
+      final long start = System.nanoTime();
+      target.info(format, arg1, arg2);
+      record(INFO, start);
+    }
+    else {
+      target.info(format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void info(final String format, final Object ... arguments) {
+    if (sample(INFO)) {
+      final long start = System.nanoTime();
+      target.info(format, arguments);
+      record(INFO, start);
+    }
+    else {
+      target.info(format, arguments);
+    }
+  }
+
+  @Override
+  public void info(final String msg, final Throwable t) {
+    if (sample(INFO)) {
+      final long start = System.nanoTime();
+      target.info(msg, t);
+      record(INFO, start);
+    }
+    else {
+      target.info(msg, t);
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg) {
+    if (sample(INFO, marker)) {
+      final long start = System.nanoTime();
+      target.info(marker, msg);
+      record(INFO, start);
+    }
+    else {
+      target.info(marker, msg);
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg) {
+    if (sample(INFO, marker)) {
+      final long start = System.nanoTime();
+      target.info(marker, format, arg);
+      record(INFO, start);
+    }
+    else {
+      target.info(marker, format, arg);
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (sample(INFO, marker)) {
+      final long start = System.nanoTime();
+      target.info(marker, format, arg1, arg2);
+      record(INFO, start);
+    }
+    else {
+      target.info(marker, format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String format, final Object ... argArray) {
+    if (sample(INFO, marker)) {
+      final long start = System.nanoTime();
+      target.info(marker, format, argArray);
+      record(INFO, start);
+    }
+    else {
+      target.info(marker, format, argArray);
+    }
+  }
+
+  @Override
+  public void info(final Marker marker, final String msg, final Throwable t) {
+    if (sample(INFO, marker)) {
+      final long start = System.nanoTime();
+      target.info(marker, msg, t);
+      record(INFO, start);
+    }
+    else {
+      target.info(marker, msg, t);
+    }
+  }
+
+  @Override
+  public void warn(final String msg) {
+    if (sample(WARN)) {
+      final long start = System.nanoTime();
+      target.warn(msg);
+      record(WARN, start);
+    }
+    else {
+      target.warn(msg);
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object arg) {
+    if (sample(WARN)) {
+      final long start = System.nanoTime();
+      target.warn(format, arg);
+      record(WARN, start);
+    }
+    else {
+      target.warn(format, arg);
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object arg1, final Object arg2) {
+    if (sample(WARN)) {
+      final long start = System.nanoTime();
+      target.warn(format, arg1, arg2);
+      record(WARN, start);
+    }
+    else {
+      target.warn(format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void warn(final String format, final Object ... arguments) {
+    if (sample(WARN)) {
+      final long start = System.nanoTime();
+      target.warn(format, arguments);
+      record(WARN, start);
+    }
+    else {
+      target.warn(format, arguments);
+    }
+  }
+
+  @Override
+  public void warn(final String msg, final Throwable t) {
+    if (sample(WARN)) {
+      final long start = System.nanoTime();
+      target.warn(msg, t);
+      record(WARN, start);
+    }
+    else {
+      target.warn(msg, t);
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg) {
+    if (sample(WARN, marker)) {
+      final long start = System.nanoTime();
+      target.warn(marker, msg);
+      record(WARN, start);
+    }
+    else {
+      target.warn(marker, msg);
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg) {
+    if (sample(WARN, marker)) {
+      final long start = System.nanoTime();
+      target.warn(marker, format, arg);
+      record(WARN, start);
+    }
+    else {
+      target.warn(marker, format, arg);
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (sample(WARN, marker)) {
+      final long start = System.nanoTime();
+      target.warn(marker, format, arg1, arg2);
+      record(WARN, start);
+    }
+    else {
+      target.warn(marker, format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String format, final Object ... argArray) {
+    if (sample(WARN, marker)) {
+      final long start = System.nanoTime();
+      target.warn(marker, format, argArray);
+      record(WARN, start);
+    }
+    else {
+      target.warn(marker, format, argArray);
+    }
+  }
+
+  @Override
+  public void warn(final Marker marker, final String msg, final Throwable t) {
+    if (sample(WARN, marker)) {
+      final long start = System.nanoTime();
+      target.warn(marker, msg, t);
+      record(WARN, start);
+    }
+    else {
+      target.warn(marker, msg, t);
+    }
+  }
+
+  @Override
+  public void error(final String msg) {
+    if (sample(ERROR)) {
+      final long start = System.nanoTime();
+      target.error(msg);
+      record(ERROR, start);
+    }
+    else {
+      target.error(msg);
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object arg) {
+    if (sample(ERROR)) {
+      final long start = System.nanoTime();
+      target.error(format, arg);
+      record(ERROR, start);
+    }
+    else {
+      target.error(format, arg);
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object arg1, final Object arg2) {
+    if (sample(ERROR)) {
+      final long start = System.nanoTime();
+      target.error(format, arg1, arg2);
+      record(ERROR, start);
+    }
+    else {
+      target.error(format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void error(final String format, final Object ... arguments) {
+    if (sample(ERROR)) {
+      final long start = System.nanoTime();
+      target.error(format, arguments);
+      record(ERROR, start);
+    }
+    else {
+      target.error(format, arguments);
+    }
+  }
+
+  @Override
+  public void error(final String msg, final Throwable t) {
+    if (sample(ERROR)) {
+      final long start = System.nanoTime();
+      target.error(msg, t);
+      record(ERROR, start);
+    }
+    else {
+      target.error(msg, t);
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg) {
+    if (sample(ERROR, marker)) {
+      final long start = System.nanoTime();
+      target.error(marker, msg);
+      record(ERROR, start);
+    }
+    else {
+      target.error(marker, msg);
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg) {
+    if (sample(ERROR, marker)) {
+      final long start = System.nanoTime();
+      target.error(marker, format, arg);
+      record(ERROR, start);
+    }
+    else {
+      target.error(marker, format, arg);
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object arg1, final Object arg2) {
+    if (sample(ERROR, marker)) {
+      final long start = System.nanoTime();
+      target.error(marker, format, arg1, arg2);
+      record(ERROR, start);
+    }
+    else {
+      target.error(marker, format, arg1, arg2);
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String format, final Object ... argArray) {
+    if (sample(ERROR, marker)) {
+      final long start = System.nanoTime();
+      target.error(marker, format, argArray);
+      record(ERROR, start);
+    }
+    else {
+      target.error(marker, format, argArray);
+    }
+  }
+
+  @Override
+  public void error(final Marker marker, final String msg, final Throwable t) {
+    if (sample(ERROR, marker)) {
+      final long start = System.nanoTime();
+      target.error(marker, msg, t);
+      record(ERROR, start);
+    }
+    else {
+      target.error(marker, msg, t);
+    }
+  }
+}
@@ -0,0 +1,157 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Hashtable;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.slf4j.ILoggerFactory;
+
+/**
+ * An {@link ILoggerFactory} that wraps the loggers of another {@link ILoggerFactory} in {@link ProfilingLogger}s, which are cached
+ * per name, and optionally registered with the platform MBean server as
+ * {@code org.libj.logging:type=ProfilingLogger,name="<name>"}. A name that is already registered by another factory is not
+ * replaced: {@link #getLogger(String)} fails instead. The registered MBeans are unregistered when the factory is
+ * {@linkplain #close() closed}.
+ */
+public class ProfilingLoggerFactory implements AutoCloseable, ILoggerFactory {
+  private final ConcurrentHashMap<String,ProfilingLogger> loggers = new ConcurrentHashMap<>();
+  private final ILoggerFactory factory;
+  private final double fraction;
+  private final boolean register;
+  private final ArrayList<ObjectName> registered = new ArrayList<>();
+  private boolean closed;
+
+  /**
+   * Creates a new {@link ProfilingLoggerFactory} that wraps the loggers of the specified {@link ILoggerFactory}.
+   *
+   * @param factory The {@link ILoggerFactory} of the target loggers.
+   * @param fraction The fraction of calls to measure, between {@code 0} and {@code 1}.
+   * @param register Whether each {@link ProfilingLogger} is to be registered with the platform MBean server.
+   * @throws NullPointerException If {@code factory} is null.
+   * @throws IllegalArgumentException If {@code fraction} is not between {@code 0} and {@code 1}.
+   */
+  public ProfilingLoggerFactory(final ILoggerFactory factory, final double fraction, final boolean register) {
+    this.factory = Objects.requireNonNull(factory, "factory is null");
+    if (!(fraction >= 0 && fraction <= 1))
+      throw new IllegalArgumentException("fraction (" + fraction + ") must be between 0 and 1");
+
+    this.fraction = fraction;
+    this.register = register;
+  }
+
+  /**
+   * Returns the {@link ObjectName} with which a {@link ProfilingLogger} of the specified name is registered.
+   *
+   * @param name The name of the logger.
+   * @return The {@link ObjectName} with which a {@link ProfilingLogger} of the specified name is registered.
+   * @throws NullPointerException If {@code name} is null.
+   */
+  public static ObjectName getObjectName(final String name) {
+    final Hashtable<String,String> properties = new Hashtable<>();
+    properties.put("type", ProfilingLogger.class.getSimpleName());
+    properties.put("name", ObjectName.quote(name));
+    try {
+      return new ObjectName(MetricsLoggerFactory.DOMAIN, properties);
+    }
+    catch (final JMException e) {
+      throw new IllegalArgumentException(e);
+    }
+  }
+
+  private ProfilingLogger newLogger(final String name) {
+    final ProfilingLogger logger = new ProfilingLogger(factory.getLogger(name), fraction);
+    if (register) {
+      synchronized (this) {
+        if (!closed) {
+          final ObjectName objectName = getObjectName(name);
+          try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(logger, objectName);
+            registered.add(objectName);
+          }
+          catch (final JMException e) {
+            throw new IllegalStateException(e);
+          }
+        }
+      }
+    }
+
+    return logger;
+  }
+
+  /**
+   * Returns the {@link ProfilingLogger} of the specified name, which is created and registered with the platform MBean server (if so
+   * configured, and this factory is not closed) when it is first requested.
+   *
+   * @param name The name of the logger.
+   * @return The {@link ProfilingLogger} of the specified name.
+   * @throws NullPointerException If {@code name} is null.
+   * @throws IllegalStateException If an MBean is already registered with the {@link ObjectName} of the logger, or the
+   *           registration otherwise fails.
+   */
+  @Override
+  public ProfilingLogger getLogger(final String name) {
+    final ProfilingLogger logger = loggers.get(name);
+    return logger != null ? logger : loggers.computeIfAbsent(name, this::newLogger);
+  }
+
+  /**
+   * Returns the {@link ProfilingLogger}s of this factory, by name.
+   *
+   * @return The {@link ProfilingLogger}s of this factory, by name.
+   */
+  public Map<String,ProfilingLogger> getLoggers() {
+    return new TreeMap<>(loggers);
+  }
+
+  /**
+   * Unregisters the {@link ProfilingLogger}s of this factory from the platform MBean server. Loggers that are created thereafter are
+   * not registered.
+   *
+   * @throws IllegalStateException If the unregistration fails.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed)
+      return;
+
+    closed = true;
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    for (int i = 0, i$ = registered.size(); i < i$; ++i) { // [RA]
+      try {
+        server.unregisterMBean(registered.get(i));
+      }
+      catch (final InstanceNotFoundException e) {
+      }
+      catch (final JMException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    registered.clear();
+  }
+}
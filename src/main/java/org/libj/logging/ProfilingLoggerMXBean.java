@@ -0,0 +1,72 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Map;
+
+/**
+ * The management interface of a {@link ProfilingLogger}, by which its latency histograms are exposed through JMX. All latencies are
+ * in nanoseconds.
+ */
+public interface ProfilingLoggerMXBean {
+  /**
+   * Returns the name of the logger.
+   *
+   * @return The name of the logger.
+   */
+  String getName();
+
+  /**
+   * Returns the number of sampled calls, by level.
+   *
+   * @return The number of sampled calls, by level.
+   */
+  Map<String,Long> getCounts();
+
+  /**
+   * Returns the 50th percentile of the latencies of sampled calls, by level.
+   *
+   * @return The 50th percentile of the latencies of sampled calls, by level.
+   */
+  Map<String,Long> getP50();
+
+  /**
+   * Returns the 99th percentile of the latencies of sampled calls, by level.
+   *
+   * @return The 99th percentile of the latencies of sampled calls, by level.
+   */
+  Map<String,Long> getP99();
+
+  /**
+   * Returns the 99.9th percentile of the latencies of sampled calls, by level.
+   *
+   * @return The 99.9th percentile of the latencies of sampled calls, by level.
+   */
+  Map<String,Long> getP999();
+
+  /**
+   * Returns the maximum latency of sampled calls, by level.
+   *
+   * @return The maximum latency of sampled calls, by level.
+   */
+  Map<String,Long> getMax();
+
+  /**
+   * Resets all histograms.
+   */
+  void reset();
+}
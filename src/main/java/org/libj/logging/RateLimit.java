@@ -0,0 +1,196 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * A lock-free rate limit of log statements, which permits at most {@code permits} statements per {@code interval}. A
+ * {@link RateLimit} is keyed either by call site, by way of a {@code static final} field at the call site, or by an explicit key,
+ * by way of {@link #of(String,int,long,TimeUnit,boolean)}:
+ *
+ * <pre>
+ * private static final RateLimit limit = new RateLimit(1, 1, TimeUnit.SECONDS, true);
+ * ...
+ * LoggerUtil.log(limit, logger, Level.WARN, "Request failed: {}", e.getMessage());
+ * </pre>
+ *
+ * The limit is implemented as a token bucket in the form of the Generic Cell Rate Algorithm, whereby the state of the bucket is a
+ * single "theoretical arrival time" that is advanced with a compare-and-set. A suppressed statement does not allocate.
+ * <p>
+ * If constructed to report suppressed statements, the count of statements suppressed since the last permitted statement is
+ * appended to the message of the next permitted statement.
+ */
+public final class RateLimit {
+  private static final AtomicLongFieldUpdater<RateLimit> arrival = AtomicLongFieldUpdater.newUpdater(RateLimit.class, "arrivalTime");
+  private static final AtomicLongFieldUpdater<RateLimit> suppressed = AtomicLongFieldUpdater.newUpdater(RateLimit.class, "suppressedCount");
+  private static final ConcurrentHashMap<String,RateLimit> keys = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the {@link RateLimit} for the specified {@code key}, creating it with the specified parameters (and not reporting the
+   * count of suppressed statements) if it does not yet exist.
+   *
+   * @param key The key.
+   * @param permits The number of statements permitted per {@code interval}.
+   * @param interval The interval.
+   * @param unit The {@link TimeUnit} of {@code interval}.
+   * @return The {@link RateLimit} for the specified {@code key}.
+   * @throws NullPointerException If {@code key} or {@code unit} is null.
+   * @throws IllegalArgumentException If {@code permits} or {@code interval} is not positive, or if the {@link RateLimit} for the
+   *           specified {@code key} exists with different parameters.
+   */
+  public static RateLimit of(final String key, final int permits, final long interval, final TimeUnit unit) {
+    return of(key, permits, interval, unit, false);
+  }
+
+  /**
+   * Returns the {@link RateLimit} for the specified {@code key}, creating it with the specified parameters if it does not yet
+   * exist.
+   *
+   * @param key The key.
+   * @param permits The number of statements permitted per {@code interval}.
+   * @param interval The interval.
+   * @param unit The {@link TimeUnit} of {@code interval}.
+   * @param reportSuppressed If {@code true}, the count of statements suppressed since the last permitted statement is appended to the
+   *          message of the next permitted statement.
+   * @return The {@link RateLimit} for the specified {@code key}.
+   * @throws NullPointerException If {@code key} or {@code unit} is null.
+   * @throws IllegalArgumentException If {@code permits} or {@code interval} is not positive, or if the {@link RateLimit} for the
+   *           specified {@code key} exists with different parameters.
+   */
+  public static RateLimit of(final String key, final int permits, final long interval, final TimeUnit unit, final boolean reportSuppressed) {
+    final long nanos = toNanos(permits, interval, unit);
+    RateLimit limit = keys.get(Objects.requireNonNull(key, "key is null"));
+    if (limit == null)
+      limit = keys.computeIfAbsent(key, k -> new RateLimit(permits, interval, unit, reportSuppressed));
+
+    final long emissionInterval = Math.max(1, nanos / permits);
+    if (limit.emissionInterval != emissionInterval || limit.tolerance != nanos - emissionInterval || limit.reportSuppressed != reportSuppressed)
+      throw new IllegalArgumentException("RateLimit for key \"" + key + "\" exists with different parameters");
+
+    return limit;
+  }
+
+  /**
+   * Returns the specified {@code interval} in nanoseconds, after checking that {@code permits} and {@code interval} are positive.
+   *
+   * @param permits The number of statements permitted per {@code interval}.
+   * @param interval The interval.
+   * @param unit The {@link TimeUnit} of {@code interval}.
+   * @return The specified {@code interval} in nanoseconds.
+   * @throws NullPointerException If {@code unit} is null.
+   * @throws IllegalArgumentException If {@code permits} or {@code interval} is not positive.
+   */
+  private static long toNanos(final int permits, final long interval, final TimeUnit unit) {
+    if (permits <= 0)
+      throw new IllegalArgumentException("permits (" + permits + ") must be positive");
+
+    if (interval <= 0)
+      throw new IllegalArgumentException("interval (" + interval + ") must be positive");
+
+    return Objects.requireNonNull(unit, "unit is null").toNanos(interval);
+  }
+
+  private final long emissionInterval;
+  private final long tolerance;
+  private final boolean reportSuppressed;
+  private volatile long arrivalTime = Long.MIN_VALUE;
+  private volatile long suppressedCount;
+
+  /**
+   * Creates a new {@link RateLimit} that permits at most {@code permits} statements per {@code interval}, and that does not report
+   * the count of suppressed statements.
+   *
+   * @param permits The number of statements permitted per {@code interval}.
+   * @param interval The interval.
+   * @param unit The {@link TimeUnit} of {@code interval}.
+   * @throws NullPointerException If {@code unit} is null.
+   * @throws IllegalArgumentException If {@code permits} or {@code interval} is not positive.
+   */
+  public RateLimit(final int permits, final long interval, final TimeUnit unit) {
+    this(permits, interval, unit, false);
+  }
+
+  /**
+   * Creates a new {@link RateLimit} that permits at most {@code permits} statements per {@code interval}.
+   *
+   * @param permits The number of statements permitted per {@code interval}.
+   * @param interval The interval.
+   * @param unit The {@link TimeUnit} of {@code interval}.
+   * @param reportSuppressed If {@code true}, the count of statements suppressed since the last permitted statement is appended to the
+   *          message of the next permitted statement.
+   * @throws NullPointerException If {@code unit} is null.
+   * @throws IllegalArgumentException If {@code permits} or {@code interval} is not positive.
+   */
+  public RateLimit(final int permits, final long interval, final TimeUnit unit, final boolean reportSuppressed) {
+    final long nanos = toNanos(permits, interval, unit);
+    this.emissionInterval = Math.max(1, nanos / permits);
+    this.tolerance = nanos - emissionInterval;
+    this.reportSuppressed = reportSuppressed;
+  }
+
+  /**
+   * Returns whether a statement is permitted at this time, consuming a permit if so. If not permitted, the count of suppressed
+   * statements is incremented.
+   *
+   * @return Whether a statement is permitted at this time.
+   */
+  public boolean tryAcquire() {
+    final long now = System.nanoTime();
+    for (long prev, time;;) { // [N]
+      time = prev = arrivalTime;
+      if (prev == Long.MIN_VALUE || prev - now < 0)
+        time = now;
+
+      if (time - now > tolerance) {
+        suppressed.incrementAndGet(this);
+        return false;
+      }
+
+      if (arrival.compareAndSet(this, prev, time + emissionInterval))
+        return true;
+    }
+  }
+
+  /**
+   * Returns the count of statements suppressed since the last invocation of this method, and resets the count to zero.
+   *
+   * @return The count of statements suppressed since the last invocation of this method.
+   */
+  public long drainSuppressed() {
+    return suppressedCount == 0 ? 0 : suppressed.getAndSet(this, 0);
+  }
+
+  /**
+   * Returns the specified {@code msg} with the count of suppressed statements appended, if this {@link RateLimit} reports suppressed
+   * statements, and if any statements were suppressed since the last permitted statement. Otherwise, returns {@code msg}. This method
+   * is intended to be called after {@link #tryAcquire()} returns {@code true}.
+   *
+   * @param msg The message.
+   * @return The specified {@code msg} with the count of suppressed statements appended, or {@code msg} if none are to be reported.
+   */
+  String report(final String msg) {
+    if (!reportSuppressed)
+      return msg;
+
+    final long count = drainSuppressed();
+    return count == 0 ? msg : msg + " [suppressed " + count + "]";
+  }
+}
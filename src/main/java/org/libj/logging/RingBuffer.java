@@ -0,0 +1,179 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * A bounded lock-free multi-producer, single-consumer queue, backed by a ring of slots that are each guarded by a sequence number.
+ * <p>
+ * Elements are either inserted and removed by reference with {@link #offer(Object)} and {@link #poll()}, or, if the slots are
+ * pre-filled with mutable elements by way of {@link #RingBuffer(int,Supplier)}, written in place with {@link #claim()},
+ * {@link #get(long)} and {@link #publish(long)}, and read in place with {@link #peek()} and {@link #release()}.
+ *
+ * @param <T> The type of the elements.
+ */
+final class RingBuffer<T> {
+  private final Object[] elements;
+  private final AtomicLongArray sequences;
+  private final AtomicLong tail = new AtomicLong();
+  private final int mask;
+  private volatile long head;
+
+  /**
+   * Creates a new {@link RingBuffer} with the specified capacity.
+   *
+   * @param capacity The capacity, which is rounded up to a power of 2.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  RingBuffer(final int capacity) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be positive");
+
+    final int size = capacity == 1 ? 2 : Integer.highestOneBit(capacity - 1) << 1;
+    this.elements = new Object[size];
+    this.sequences = new AtomicLongArray(size);
+    for (int i = 0; i < size; ++i) // [A]
+      sequences.set(i, i);
+
+    this.mask = size - 1;
+  }
+
+  /**
+   * Creates a new {@link RingBuffer} with the specified capacity, whose slots are pre-filled with elements of the provided
+   * {@link Supplier}, to be written and read in place.
+   *
+   * @param capacity The capacity, which is rounded up to a power of 2.
+   * @param factory The {@link Supplier} of the elements of the slots.
+   * @throws IllegalArgumentException If {@code capacity} is not positive.
+   */
+  RingBuffer(final int capacity, final Supplier<T> factory) {
+    this(capacity);
+    for (int i = 0; i < elements.length; ++i) // [A]
+      elements[i] = factory.get();
+  }
+
+  /**
+   * Claims the slot at the tail of this queue if it is not full. The element of the claimed slot is to be written by way of
+   * {@link #get(long)}, and then published with {@link #publish(long)}.
+   *
+   * @return The position of the claimed slot, or {@code -1} if this queue is full.
+   */
+  long claim() {
+    for (long position;;) { // [N]
+      position = tail.get();
+      final long difference = sequences.get((int)position & mask) - position;
+      if (difference == 0) {
+        if (tail.compareAndSet(position, position + 1))
+          return position;
+      }
+      else if (difference < 0) {
+        return -1;
+      }
+    }
+  }
+
+  /**
+   * Returns the element of the slot at the specified position.
+   *
+   * @param position The position of the slot.
+   * @return The element of the slot at the specified position.
+   */
+  @SuppressWarnings("unchecked")
+  T get(final long position) {
+    return (T)elements[(int)position & mask];
+  }
+
+  /**
+   * Publishes the slot at the specified position, which was claimed with {@link #claim()}, to the consumer.
+   *
+   * @param position The position of the slot.
+   */
+  void publish(final long position) {
+    sequences.lazySet((int)position & mask, position + 1);
+  }
+
+  /**
+   * Inserts the specified element at the tail of this queue if it is not full.
+   *
+   * @param element The element.
+   * @return {@code true} if the element was inserted, or {@code false} if this queue is full.
+   */
+  boolean offer(final T element) {
+    final long position = claim();
+    if (position < 0)
+      return false;
+
+    elements[(int)position & mask] = element;
+    publish(position);
+    return true;
+  }
+
+  /**
+   * Removes and returns the element at the head of this queue. This method must only be called by the single consumer.
+   *
+   * @return The element at the head of this queue, or {@code null} if this queue is empty.
+   */
+  @SuppressWarnings("unchecked")
+  T poll() {
+    final long position = head;
+    final int index = (int)position & mask;
+    if (sequences.get(index) != position + 1)
+      return null;
+
+    final T element = (T)elements[index];
+    elements[index] = null;
+    sequences.lazySet(index, position + elements.length);
+    head = position + 1;
+    return element;
+  }
+
+  /**
+   * Returns the element of the slot at the head of this queue without removing it, which is to be followed by {@link #release()}.
+   * This method must only be called by the single consumer.
+   *
+   * @return The element of the slot at the head of this queue, or {@code null} if this queue is empty.
+   */
+  @SuppressWarnings("unchecked")
+  T peek() {
+    final long position = head;
+    final int index = (int)position & mask;
+    return sequences.get(index) != position + 1 ? null : (T)elements[index];
+  }
+
+  /**
+   * Releases the slot at the head of this queue, whose element was returned by {@link #peek()}, for reuse by the producers, leaving
+   * its element in place. This method must only be called by the single consumer.
+   */
+  void release() {
+    final long position = head;
+    sequences.lazySet((int)position & mask, position + elements.length);
+    head = position + 1;
+  }
+
+  /**
+   * Returns whether this queue is empty.
+   *
+   * @return Whether this queue is empty.
+   */
+  boolean isEmpty() {
+    final long position = head;
+    return sequences.get((int)position & mask) != position + 1;
+  }
+}
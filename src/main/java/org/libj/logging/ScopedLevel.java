@@ -0,0 +1,234 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggerContextListener;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+/**
+ * A temporary elevation of the level of the loggers of a name prefix, which is in effect only on the current thread, and only
+ * within a lexical scope:
+ *
+ * <pre>
+ * try (final ScopedLevel scope = ScopedLevel.open("com.example.orders", Level.DEBUG)) {
+ *   ...
+ * }
+ * </pre>
+ *
+ * Scopes are applied by a LogBack {@link TurboFilter} that is installed into the {@link LoggerContext} upon the first
+ * {@link #open(String,Level)}, and that is reinstalled upon the reset of the {@link LoggerContext}. When no scope is open on any
+ * thread, the filter returns after a single check of a static counter. A scope enables a call only if the {@link TurboFilter}s that
+ * follow the filter in the chain are neutral, so it does not override their denials, regardless of the position of the filter after
+ * a reset. Since the result of a {@link LevelSwitch} is cached, it does not reflect the open scopes.
+ * <p>
+ * Scopes may be nested, and must be closed in the reverse order of their opening, on the thread that opened them.
+ * <p>
+ * <b>Note:</b> This class is only applicable to the <a href="https://logback.qos.ch/">LogBack</a> implementation of {@link Logger}
+ * instances. For other implementations, a scope has no effect.
+ */
+public final class ScopedLevel implements AutoCloseable {
+  private static final class Filter extends TurboFilter {
+    @Override
+    public FilterReply decide(final Marker marker, final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level, final String format, final Object[] params, final Throwable t) {
+      if (active.get() == 0)
+        return FilterReply.NEUTRAL;
+
+      ScopedLevel scope = current.get();
+      if (scope == null || level.isGreaterOrEqual(logger.getEffectiveLevel()))
+        return FilterReply.NEUTRAL;
+
+      final String name = logger.getName();
+      for (; scope != null; scope = scope.parent) // [N]
+        if (level.isGreaterOrEqual(scope.level) && scope.matches(name))
+          return decideAfter(marker, logger, level, format, params, t);
+
+      return FilterReply.NEUTRAL;
+    }
+
+    /**
+     * Returns the decision of the {@link TurboFilter}s that follow this filter in the chain, or {@link FilterReply#ACCEPT} if they
+     * are all neutral, so that this filter accepts as if it were last in the chain, and does not pre-empt the denial of a
+     * {@link TurboFilter} that follows it, such as one that was configured after a reset of the {@link LoggerContext}.
+     *
+     * @param marker The {@link Marker} of the call.
+     * @param logger The LogBack {@link ch.qos.logback.classic.Logger}.
+     * @param level The level of the call.
+     * @param format The format of the call.
+     * @param params The arguments of the call.
+     * @param t The {@link Throwable} of the call.
+     * @return The decision of the {@link TurboFilter}s that follow this filter in the chain, or {@link FilterReply#ACCEPT} if they
+     *         are all neutral.
+     */
+    private FilterReply decideAfter(final Marker marker, final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level, final String format, final Object[] params, final Throwable t) {
+      boolean after = false;
+      for (final TurboFilter filter : logger.getLoggerContext().getTurboFilterList()) { // [L]
+        if (after) {
+          final FilterReply reply = filter.decide(marker, logger, level, format, params, t);
+          if (reply != FilterReply.NEUTRAL)
+            return reply;
+        }
+        else if (filter == this) {
+          after = true;
+        }
+      }
+
+      return FilterReply.ACCEPT;
+    }
+  }
+
+  private static final class Listener implements LoggerContextListener {
+    @Override
+    public boolean isResetResistant() {
+      return true;
+    }
+
+    @Override
+    public void onStart(final LoggerContext context) {
+    }
+
+    @Override
+    public void onReset(final LoggerContext context) {
+      install(context);
+    }
+
+    @Override
+    public void onStop(final LoggerContext context) {
+    }
+
+    @Override
+    public void onLevelChange(final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level) {
+    }
+  }
+
+  private static final AtomicInteger active = new AtomicInteger();
+  private static final ThreadLocal<ScopedLevel> current = new ThreadLocal<>();
+  private static final Filter filter = new Filter();
+  private static boolean installed;
+
+  private static void install(final LoggerContext context) {
+    synchronized (filter) {
+      if (!context.getTurboFilterList().contains(filter)) {
+        filter.setContext(context);
+        filter.start();
+        context.addTurboFilter(filter);
+      }
+    }
+  }
+
+  private static void install() {
+    synchronized (filter) {
+      if (installed)
+        return;
+
+      installed = true;
+      try {
+        final Object factory = LoggerFactory.getILoggerFactory();
+        if (factory instanceof LoggerContext) {
+          final LoggerContext context = (LoggerContext)factory;
+          context.addListener(new Listener());
+          install(context);
+        }
+      }
+      catch (final NoClassDefFoundError e) {
+      }
+    }
+  }
+
+  /**
+   * Opens a scope on the current thread, within which the loggers of the specified {@link Logger}'s name, and of the names that
+   * have it as a prefix (delimited by {@code '.'}), log messages of the specified {@link Level} and higher.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The {@link Level}.
+   * @return The opened {@link ScopedLevel}, which must be closed by the current thread.
+   * @throws NullPointerException If {@code logger} or {@code level} is null.
+   */
+  public static ScopedLevel open(final Logger logger, final Level level) {
+    return open(logger.getName(), level);
+  }
+
+  /**
+   * Opens a scope on the current thread, within which the loggers of the specified {@code name}, and of the names that have it as a
+   * prefix (delimited by {@code '.'}), log messages of the specified {@link Level} and higher. The name of the root logger, or the
+   * empty string, designates all loggers.
+   *
+   * @param name The logger name.
+   * @param level The {@link Level}.
+   * @return The opened {@link ScopedLevel}, which must be closed by the current thread.
+   * @throws NullPointerException If {@code name} or {@code level} is null.
+   */
+  public static ScopedLevel open(final String name, final Level level) {
+    Objects.requireNonNull(name, "name is null");
+    final ch.qos.logback.classic.Level lev = LoggerUtil.logbackLevel[level.ordinal()];
+    install();
+    final ScopedLevel scope = new ScopedLevel(Logger.ROOT_LOGGER_NAME.equalsIgnoreCase(name) ? "" : name, lev, current.get());
+    current.set(scope);
+    active.incrementAndGet();
+    return scope;
+  }
+
+  private final String name;
+  private final ch.qos.logback.classic.Level level;
+  private final ScopedLevel parent;
+  private final Thread thread;
+  private boolean closed;
+
+  private ScopedLevel(final String name, final ch.qos.logback.classic.Level level, final ScopedLevel parent) {
+    this.name = name;
+    this.level = level;
+    this.parent = parent;
+    this.thread = Thread.currentThread();
+  }
+
+  private boolean matches(final String name) {
+    final int len = this.name.length();
+    return len == 0 || name.startsWith(this.name) && (name.length() == len || name.charAt(len) == '.');
+  }
+
+  /**
+   * Closes this scope, restoring the scope that was in effect on the current thread at the time this scope was opened. Closing a
+   * closed scope has no effect.
+   *
+   * @throws IllegalStateException If this scope is not the innermost open scope of the current thread.
+   */
+  @Override
+  public void close() {
+    if (closed)
+      return;
+
+    if (thread != Thread.currentThread() || current.get() != this)
+      throw new IllegalStateException("Scope must be closed by its thread in the reverse order of opening");
+
+    closed = true;
+    if (parent != null)
+      current.set(parent);
+    else
+      current.remove();
+
+    active.decrementAndGet();
+  }
+}
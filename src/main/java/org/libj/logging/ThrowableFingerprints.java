@@ -0,0 +1,180 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+/**
+ * A bounded concurrent cache of {@link Throwable} fingerprints, which is used to suppress the repeated rendering of identical stack
+ * traces. The fingerprint of a {@link Throwable} is a cheap hash of its class, the top frames of its stack trace, and the classes
+ * of its causes.
+ * <p>
+ * The first occurrence of a fingerprint within a window is logged in full, with the fingerprint appended to the message as
+ * {@code [#a91f03c2]}. Later occurrences within the same window are logged without the stack trace, with a reference appended to
+ * the message as {@code [java.io.IOException: Broken pipe, same as #a91f03c2, x342]}.
+ * <p>
+ * A {@link ThrowableFingerprints} is used with {@link LoggerUtil#log(ThrowableFingerprints,Logger,Level,String,Throwable)}, or
+ * from a {@link DelegateLogger} subclass:
+ *
+ * <pre>
+ * private final ThrowableFingerprints fingerprints = new ThrowableFingerprints(1, TimeUnit.MINUTES);
+ * ...
+ * &#64;Override
+ * public void error(final String msg, final Throwable t) {
+ *   fingerprints.log(target, Level.ERROR, msg, t);
+ * }
+ * </pre>
+ *
+ * The cache is direct-mapped, whereby a fingerprint that collides with another in the cache evicts it.
+ */
+public final class ThrowableFingerprints {
+  private static final class Entry {
+    private static final AtomicLongFieldUpdater<Entry> counter = AtomicLongFieldUpdater.newUpdater(Entry.class, "count");
+
+    private final int fingerprint;
+    private final long start;
+    private volatile long count = 1;
+
+    private Entry(final int fingerprint, final long start) {
+      this.fingerprint = fingerprint;
+      this.start = start;
+    }
+  }
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final int mask;
+  private final int depth;
+  private final long window;
+
+  /**
+   * Creates a new {@link ThrowableFingerprints} with a capacity of 1024 fingerprints, each computed from the top 8 frames of the
+   * stack trace, and with the specified window.
+   *
+   * @param window The window within which repeated occurrences of a fingerprint are suppressed.
+   * @param unit The {@link TimeUnit} of {@code window}.
+   * @throws NullPointerException If {@code unit} is null.
+   * @throws IllegalArgumentException If {@code window} is not positive.
+   */
+  public ThrowableFingerprints(final long window, final TimeUnit unit) {
+    this(1024, 8, window, unit);
+  }
+
+  /**
+   * Creates a new {@link ThrowableFingerprints} with the specified parameters.
+   *
+   * @param capacity The maximum number of fingerprints in the cache, which is rounded up to a power of 2.
+   * @param depth The number of top frames of the stack trace from which the fingerprint is computed.
+   * @param window The window within which repeated occurrences of a fingerprint are suppressed.
+   * @param unit The {@link TimeUnit} of {@code window}.
+   * @throws NullPointerException If {@code unit} is null.
+   * @throws IllegalArgumentException If {@code capacity}, {@code depth}, or {@code window} is not positive.
+   */
+  public ThrowableFingerprints(final int capacity, final int depth, final long window, final TimeUnit unit) {
+    if (capacity <= 0)
+      throw new IllegalArgumentException("capacity (" + capacity + ") must be positive");
+
+    if (depth <= 0)
+      throw new IllegalArgumentException("depth (" + depth + ") must be positive");
+
+    if (window <= 0)
+      throw new IllegalArgumentException("window (" + window + ") must be positive");
+
+    final int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    this.entries = new AtomicReferenceArray<>(size);
+    this.mask = size - 1;
+    this.depth = depth;
+    this.window = Objects.requireNonNull(unit, "unit is null").toNanos(window);
+  }
+
+  /**
+   * Returns the fingerprint of the specified {@link Throwable}, computed from its class, the top frames of its stack trace, and the
+   * classes of its causes.
+   *
+   * @param t The {@link Throwable}.
+   * @return The fingerprint of the specified {@link Throwable}.
+   * @throws NullPointerException If {@code t} is null.
+   */
+  public int fingerprint(final Throwable t) {
+    int hash = t.getClass().getName().hashCode();
+    final StackTraceElement[] stackTrace = t.getStackTrace();
+    for (int i = 0, i$ = Math.min(depth, stackTrace.length); i < i$; ++i) { // [A]
+      final StackTraceElement frame = stackTrace[i];
+      hash = 31 * hash + frame.getClassName().hashCode();
+      hash = 31 * hash + frame.getMethodName().hashCode();
+      hash = 31 * hash + frame.getLineNumber();
+    }
+
+    for (Throwable cause = t.getCause(), last = t; cause != null && cause != last; last = cause, cause = cause.getCause()) // [N]
+      hash = 31 * hash + cause.getClass().getName().hashCode();
+
+    return hash;
+  }
+
+  /**
+   * Records an occurrence of the specified {@code fingerprint}, and returns the number of its occurrences within the current window.
+   * A return value of {@code 1} signifies the first occurrence within a new window.
+   *
+   * @param fingerprint The fingerprint.
+   * @return The number of occurrences of the specified {@code fingerprint} within the current window.
+   */
+  public long record(final int fingerprint) {
+    final long now = System.nanoTime();
+    final int index = (fingerprint ^ (fingerprint >>> 16)) & mask;
+    Entry entry;
+    do {
+      entry = entries.get(index);
+      if (entry != null && entry.fingerprint == fingerprint && now - entry.start < window)
+        return Entry.counter.incrementAndGet(entry);
+    }
+    while (!entries.compareAndSet(index, entry, new Entry(fingerprint, now)));
+    return 1;
+  }
+
+  /**
+   * Log an exception (throwable) with {@code logger} at {@code level} with an accompanying message. If the fingerprint of the
+   * {@link Throwable} was already recorded within the current window, the stack trace is not logged, and a reference to the first
+   * occurrence is appended to the message instead.
+   *
+   * @param logger The {@link Logger}.
+   * @param level The logging {@link Level}.
+   * @param msg The message accompanying the exception.
+   * @param t The exception (throwable) to log.
+   * @throws NullPointerException If {@code logger} is null.
+   */
+  public void log(final Logger logger, final Level level, final String msg, final Throwable t) {
+    if (!LoggerUtil.isLoggable(logger, level))
+      return;
+
+    if (t == null) {
+      LoggerUtil.log(logger, level, msg);
+      return;
+    }
+
+    final int fingerprint = fingerprint(t);
+    final long count = record(fingerprint);
+    if (count == 1)
+      LoggerUtil.log(logger, level, msg + " [#" + Integer.toHexString(fingerprint) + "]", t);
+    else
+      LoggerUtil.log(logger, level, msg + " [" + t + ", same as #" + Integer.toHexString(fingerprint) + ", x" + count + "]");
+  }
+}
@@ -0,0 +1,62 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+
+import org.junit.Test;
+
+public class ArgumentRendererTest {
+  private static final ArgumentRenderer renderer = new ArgumentRenderer(2, 3, 32, true);
+
+  @Test
+  public void testRender() {
+    assertEquals("null", renderer.toString(null));
+    assertEquals("String", renderer.toString(String.class));
+    assertEquals("[1, 2, 3]", renderer.toString(new int[] {1, 2, 3}));
+    assertEquals("[1, 2, 3, ... (2 more)]", renderer.toString(new long[] {1, 2, 3, 4, 5}));
+    assertEquals("0x00017f... (4 bytes)", renderer.toString(new byte[] {0, 1, 127, -128}));
+    assertEquals("byte[4]", new ArgumentRenderer(2, 3, 32, false).toString(new byte[4]));
+    assertEquals("[a, [b, [...]]]", renderer.toString(new Object[] {"a", new Object[] {"b", new Object[] {"c"}}}));
+    assertEquals("[x, y]", renderer.toString(new ArrayList<>(Arrays.asList("x", "y"))));
+
+    final LinkedHashMap<String,Object> map = new LinkedHashMap<>();
+    map.put("a", 1);
+    map.put("b", new char[] {'c'});
+    assertEquals("{a=1, b=[c]}", renderer.toString(map));
+  }
+
+  @Test
+  public void testLimit() {
+    final int[] array = new int[1000000];
+    final String str = renderer.toString(array);
+    assertEquals("[0, 0, 0, ... (999997 more)]", str);
+
+    final char[] chars = new char[100];
+    Arrays.fill(chars, 'a');
+    assertEquals(new String(chars, 0, 32) + "...", renderer.toString(new String(chars)));
+    assertEquals("[" + new String(chars, 0, 31) + "...", renderer.toString(new Object[] {new String(chars)}));
+
+    final StringBuilder builder = new StringBuilder("foo:");
+    assertSame(builder, renderer.render(builder, new String(chars)));
+    assertEquals("foo:" + new String(chars, 0, 32) + "...", builder.toString());
+  }
+}
@@ -0,0 +1,148 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+
+public class AsyncLoggerTest {
+  @Test
+  public void testLogback() throws InterruptedException {
+    final Logger target = (Logger)LoggerFactory.getLogger("AsyncLoggerTest.testLogback");
+    final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+    appender.setContext(target.getLoggerContext());
+    appender.start();
+    target.addAppender(appender);
+    target.setAdditive(false);
+    target.setLevel(ch.qos.logback.classic.Level.INFO);
+
+    final long start = System.currentTimeMillis();
+    try (final AsyncLogger logger = new AsyncLogger(target, 16, Level.INFO)) {
+      logger.debug("no");
+      MDC.put("key", "value");
+      try {
+        logger.info("a {}", 1);
+      }
+      finally {
+        MDC.remove("key");
+      }
+
+      final Thread thread = new Thread(() -> logger.warn("b {} {}", 2, 3, new IllegalStateException("c")), "producer");
+      thread.start();
+      thread.join();
+      logger.error("d", new IllegalArgumentException("e"));
+    }
+
+    assertEquals(3, appender.list.size());
+    final ILoggingEvent a = appender.list.get(0);
+    assertEquals(ch.qos.logback.classic.Level.INFO, a.getLevel());
+    assertEquals("a 1", a.getFormattedMessage());
+    assertEquals(Thread.currentThread().getName(), a.getThreadName());
+    assertEquals("value", a.getMDCPropertyMap().get("key"));
+    assertTrue(a.getTimeStamp() >= start);
+
+    final ILoggingEvent b = appender.list.get(1);
+    assertEquals("b 2 3", b.getFormattedMessage());
+    assertEquals("producer", b.getThreadName());
+    assertNull(b.getMDCPropertyMap().get("key"));
+    assertEquals("c", b.getThrowableProxy().getMessage());
+
+    final ILoggingEvent d = appender.list.get(2);
+    assertEquals(ch.qos.logback.classic.Level.ERROR, d.getLevel());
+    assertEquals(IllegalArgumentException.class.getName(), d.getThrowableProxy().getClassName());
+  }
+
+  @Test
+  public void testDrop() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final OutputStream blocking = new OutputStream() {
+      @Override
+      public void write(final int b) throws IOException {
+        write(new byte[] {(byte)b}, 0, 1);
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) throws IOException {
+        try {
+          latch.await();
+        }
+        catch (final InterruptedException e) {
+          throw new IOException(e);
+        }
+
+        out.write(b, off, len);
+      }
+    };
+
+    final AsyncLogger logger = new AsyncLogger(new PrintStreamLogger(Level.INFO, new PrintStream(blocking)), 4, Level.ERROR);
+    final long dropped;
+    try {
+      for (int i = 0; i < 100; ++i) // [N]
+        logger.info("foo {}", i);
+
+      dropped = logger.getDroppedCount();
+      assertTrue(dropped > 0);
+    }
+    finally {
+      latch.countDown();
+    }
+
+    logger.error("bar");
+    logger.close();
+    logger.info("after");
+    final String str = out.toString();
+    assertEquals(100 - dropped, str.split("\\[INFO\\] foo", -1).length - 1);
+    assertTrue(str, str.contains("[ERROR] bar" + System.lineSeparator() + "[INFO] after" + System.lineSeparator()));
+  }
+
+  @Test
+  public void testCloseRace() throws InterruptedException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final AsyncLogger logger = new AsyncLogger(new PrintStreamLogger(Level.INFO, new PrintStream(out)), 16, Level.TRACE);
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; ++i) { // [A]
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 1000; ++j) // [N]
+          logger.info("foo");
+      });
+      threads[i].start();
+    }
+
+    Thread.sleep(1);
+    logger.close();
+    for (final Thread thread : threads) // [A]
+      thread.join();
+
+    assertEquals(0, logger.getDroppedCount());
+    assertEquals(4000, out.toString().split("\\[INFO\\] foo", -1).length - 1);
+  }
+}
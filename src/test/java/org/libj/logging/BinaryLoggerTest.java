@@ -0,0 +1,232 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class BinaryLoggerTest {
+  @Test
+  public void testException() throws IOException {
+    try {
+      new BinaryLogger("foo", Level.INFO, new ByteArrayOutputStream(), 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new BinaryLogDecoder(new ByteArrayInputStream("text".getBytes()));
+      fail("Expected StreamCorruptedException");
+    }
+    catch (final StreamCorruptedException e) {
+    }
+
+    final BinaryLogger logger = new BinaryLogger("foo", Level.INFO, new OutputStream() {
+      @Override
+      public void write(final int b) throws IOException {
+        throw new IOException("full");
+      }
+    }, 1);
+    logger.info("a");
+    logger.info("b");
+    try {
+      logger.flush();
+      fail("Expected IOException");
+    }
+    catch (final IOException e) {
+      assertEquals("full", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testRoundTrip() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    try (final BinaryLogger logger = new BinaryLogger("foo.bar", Level.DEBUG, out)) {
+      logger.trace("no");
+      logger.debug("a");
+      logger.info("b {} {}", 1, -2L);
+      logger.warn("c {} {} {} {}", 1.5, true, null, new int[] {1, 2});
+      logger.info("b {} {}", "x\u00e9\ud83d\ude00\ud800", 'c');
+      logger.error("d", new IllegalStateException("e"));
+    }
+
+    try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(out.toByteArray()))) {
+      assertEquals("foo.bar", decoder.getName());
+      final long now = System.currentTimeMillis();
+
+      assertTrue(decoder.next());
+      assertEquals(Level.DEBUG, decoder.getLevel());
+      assertEquals("a", decoder.getMessage());
+      assertEquals(Thread.currentThread().getName(), decoder.getThreadName());
+      assertTrue(Math.abs(now - decoder.getTimestamp()) < 60000);
+      final long timestamp = decoder.getTimestamp();
+
+      assertTrue(decoder.next());
+      assertEquals(Level.INFO, decoder.getLevel());
+      assertEquals("b {} {}", decoder.getTemplate());
+      assertEquals(Arrays.asList(1L, -2L), Arrays.asList(decoder.getArguments()));
+      assertEquals("b 1 -2", decoder.getMessage());
+      assertTrue(decoder.getTimestamp() >= timestamp);
+
+      assertTrue(decoder.next());
+      assertEquals(Arrays.asList(1.5, true, null, "[1, 2]"), Arrays.asList(decoder.getArguments()));
+      assertEquals("c 1.5 true null [1, 2]", decoder.getMessage());
+      assertEquals("{\"timestamp\":" + decoder.getTimestamp() + ",\"level\":\"WARN\",\"thread\":\"" + Thread.currentThread().getName() + "\",\"logger\":\"foo.bar\",\"message\":\"c 1.5 true null [1, 2]\",\"template\":\"c {} {} {} {}\",\"arguments\":[1.5,true,null,\"[1, 2]\"]}" + nl, decoder.appendJson(new StringBuilder()).toString());
+
+      assertTrue(decoder.next());
+      assertEquals("b x\u00e9\ud83d\ude00? c", decoder.getMessage());
+
+      assertTrue(decoder.next());
+      assertEquals(Level.ERROR, decoder.getLevel());
+      assertEquals(0, decoder.getArguments().length);
+      assertTrue(decoder.getThrowable(), decoder.getThrowable().startsWith(IllegalStateException.class.getName() + ": e" + nl));
+      final String text = decoder.appendText(new StringBuilder()).toString();
+      assertTrue(text, text.contains(" [ERROR] [" + Thread.currentThread().getName() + "] foo.bar - d" + nl + IllegalStateException.class.getName() + ": e" + nl));
+
+      assertFalse(decoder.next());
+    }
+  }
+
+  @Test
+  public void testFloat() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final BinaryLogger logger = new BinaryLogger("foo", Level.INFO, out)) {
+      logger.info("{} {} {}", 1.1f, 1.1, Float.NaN);
+    }
+
+    try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(out.toByteArray()))) {
+      assertTrue(decoder.next());
+      assertEquals(Arrays.asList(1.1f, 1.1, Float.NaN), Arrays.asList(decoder.getArguments()));
+      assertEquals("1.1 1.1 NaN", decoder.getMessage());
+      assertTrue(decoder.appendJson(new StringBuilder()).toString().contains("\"arguments\":[1.1,1.1,\"NaN\"]"));
+    }
+  }
+
+  @Test
+  public void testMaxTemplates() throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final BinaryLogger logger = new BinaryLogger("foo", Level.INFO, out, 64, 2)) {
+      for (int i = 0; i < 5; ++i) // [N]
+        logger.info("t" + i + " {}", i);
+
+      logger.info("t0 {}", 5);
+      logger.info("t4 {}", 6);
+    }
+
+    // The templates in the dictionary are written once, and the templates beyond the maximum are written inline in each event
+    final byte[] bytes = out.toByteArray();
+    final String str = new String(bytes, StandardCharsets.ISO_8859_1);
+    assertEquals(1, str.split("t0 \\{\\}", -1).length - 1);
+    assertEquals(2, str.split("t4 \\{\\}", -1).length - 1);
+    try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(bytes))) {
+      for (int i = 0; i < 5; ++i) { // [N]
+        assertTrue(decoder.next());
+        assertEquals("t" + i + " {}", decoder.getTemplate());
+        assertEquals("t" + i + " " + i, decoder.getMessage());
+      }
+
+      assertTrue(decoder.next());
+      assertEquals("t0 5", decoder.getMessage());
+      assertTrue(decoder.next());
+      assertEquals("t4 6", decoder.getMessage());
+      assertFalse(decoder.next());
+    }
+
+    try {
+      new BinaryLogger("foo", Level.INFO, new ByteArrayOutputStream(), 64, -1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testThreadNames() throws IOException {
+    final Thread thread = Thread.currentThread();
+    final String name = thread.getName();
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (final BinaryLogger logger = new BinaryLogger("foo", Level.INFO, out)) {
+      thread.setName("binary-x");
+      for (int i = 0; i < 3; ++i) // [N]
+        logger.info("a {}", i);
+
+      thread.setName("binary-y");
+      for (int i = 0; i < 3; ++i) // [N]
+        logger.info("b {}", i);
+    }
+    finally {
+      thread.setName(name);
+    }
+
+    // The name of the thread is written once per rename, and not with each event
+    final byte[] bytes = out.toByteArray();
+    final String str = new String(bytes, StandardCharsets.ISO_8859_1);
+    assertEquals(1, str.split("binary-x", -1).length - 1);
+    assertEquals(1, str.split("binary-y", -1).length - 1);
+    try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(bytes))) {
+      for (int i = 0; i < 6; ++i) { // [N]
+        assertTrue(decoder.next());
+        assertEquals(i < 3 ? "binary-x" : "binary-y", decoder.getThreadName());
+      }
+
+      assertFalse(decoder.next());
+    }
+  }
+
+  @Test
+  public void testThreads() throws InterruptedException, IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final BinaryLogger logger = new BinaryLogger("foo", Level.INFO, out, 64);
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; ++i) { // [A]
+      final int t = i;
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 1000; ++j) // [N]
+          logger.info("{} {}", t, j);
+      }, "worker-" + i);
+      threads[i].start();
+    }
+
+    for (final Thread thread : threads) // [A]
+      thread.join();
+
+    logger.close();
+    final int[] counts = new int[threads.length];
+    try (final BinaryLogDecoder decoder = new BinaryLogDecoder(new ByteArrayInputStream(out.toByteArray()))) {
+      while (decoder.next()) {
+        final int t = ((Long)decoder.getArguments()[0]).intValue();
+        assertEquals("worker-" + t, decoder.getThreadName());
+        assertEquals(counts[t]++, ((Long)decoder.getArguments()[1]).intValue());
+      }
+    }
+
+    for (final int count : counts) // [A]
+      assertEquals(1000, count);
+  }
+}
@@ -0,0 +1,95 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class CompiledLayoutTest {
+  private static String render(final CompiledLayout layout, final Level level, final String name, final String msg) {
+    return layout.renderTail(layout.renderHead(new StringBuilder(), level, name).append(msg), level, name).toString();
+  }
+
+  @Test
+  public void testException() {
+    try {
+      new CompiledLayout(null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+
+    for (final String pattern : new String[] {"%foo", "%msg %msg", "%d{HH", "abc%"}) { // [A]
+      try {
+        new CompiledLayout(pattern);
+        fail("Expected IllegalArgumentException: " + pattern);
+      }
+      catch (final IllegalArgumentException e) {
+      }
+    }
+
+    try {
+      new PrintStreamLogger("foo", Level.INFO, System.out, new CompiledLayout("%level"));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testRender() {
+    final String nl = System.lineSeparator();
+    assertEquals("[INFO] foo" + nl, render(new CompiledLayout("[%level] %msg%n"), Level.INFO, "a.b", "foo"));
+    assertEquals("WARN  a.b 100% foo|" + Thread.currentThread().getName() + "|", render(new CompiledLayout("%-5p %logger 100%% %m|%t|"), Level.WARN, "a.b", "foo"));
+    assertEquals("  DEBUG:foo", render(new CompiledLayout("%7le:%message"), Level.DEBUG, "a.b", "foo"));
+    assertTrue(render(new CompiledLayout("%d{yyyy-MM-dd'T'HH:mm:ss.SSS} %msg"), Level.INFO, "a.b", "foo").matches("\\d{4}-\\d\\d-\\d\\dT\\d\\d:\\d\\d:\\d\\d\\.\\d{3} foo"));
+    assertTrue(render(new CompiledLayout("%date %msg"), Level.INFO, "a.b", "foo").matches("\\d{4}-\\d\\d-\\d\\d \\d\\d:\\d\\d:\\d\\d,\\d{3} foo"));
+  }
+
+  @Test
+  public void testPrintStreamLogger() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    final PrintStreamLogger logger = new PrintStreamLogger("cli", Level.INFO, new PrintStream(out, true), new CompiledLayout("%-5level %logger - %msg%n"));
+    assertEquals("cli", logger.getName());
+    logger.debug("no");
+    logger.info("foo {}", 1);
+    logger.warn("bar {} {}", 2, 3);
+    logger.error("baz", new IllegalStateException("qux"));
+    final String str = out.toString();
+    assertTrue(str, str.startsWith("INFO  cli - foo 1" + nl + "WARN  cli - bar 2 3" + nl + "ERROR cli - baz" + nl + IllegalStateException.class.getName() + ": qux" + nl));
+  }
+
+  @Test
+  public void testAsync() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    try (final PrintStreamLogger logger = new PrintStreamLogger("cli", Level.INFO, new PrintStream(out), new CompiledLayout("%level|%msg|%n"), 16, Level.INFO)) {
+      logger.info("foo");
+      logger.error("bar", new IllegalStateException("qux"));
+    }
+
+    final String str = out.toString();
+    assertTrue(str, str.startsWith("INFO|foo|" + nl + "ERROR|bar|" + nl + IllegalStateException.class.getName() + ": qux" + nl));
+    assertTrue(str, str.endsWith(nl));
+  }
+}
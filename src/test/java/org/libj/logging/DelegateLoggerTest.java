@@ -0,0 +1,58 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+public class DelegateLoggerTest {
+  @Test
+  public void testTarget() {
+    final ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+    final ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+    final Logger target1 = new PrintStreamLogger(Level.INFO, new PrintStream(out1, true));
+    final Logger target2 = new PrintStreamLogger(Level.INFO, new PrintStream(out2, true));
+    final DelegateLogger logger = new DelegateLogger(target1) {};
+    assertSame(target1, logger.getTarget());
+
+    try {
+      logger.setTarget(null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+
+    logger.info("a");
+    assertSame(target1, logger.getAndSetTarget(target2));
+    logger.info("b");
+    assertFalse(logger.compareAndSetTarget(target1, target1));
+    assertTrue(logger.compareAndSetTarget(target2, target1));
+    logger.info("c");
+    logger.setTarget(target2);
+    logger.info("d");
+
+    final String nl = System.lineSeparator();
+    assertEquals("[INFO] a" + nl + "[INFO] c" + nl, out1.toString());
+    assertEquals("[INFO] b" + nl + "[INFO] d" + nl, out2.toString());
+  }
+}
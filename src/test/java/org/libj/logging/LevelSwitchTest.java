@@ -0,0 +1,69 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.ref.WeakReference;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+
+public class LevelSwitchTest {
+  @Test
+  public void test() throws Throwable {
+    final Logger logger = LoggerFactory.getLogger(LevelSwitchTest.class);
+    LoggerUtil.setLevel(logger, Level.INFO);
+    final LevelSwitch levelSwitch = LevelSwitch.of(logger, Level.DEBUG);
+    assertSame(levelSwitch, LevelSwitch.of(logger, Level.DEBUG));
+    final MethodHandle isDebugEnabled = levelSwitch.getHandle();
+    assertFalse(levelSwitch.isEnabled());
+    assertFalse((boolean)isDebugEnabled.invokeExact());
+
+    LoggerUtil.setLevel(logger, Level.TRACE);
+    assertTrue(levelSwitch.isEnabled());
+    assertTrue((boolean)isDebugEnabled.invokeExact());
+
+    ((ch.qos.logback.classic.Logger)logger).setLevel(ch.qos.logback.classic.Level.WARN);
+    assertFalse(levelSwitch.isEnabled());
+    assertFalse((boolean)isDebugEnabled.invokeExact());
+  }
+
+  @Test
+  public void testWeak() throws InterruptedException {
+    Logger logger = new PrintStreamLogger(Level.INFO, new PrintStream(new ByteArrayOutputStream()));
+    LevelSwitch levelSwitch = LevelSwitch.of(logger, Level.INFO);
+    assertTrue(levelSwitch.isEnabled());
+    final WeakReference<Logger> loggerRef = new WeakReference<>(logger);
+    final WeakReference<LevelSwitch> switchRef = new WeakReference<>(levelSwitch);
+    logger = null;
+    levelSwitch = null;
+    for (int i = 0; i < 100 && (loggerRef.get() != null || switchRef.get() != null); ++i) { // [N]
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    assertNull(switchRef.get());
+    assertNull(loggerRef.get());
+    LevelSwitch.refresh();
+  }
+}
@@ -0,0 +1,67 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class LeveledLoggerTest {
+  @Test
+  public void test() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.INFO, new PrintStream(out, true));
+    for (final Level level : Level.values()) { // [A]
+      final LeveledLogger leveled = LeveledLogger.of(logger, level);
+      assertSame(logger, leveled.getLogger());
+      assertSame(level, leveled.getLevel());
+      assertEquals(LoggerUtil.isLoggable(logger, level), leveled.isEnabled());
+      out.reset();
+      leveled.log("foo");
+      assertEquals(leveled.isEnabled() ? "[" + level + "] foo" + System.lineSeparator() : "", out.toString());
+      out.reset();
+      leveled.log(() -> {
+        if (!leveled.isEnabled())
+          fail("Expected supplier to not be evaluated");
+
+        return "bar";
+      });
+      assertEquals(leveled.isEnabled() ? "[" + level + "] bar" + System.lineSeparator() : "", out.toString());
+    }
+  }
+
+  @Test
+  public void testException() {
+    try {
+      LeveledLogger.of(null, Level.INFO);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+
+    try {
+      LeveledLogger.of(new NoopLogger(), null);
+      fail("Expected NullPointerException");
+    }
+    catch (final NullPointerException e) {
+    }
+  }
+}
@@ -0,0 +1,258 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class LoggerPrintWriterTest {
+  private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+  private final List<Throwable> throwables = Collections.synchronizedList(new ArrayList<>());
+
+  private final NoopLogger logger = new NoopLogger() {
+    @Override
+    public boolean isInfoEnabled() {
+      return true;
+    }
+
+    @Override
+    public void info(final String msg) {
+      info(msg, (Throwable)null);
+    }
+
+    @Override
+    public void info(final String msg, final Throwable t) {
+      events.add(msg);
+      throwables.add(t);
+    }
+  };
+
+  private static final class ManualTimer implements LoggerPrintWriter.Timer {
+    private static final class Task extends FutureTask<Void> {
+      private final Runnable runnable;
+      private final long time;
+
+      private Task(final Runnable runnable, final long time) {
+        super(runnable, null);
+        this.runnable = runnable;
+        this.time = time;
+      }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private long now;
+
+    long now() {
+      return now;
+    }
+
+    @Override
+    public Future<?> schedule(final Runnable task, final long delay, final TimeUnit unit) {
+      final Task future = new Task(task, now + unit.toNanos(delay));
+      tasks.add(future);
+      return future;
+    }
+
+    void advance(final long millis) {
+      now += TimeUnit.MILLISECONDS.toNanos(millis);
+      for (int i = 0; i < tasks.size(); ++i) { // [L]
+        final Task task = tasks.get(i);
+        if (task.time <= now) {
+          tasks.remove(i--);
+          task.run();
+        }
+      }
+    }
+  }
+
+  private final ManualTimer timer = new ManualTimer();
+
+  @Before
+  public void before() {
+    events.clear();
+    throwables.clear();
+  }
+
+  @Test
+  public void testLines() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO)) {
+      writer.print("foo");
+      assertEquals(0, events.size());
+      writer.println("bar");
+      assertEquals(1, events.size());
+      assertEquals("foobar\n", events.get(0));
+      writer.print("baz");
+    }
+
+    assertEquals(2, events.size());
+    assertEquals("baz\n", events.get(1));
+  }
+
+  @Test
+  public void testThrowable() {
+    final Exception e = new IllegalStateException("foo", new IllegalArgumentException("bar"));
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO)) {
+      e.printStackTrace(writer);
+      writer.println("after");
+    }
+
+    assertEquals(2, events.size());
+    assertEquals(e + "\n", events.get(0));
+    assertSame(e, throwables.get(0));
+    assertEquals("after\n", events.get(1));
+    assertNull(throwables.get(1));
+  }
+
+  @Test
+  public void testStackTraceText() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO)) {
+      writer.println("Exception in thread \"main\" java.lang.IllegalStateException: foo");
+      writer.println("\tat Foo.bar(Foo.java:1)");
+      writer.println("Caused by: java.lang.IllegalArgumentException: bar");
+      writer.println("\tat Foo.baz(Foo.java:2)");
+      writer.println("\t... 1 more");
+      assertEquals(0, events.size());
+      writer.println("after");
+    }
+
+    assertEquals(2, events.size());
+    assertEquals("Exception in thread \"main\" java.lang.IllegalStateException: foo\n\tat Foo.bar(Foo.java:1)\nCaused by: java.lang.IllegalArgumentException: bar\n\tat Foo.baz(Foo.java:2)\n\t... 1 more\n", events.get(0));
+    assertEquals("after\n", events.get(1));
+  }
+
+  @Test
+  public void testStackTraceTimeout() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 100, 0, LoggerPrintWriter.Overflow.TRUNCATE, 1, 0, timer, timer::now)) {
+      writer.println("Exception in thread \"main\" java.lang.IllegalStateException: foo");
+      timer.advance(60);
+      writer.println("\tat Foo.bar(Foo.java:1)");
+      timer.advance(60);
+      writer.println("\tat Foo.baz(Foo.java:2)");
+      timer.advance(60);
+      assertEquals(0, events.size());
+      timer.advance(40);
+      assertEquals(1, events.size());
+      assertEquals("Exception in thread \"main\" java.lang.IllegalStateException: foo\n\tat Foo.bar(Foo.java:1)\n\tat Foo.baz(Foo.java:2)\n", events.get(0));
+
+      writer.println("after");
+      assertEquals(2, events.size());
+      assertEquals("after\n", events.get(1));
+    }
+
+    assertEquals(2, events.size());
+  }
+
+  @Test
+  public void testStackTraceDisabled() {
+    final Exception e = new IllegalStateException("foo");
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0)) {
+      e.printStackTrace(writer);
+    }
+
+    assertEquals(e.getStackTrace().length + 1, events.size());
+    assertNull(throwables.get(0));
+  }
+
+  @Test
+  public void testTruncate() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0, 4, LoggerPrintWriter.Overflow.TRUNCATE)) {
+      writer.print("abc");
+      writer.print("defgh");
+      writer.print("ijk");
+      assertEquals(0, events.size());
+      writer.println();
+      writer.println("abcd");
+    }
+
+    assertEquals(2, events.size());
+    assertEquals("abcd...[7 chars truncated]\n", events.get(0));
+    assertEquals("abcd\n", events.get(1));
+  }
+
+  @Test
+  public void testSplit() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0, 4, LoggerPrintWriter.Overflow.SPLIT)) {
+      writer.print("abc");
+      writer.print("defghij");
+      assertEquals(2, events.size());
+      writer.println("k");
+      writer.println("abcd");
+    }
+
+    assertEquals(4, events.size());
+    final String seq = events.get(0).substring(0, events.get(0).indexOf(':'));
+    assertEquals(seq + ":1] abcd", events.get(0));
+    assertEquals(seq + ":2] efgh", events.get(1));
+    assertEquals(seq + ":3] ijk\n", events.get(2));
+    assertEquals("abcd\n", events.get(3));
+  }
+
+  @Test
+  public void testBatch() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0, 0, LoggerPrintWriter.Overflow.TRUNCATE, 3, 0)) {
+      for (int i = 0; i < 7; ++i) // [N]
+        writer.println(i);
+
+      assertEquals(2, events.size());
+      assertEquals("0\n1\n2\n", events.get(0));
+      assertEquals("3\n4\n5\n", events.get(1));
+      writer.flush();
+      assertEquals(3, events.size());
+      assertEquals("6\n", events.get(2));
+    }
+
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0, 0, LoggerPrintWriter.Overflow.TRUNCATE, 100, 500, timer, timer::now)) {
+      writer.println("foo");
+      timer.advance(400);
+      writer.println("bar");
+      assertEquals(3, events.size());
+      timer.advance(100);
+      assertEquals(4, events.size());
+      assertEquals("foo\nbar\n", events.get(3));
+    }
+  }
+
+  @Test
+  public void testBatchStaleWindow() {
+    try (final LoggerPrintWriter writer = new LoggerPrintWriter(logger, Level.INFO, 0, 0, LoggerPrintWriter.Overflow.TRUNCATE, 2, 500, timer, timer::now)) {
+      writer.println("a");
+      final ManualTimer.Task stale = timer.tasks.remove(0);
+      writer.println("b");
+      assertTrue(stale.isCancelled());
+      assertEquals(1, events.size());
+      assertEquals("a\nb\n", events.get(0));
+
+      // The window task of the flushed batch, already blocked on the lock when it was cancelled, must not flush the next batch
+      writer.println("c");
+      stale.runnable.run();
+      assertEquals(1, events.size());
+      timer.advance(500);
+      assertEquals(2, events.size());
+      assertEquals("c\n", events.get(1));
+    }
+  }
+}
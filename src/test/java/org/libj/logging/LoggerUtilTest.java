@@ -0,0 +1,251 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.spi.FilterReply;
+
+public class LoggerUtilTest {
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+  private final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true));
+
+  private String logm(final String method, final String format, final Object ... args) {
+    out.reset();
+    LoggerUtil.logm(logger, Level.DEBUG, method, format, args);
+    final String str = out.toString();
+    return str.substring("[DEBUG] ".length(), str.length() - System.lineSeparator().length());
+  }
+
+  @Test
+  public void testLogm() {
+    assertEquals("foo()", logm("foo", null));
+    assertEquals("foo(%s)", logm("foo", "%s"));
+    assertEquals("foo(1,bar,null)", logm("foo", null, 1, "bar", null));
+    assertEquals("foo(String,[a, b])", logm("foo", null, String.class, new String[] {"a", "b"}));
+    assertEquals("foo[1](2, 3%, 04)", logm("foo[%d]", "%s, %d%%, %02d", 1, 2, 3, 4));
+    assertEquals("foo(b, a)", logm("foo", "%2$s, %1$s", "a", "b"));
+
+    final Object obj = new Object();
+    assertEquals("foo(Object@" + Integer.toHexString(obj.hashCode()) + ", null)", logm("foo", "%?, %?", obj, null));
+
+    assertEquals("foo([1, 2, 3], 0x0aff, {a=[true]})", logm("foo", "%s, %s, %s", new int[] {1, 2, 3}, new byte[] {10, -1}, Collections.singletonMap("a", new boolean[] {true})));
+
+    final Object[] args = {new String[] {"a"}, Integer.class};
+    logm("foo", null, args);
+    assertEquals(String[].class, args[0].getClass());
+    assertEquals(Integer.class, args[1]);
+  }
+
+  private static ch.qos.logback.classic.Level getLevel(final String name) {
+    return ((ch.qos.logback.classic.Logger)LoggerFactory.getLogger(name)).getLevel();
+  }
+
+  @Test
+  public void testSetLevels() {
+    final String prefix = LoggerUtilTest.class.getName() + ".profile";
+    LoggerFactory.getLogger(prefix + ".a.b");
+    LoggerFactory.getLogger(prefix + ".ab");
+
+    final HashMap<String,Level> levels = new HashMap<>();
+    levels.put(prefix, Level.WARN);
+    levels.put(prefix + ".a", Level.DEBUG);
+    levels.put(prefix + ".c.d", Level.TRACE);
+    LoggerUtil.setLevels(levels);
+    assertEquals(ch.qos.logback.classic.Level.WARN, getLevel(prefix));
+    assertEquals(ch.qos.logback.classic.Level.DEBUG, getLevel(prefix + ".a"));
+    assertEquals(ch.qos.logback.classic.Level.DEBUG, getLevel(prefix + ".a.b"));
+    assertEquals(ch.qos.logback.classic.Level.WARN, getLevel(prefix + ".ab"));
+    assertEquals(ch.qos.logback.classic.Level.TRACE, getLevel(prefix + ".c.d"));
+
+    levels.clear();
+    levels.put(prefix + ".a", Level.ERROR);
+    LoggerUtil.swapLevels(levels);
+    levels.clear();
+    levels.put(prefix + ".ab", Level.INFO);
+    LoggerUtil.swapLevels(levels);
+    assertNull(getLevel(prefix + ".a"));
+    assertNull(getLevel(prefix + ".a.b"));
+    assertEquals(ch.qos.logback.classic.Level.INFO, getLevel(prefix + ".ab"));
+    assertEquals(ch.qos.logback.classic.Level.WARN, getLevel(prefix));
+
+    try {
+      LoggerUtil.setLevels(Collections.singletonMap(Logger.ROOT_LOGGER_NAME, null));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testLoadConfig() throws IOException {
+    final List<URL> urls = LoggerUtil.getConfigUrls();
+    assertSame(urls, LoggerUtil.getConfigUrls());
+    assertTrue(urls.stream().anyMatch(u -> u.toString().endsWith("/logback.xml")));
+
+    assertTrue(LoggerUtil.loadConfigIncludeLocation(LoggerUtilTest.class));
+    final String name = LoggerUtilTest.class.getName() + ".config";
+    final ch.qos.logback.classic.Logger log = (ch.qos.logback.classic.Logger)LoggerFactory.getLogger(name);
+    log.setLevel(ch.qos.logback.classic.Level.TRACE);
+    try {
+      // The same configuration is already active, so the LoggerContext is not reset
+      assertTrue(LoggerUtil.loadConfigIncludeLocation(LoggerUtilTest.class));
+      assertEquals(ch.qos.logback.classic.Level.TRACE, getLevel(name));
+    }
+    finally {
+      log.setLevel(null);
+    }
+  }
+
+  private static void writeConfig(final Path file, final String ... loggers) throws IOException {
+    final StringBuilder builder = new StringBuilder("<configuration>\n");
+    for (int i = 0; i < loggers.length; i += 2) // [A]
+      builder.append("  <logger name=\"").append(loggers[i]).append("\" level=\"").append(loggers[i + 1]).append("\"/>\n");
+
+    Files.write(file, builder.append("</configuration>\n").toString().getBytes());
+  }
+
+  @Test
+  public void testWatchLevels() throws InterruptedException, IOException {
+    final String prefix = LoggerUtilTest.class.getName() + ".watch";
+    final Path dir = Files.createTempDirectory("logback");
+    final Path file = dir.resolve("logback.xml");
+    try {
+      writeConfig(file, prefix + ".a", "DEBUG", prefix + ".b", "WARN");
+      final HashMap<String,Level> levels = new HashMap<>();
+      levels.put(prefix + ".a", Level.DEBUG);
+      levels.put(prefix + ".b", Level.WARN);
+      LoggerUtil.setLevels(levels);
+
+      LoggerUtil.watchLevels(file.toUri().toURL());
+      writeConfig(file, prefix + ".a", "ERROR");
+      for (int i = 0; i < 300 && getLevel(prefix + ".a") != ch.qos.logback.classic.Level.ERROR; ++i) // [N]
+        Thread.sleep(100);
+
+      assertEquals(ch.qos.logback.classic.Level.ERROR, getLevel(prefix + ".a"));
+      assertNull(getLevel(prefix + ".b"));
+    }
+    finally {
+      LoggerUtil.unwatchLevels();
+      Files.deleteIfExists(file);
+      Files.delete(dir);
+      LoggerUtil.setLevels(Collections.singletonMap(prefix, null));
+    }
+  }
+
+  @Test
+  public void testLazy() {
+    final int[] count = {0};
+    final Supplier<String> supplier = () -> {
+      ++count[0];
+      return "bar";
+    };
+
+    out.reset();
+    LoggerUtil.logLazy(logger, Level.TRACE, "foo {}", supplier);
+    assertEquals(0, count[0]);
+    assertEquals("", out.toString());
+
+    LoggerUtil.logLazy(logger, Level.DEBUG, "foo {}", supplier);
+    assertEquals(1, count[0]);
+    assertEquals("[DEBUG] foo bar" + System.lineSeparator(), out.toString());
+
+    // A Supplier passed to log(...) is an ordinary argument
+    out.reset();
+    LoggerUtil.log(logger, Level.DEBUG, "foo {}", supplier);
+    assertEquals(1, count[0]);
+    assertEquals("[DEBUG] foo " + supplier + System.lineSeparator(), out.toString());
+
+    count[0] = 0;
+
+    final Object lazy = LoggerUtil.lazy(supplier);
+    assertEquals(0, count[0]);
+    assertEquals("bar", lazy.toString());
+    assertEquals("bar", lazy.toString());
+    assertEquals(1, count[0]);
+  }
+
+  @Test
+  public void testBatch() {
+    final ArrayList<LogEvent> events = new ArrayList<>();
+    for (int i = 0; i < 300; ++i) // [N]
+      events.add(new LogEvent(i % 3 == 0 ? Level.TRACE : Level.INFO, "foo %s", i));
+
+    out.reset();
+    LoggerUtil.log(logger, events);
+    assertEquals(200, out.toString().split(System.lineSeparator()).length);
+
+    final ch.qos.logback.classic.Logger log = (ch.qos.logback.classic.Logger)LoggerFactory.getLogger(LoggerUtilTest.class.getName() + ".batch");
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+    encoder.setContext(log.getLoggerContext());
+    encoder.setPattern("%level %C %msg%n");
+    encoder.start();
+    final OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+    appender.setContext(log.getLoggerContext());
+    appender.setEncoder(encoder);
+    appender.setOutputStream(bytes);
+    appender.start();
+    log.addAppender(appender);
+    log.setAdditive(false);
+    log.setLevel(ch.qos.logback.classic.Level.INFO);
+    final TurboFilter filter = new TurboFilter() {
+      @Override
+      public FilterReply decide(final Marker marker, final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level, final String format, final Object[] params, final Throwable t) {
+        return "deny {}".equals(format) ? FilterReply.DENY : FilterReply.NEUTRAL;
+      }
+    };
+    filter.start();
+    log.getLoggerContext().addTurboFilter(filter);
+    try {
+      LoggerUtil.log(log, events.stream().map(e -> new LogEvent(e.getLevel(), "foo {}", e.getArgs())));
+      LoggerUtil.log(log, Collections.singletonList(new LogEvent(Level.ERROR, "deny {}", 0)));
+      final String[] lines = bytes.toString().split("\n");
+      assertEquals(200, lines.length);
+      for (int i = 0, j = 0; i < 300; ++i) // [N]
+        if (i % 3 != 0)
+          assertEquals("INFO " + LoggerUtilTest.class.getName() + " foo " + i, lines[j++]);
+    }
+    finally {
+      log.getLoggerContext().getTurboFilterList().remove(filter);
+      log.detachAppender(appender);
+      appender.stop();
+    }
+  }
+}
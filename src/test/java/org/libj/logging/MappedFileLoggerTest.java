@@ -0,0 +1,172 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class MappedFileLoggerTest {
+  private static String read(final Path path) throws IOException {
+    final String str = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    final int end = str.indexOf('\0');
+    return end == -1 ? str : str.substring(0, end);
+  }
+
+  @Test
+  public void testException() throws IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    try {
+      new MappedFileLogger("foo", Level.INFO, dir.resolve("log"), 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new MappedFileLogger("foo", Level.INFO, dir.resolve("log"), 1024, new CompiledLayout("%level"));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testLog() throws IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    final String nl = System.lineSeparator();
+    try (final MappedFileLogger logger = new MappedFileLogger("foo", Level.DEBUG, dir.resolve("log"), 65536, new CompiledLayout("%level %logger %msg%n"))) {
+      assertEquals(dir.resolve("log.0"), logger.getSegmentPath());
+      logger.trace("no");
+      logger.debug("a {}", 1);
+      logger.info("b {} {}", 2, "\u00e9");
+      logger.error("c", new IllegalStateException("d"));
+    }
+
+    final String str = read(dir.resolve("log.0"));
+    assertTrue(str, str.startsWith("DEBUG foo a 1" + nl + "INFO foo b 2 \u00e9" + nl + "ERROR foo c" + nl + IllegalStateException.class.getName() + ": d" + nl));
+    assertEquals(65536, Files.size(dir.resolve("log.0")));
+
+    try (final MappedFileLogger logger = new MappedFileLogger("foo", Level.DEBUG, dir.resolve("log"), 1024)) {
+      assertEquals(dir.resolve("log.1"), logger.getSegmentPath());
+    }
+  }
+
+  @Test
+  public void testIndex() throws IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    Files.write(dir.resolve("log.0"), "keep".getBytes(StandardCharsets.UTF_8));
+    Files.write(dir.resolve("log.5"), "keep".getBytes(StandardCharsets.UTF_8));
+    Files.write(dir.resolve("log.x"), "keep".getBytes(StandardCharsets.UTF_8));
+    try (final MappedFileLogger logger = new MappedFileLogger("foo", Level.INFO, dir.resolve("log"), 100, new CompiledLayout("%msg%n"))) {
+      assertEquals(dir.resolve("log.6"), logger.getSegmentPath());
+      Files.write(dir.resolve("log.7"), "keep".getBytes(StandardCharsets.UTF_8));
+      logger.info("a");
+      logger.info("{}", new String(new char[100]).replace('\0', 'b'));
+      assertEquals(dir.resolve("log.8"), logger.getSegmentPath());
+    }
+
+    assertEquals("keep", read(dir.resolve("log.0")));
+    assertEquals("keep", read(dir.resolve("log.5")));
+    assertEquals("keep", read(dir.resolve("log.7")));
+    assertEquals("a" + System.lineSeparator(), read(dir.resolve("log.6")));
+  }
+
+  @Test
+  public void testRetry() throws IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    final Path sub = dir.resolve("sub");
+    Files.createDirectory(sub);
+    try (final MappedFileLogger logger = new MappedFileLogger("foo", Level.INFO, sub.resolve("log"), 10, new CompiledLayout("%msg%n"), 0)) {
+      logger.info("a");
+      Files.delete(sub.resolve("log.0"));
+      Files.delete(sub);
+      logger.info("0123456789");
+      assertEquals(1, logger.getDroppedCount());
+      logger.info("b");
+      assertEquals(2, logger.getDroppedCount());
+
+      Files.createDirectory(sub);
+      logger.info("c");
+      assertEquals(2, logger.getDroppedCount());
+      assertEquals(sub.resolve("log.1"), logger.getSegmentPath());
+    }
+
+    assertEquals("c" + System.lineSeparator(), read(sub.resolve("log.1")));
+  }
+
+  @Test
+  public void testRollover() throws InterruptedException, IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    final String nl = System.lineSeparator();
+    final int threads = 8;
+    final int lines = 500;
+    final MappedFileLogger logger = new MappedFileLogger("foo", Level.INFO, dir.resolve("log"), 1000, new CompiledLayout("%msg%n"));
+    final Thread[] workers = new Thread[threads];
+    for (int i = 0; i < threads; ++i) { // [A]
+      final int t = i;
+      workers[i] = new Thread(() -> {
+        for (int j = 0; j < lines; ++j) // [N]
+          logger.info("{}-{}", t, j);
+      });
+      workers[i].start();
+    }
+
+    for (final Thread worker : workers) // [A]
+      worker.join();
+
+    logger.close();
+    assertEquals(0, logger.getDroppedCount());
+    assertNotEquals(dir.resolve("log.0"), logger.getSegmentPath());
+
+    final HashSet<String> seen = new HashSet<>();
+    for (int i = 0; Files.exists(dir.resolve("log." + i)); ++i) { // [N]
+      final String str = read(dir.resolve("log." + i));
+      assertTrue(str, str.endsWith(nl));
+      for (final String line : str.split(nl)) // [A]
+        assertTrue(line, seen.add(line));
+    }
+
+    assertEquals(threads * lines, seen.size());
+    assertTrue(seen.contains("7-499"));
+  }
+
+  @Test
+  public void testLongLine() throws IOException {
+    final Path dir = Files.createTempDirectory("mapped");
+    final StringBuilder msg = new StringBuilder();
+    for (int i = 0; i < 100; ++i) // [N]
+      msg.append("0123456789");
+
+    try (final MappedFileLogger logger = new MappedFileLogger("foo", Level.INFO, dir.resolve("log"), 100, new CompiledLayout("%msg%n"))) {
+      logger.info("a");
+      logger.info(msg.toString());
+      logger.info("b");
+    }
+
+    assertEquals("a" + System.lineSeparator(), read(dir.resolve("log.0")));
+    assertEquals(msg + System.lineSeparator(), read(dir.resolve("log.1")));
+    assertEquals("b" + System.lineSeparator(), read(dir.resolve("log.2")));
+  }
+}
@@ -0,0 +1,108 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.MissingFormatArgumentException;
+import java.util.UnknownFormatConversionException;
+
+import org.junit.Test;
+
+public class MessageFormatterTest {
+  @Test
+  public void testBraces() {
+    assertEquals("foo", MessageFormatter.format("foo"));
+    assertEquals("foo bar", MessageFormatter.format("foo {}", "bar"));
+    assertEquals("1, 2", MessageFormatter.format("{}, {}", 1, 2));
+    assertEquals("1, 2, {}", MessageFormatter.format("{}, {}, {}", 1, 2));
+    assertEquals("{}, 1", MessageFormatter.format("\\{}, {}", 1));
+    assertEquals("\\1", MessageFormatter.format("\\\\{}", 1));
+    assertEquals("[1, 2], null", MessageFormatter.format("{}, {}", new int[] {1, 2}, null));
+    assertEquals("{", MessageFormatter.format("{", 1));
+    assertEquals("null", MessageFormatter.format(null, 1));
+  }
+
+  @Test
+  public void testPercent() {
+    assertEquals("a 1 -2 3 4%", MessageFormatter.format("%s %d %d %d %d%%", "a", 1, -2L, (short)3, BigInteger.valueOf(4)));
+    assertEquals("x" + System.lineSeparator(), MessageFormatter.format("x%n"));
+    assertEquals("b, a", MessageFormatter.format("%2$s, %1$s", "a", "b"));
+    assertEquals("001 1.50", MessageFormatter.format("%03d %.2f", 1, 1.5));
+    assertEquals("x {}", MessageFormatter.printf(new StringBuilder("x "), null, "{}").toString());
+    assertEquals("1,5", MessageFormatter.printf(new StringBuilder(), Locale.GERMAN, "%.1f", 1.5).toString());
+
+    try {
+      MessageFormatter.printf(new StringBuilder(), null, "%s %s", 1);
+      fail("Expected MissingFormatArgumentException");
+    }
+    catch (final MissingFormatArgumentException e) {
+    }
+
+    try {
+      MessageFormatter.printf(new StringBuilder(), null, "%", 1);
+      fail("Expected UnknownFormatConversionException");
+    }
+    catch (final UnknownFormatConversionException e) {
+    }
+  }
+
+  @Test
+  public void testLiteralPercent() {
+    assertEquals("rate 5%", MessageFormatter.format("rate {}%", 5));
+    assertEquals("x is 100% done", MessageFormatter.format("{} is 100% done", "x"));
+    assertEquals("Loaded 50% of items", MessageFormatter.format("Loaded {}% of {}", 50, "items"));
+    assertEquals("%s a %d", MessageFormatter.format("%s {} %d", "a", 1));
+    assertEquals("100% done", MessageFormatter.format("100% done"));
+    assertEquals("%s %s", MessageFormatter.format("%s %s", 1));
+    assertEquals("%", MessageFormatter.format("%", 1));
+    assertEquals("> %d", MessageFormatter.format(new StringBuilder("> "), "%d", "a").toString());
+  }
+
+  @Test
+  public void testExplicitIndex() {
+    assertEquals("a a b", MessageFormatter.format("%s %<s %s", "a", "b"));
+    assertEquals("b a a", MessageFormatter.printf(new StringBuilder(), null, "%2$s %1$s %s", "a", "b").toString());
+    assertEquals(String.format("%s %<S", "x"), MessageFormatter.printf(new StringBuilder(), null, "%s %<S", "x").toString());
+  }
+
+  @Test
+  public void testUnbounded() {
+    final StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 5000; ++i) // [N]
+      expected.append('x');
+
+    final String str = expected.toString();
+    assertEquals(str, MessageFormatter.format("{}", str));
+    assertEquals(str, MessageFormatter.format("%s", str));
+
+    final int[] array = new int[200];
+    assertEquals(Arrays.toString(array), MessageFormatter.format("{}", array));
+    assertEquals(String.valueOf(array), MessageFormatter.format("%s", (Object)array));
+    assertEquals(String.class.toString(), MessageFormatter.format("{}", String.class));
+  }
+
+  @Test
+  public void testBuilder() {
+    final StringBuilder builder = new StringBuilder("> ");
+    assertSame(builder, MessageFormatter.format(builder, "{} {}", 1, 'a'));
+    assertEquals("> 1 a", builder.toString());
+  }
+}
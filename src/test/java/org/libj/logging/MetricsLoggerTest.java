@@ -0,0 +1,101 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.Test;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.MarkerFactory;
+import org.slf4j.event.Level;
+
+public class MetricsLoggerTest {
+  @Test
+  public void testCounts() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final MetricsLogger logger = new MetricsLogger(new PrintStreamLogger(Level.INFO, new PrintStream(out, true)));
+    logger.debug("a");
+    logger.trace("b {}", "c");
+    logger.info("abc");
+    logger.info("d {} {}", "ef", 1);
+    logger.warn(MarkerFactory.getMarker("m"), "g {}", (Object[])new String[] {"hi", "jk"});
+    logger.error("err", new IllegalStateException());
+
+    final MetricsLogger.Snapshot snapshot = logger.snapshot();
+    assertEquals(0, snapshot.getEnabledCount(Level.DEBUG));
+    assertEquals(1, snapshot.getDisabledCount(Level.DEBUG));
+    assertEquals(1, snapshot.getDisabledCount(Level.TRACE));
+    assertEquals(2, snapshot.getEnabledCount(Level.INFO));
+    assertEquals(0, snapshot.getDisabledCount(Level.INFO));
+    assertEquals(3 + 7 + 2, snapshot.getByteCount(Level.INFO));
+    assertEquals(1, snapshot.getEnabledCount(Level.WARN));
+    assertEquals(4 + 4, snapshot.getByteCount(Level.WARN));
+    assertEquals(1, snapshot.getEnabledCount(Level.ERROR));
+    assertEquals(Long.valueOf(2), logger.getEnabledCounts().get("INFO"));
+    assertEquals(Long.valueOf(1), logger.getDisabledCounts().get("DEBUG"));
+    assertTrue(out.toString().contains("[INFO] d ef 1"));
+
+    logger.reset();
+    assertEquals(0, logger.snapshot().getEnabledCount(Level.INFO));
+  }
+
+  @Test
+  public void testFactory() throws Exception {
+    final PrintStream ps = new PrintStream(new ByteArrayOutputStream(), true);
+    final ILoggerFactory target = name -> new PrintStreamLogger(name, Level.WARN, ps, new CompiledLayout("%msg%n"));
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = MetricsLoggerFactory.getObjectName("metrics.test");
+    final ObjectName other = MetricsLoggerFactory.getObjectName("metrics.other");
+    try (final MetricsLoggerFactory factory = new MetricsLoggerFactory(target, true)) {
+      final MetricsLogger logger = factory.getLogger("metrics.test");
+      assertSame(logger, factory.getLogger("metrics.test"));
+      logger.info("a");
+      logger.warn("b");
+      factory.getLogger("metrics.other").error("c");
+
+      final Map<String,MetricsLogger.Snapshot> snapshots = factory.snapshot();
+      assertEquals(2, snapshots.size());
+      assertEquals(1, snapshots.get("metrics.test").getDisabledCount(Level.INFO));
+      assertEquals(1, snapshots.get("metrics.other").getEnabledCount(Level.ERROR));
+
+      assertTrue(server.isRegistered(name));
+      assertEquals("metrics.test", server.getAttribute(name, "Name"));
+      server.invoke(name, "reset", null, null);
+      assertEquals(0, logger.snapshot().getDisabledCount(Level.INFO));
+
+      try (final MetricsLoggerFactory conflicting = new MetricsLoggerFactory(target, true)) {
+        conflicting.getLogger("metrics.test");
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+
+      assertTrue(server.isRegistered(name));
+    }
+
+    assertFalse(server.isRegistered(name));
+    assertFalse(server.isRegistered(other));
+  }
+}
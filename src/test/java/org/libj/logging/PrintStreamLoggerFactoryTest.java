@@ -0,0 +1,97 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+public class PrintStreamLoggerFactoryTest {
+  private static Properties properties(final String ... keyValues) {
+    final Properties properties = new Properties();
+    for (int i = 0; i < keyValues.length; i += 2) // [A]
+      properties.setProperty(keyValues[i], keyValues[i + 1]);
+
+    return properties;
+  }
+
+  @Test
+  public void testException() {
+    try {
+      new PrintStreamLoggerFactory(properties(PrintStreamLoggerFactory.LEVEL + ".a", "LOUD"), System.out, new CompiledLayout("%msg"));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new PrintStreamLoggerFactory(new Properties(), System.out, new CompiledLayout("%level"));
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testLevels() {
+    final PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory(properties(PrintStreamLoggerFactory.LEVEL, "warn", PrintStreamLoggerFactory.LEVEL + ".a.b", "DEBUG", PrintStreamLoggerFactory.LEVEL + ".a.b.c", "OFF", PrintStreamLoggerFactory.LEVEL + "x.y", "TRACE", "other", "ERROR"), System.out, new CompiledLayout("%msg"));
+    assertEquals(Level.WARN, factory.getLevel(Logger.ROOT_LOGGER_NAME));
+    assertEquals(Level.WARN, factory.getLevel("a"));
+    assertEquals(Level.WARN, factory.getLevel("a.bc"));
+    assertEquals(Level.WARN, factory.getLevel("x.y"));
+    assertEquals(Level.DEBUG, factory.getLevel("a.b"));
+    assertEquals(Level.DEBUG, factory.getLevel("a.b.d.e"));
+    assertNull(factory.getLevel("a.b.c"));
+    assertNull(factory.getLevel("a.b.c.d"));
+    assertEquals(Level.INFO, new PrintStreamLoggerFactory(new Properties(), System.out, new CompiledLayout("%msg")).getLevel("a"));
+  }
+
+  @Test
+  public void testGetLogger() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    final PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory(properties(PrintStreamLoggerFactory.LEVEL + ".a", "DEBUG", PrintStreamLoggerFactory.LEVEL + ".a.off", "off"), new PrintStream(out, true), new CompiledLayout(PrintStreamLoggerFactory.DEFAULT_PATTERN));
+    final Logger logger = factory.getLogger("a.b");
+    assertSame(logger, factory.getLogger("a.b"));
+    assertEquals("a.b", logger.getName());
+    assertTrue(logger.isDebugEnabled());
+    assertFalse(logger.isTraceEnabled());
+    assertTrue(factory.getLogger("a.off") instanceof NoopLogger);
+    assertFalse(factory.getLogger("b").isDebugEnabled());
+
+    logger.debug("foo {}", 1);
+    logger.trace("no");
+    factory.getLogger("a.off").error("no");
+    factory.getLogger("b").info("bar");
+    assertEquals("[DEBUG] a.b - foo 1" + nl + "[INFO] b - bar" + nl, out.toString());
+  }
+
+  @Test
+  public void testCharset() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLoggerFactory factory = new PrintStreamLoggerFactory(properties(), new PrintStream(out, true), StandardCharsets.UTF_16BE, new CompiledLayout("%msg%n"));
+    factory.getLogger("a").info("caf\u00e9");
+    assertEquals("caf\u00e9" + System.lineSeparator(), new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+  }
+}
@@ -18,6 +18,15 @@ package org.libj.logging;
 
 import static org.junit.Assert.*;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+
 import org.junit.Test;
 import org.slf4j.event.Level;
 
@@ -73,4 +82,172 @@ public class PrintStreamLoggerTest {
     catch (final NullPointerException e) {
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testEncoding() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true), StandardCharsets.UTF_8);
+    logger.info("caf\u00e9 {} \u2603", 1);
+    assertEquals("[INFO] caf\u00e9 1 \u2603" + nl, new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+    out.reset();
+    logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true), StandardCharsets.ISO_8859_1);
+    logger.warn("caf\u00e9 \u2603");
+    assertEquals("[WARN] caf\u00e9 ?" + nl, new String(out.toByteArray(), StandardCharsets.ISO_8859_1));
+
+    out.reset();
+    logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true), StandardCharsets.UTF_16BE);
+    logger.debug("x");
+    assertEquals("[DEBUG] x" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+
+    out.reset();
+    final char[] chars = new char[10000];
+    Arrays.fill(chars, '\u00e9');
+    final String str = new String(chars);
+    logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true), StandardCharsets.UTF_8);
+    logger.error(str);
+    logger.trace(str);
+    assertEquals("[ERROR] " + str + nl, new String(out.toByteArray(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testStreamEncoding() throws InterruptedException, UnsupportedEncodingException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    final PrintStream ps = new PrintStream(out, true, "UTF-16BE");
+    new PrintStreamLogger(Level.DEBUG, ps).info("caf\u00e9 {}", 1);
+    assertEquals("[INFO] caf\u00e9 1" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+
+    out.reset();
+    new PrintStreamLogger("cli", Level.DEBUG, ps, new CompiledLayout("%level %logger %msg%n")).warn("caf\u00e9");
+    assertEquals("WARN cli caf\u00e9" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+
+    out.reset();
+    try (final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, ps, 16, Level.TRACE)) {
+      logger.error("caf\u00e9");
+    }
+
+    assertEquals("[ERROR] caf\u00e9" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+
+    out.reset();
+    new PrintStreamLogger("cli", Level.DEBUG, new PrintStream(out, true), StandardCharsets.UTF_16BE, new CompiledLayout("%level %msg%n")).debug("x");
+    assertEquals("DEBUG x" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+
+    out.reset();
+    try (final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out), StandardCharsets.UTF_16BE, 16, Level.TRACE)) {
+      logger.info("y");
+    }
+
+    assertEquals("[INFO] y" + nl, new String(out.toByteArray(), StandardCharsets.UTF_16BE));
+  }
+
+  @Test
+  public void testLiteralPercent() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true));
+    logger.info("Loaded {}% of {}", 50, "items");
+    logger.warn("rate {}%", 5);
+    logger.error("100% done");
+    assertEquals("[INFO] Loaded 50% of items" + nl + "[WARN] rate 5%" + nl + "[ERROR] 100% done" + nl, out.toString());
+  }
+
+  @Test
+  public void testThrowable() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out, true));
+    logger.error("foo", new IllegalStateException("bar"));
+    final String str = out.toString();
+    assertTrue(str, str.startsWith("[ERROR] foo" + System.lineSeparator() + "java.lang.IllegalStateException: bar"));
+
+    out.reset();
+    logger.error("foo", (Throwable)null);
+    assertEquals("[ERROR] foo" + System.lineSeparator(), out.toString());
+  }
+
+  @Test
+  public void testAsync() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final String nl = System.lineSeparator();
+    final StringBuilder expected = new StringBuilder();
+    try (final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out), 16, Level.TRACE)) {
+      for (int i = 0; i < 1000; ++i) { // [N]
+        logger.info("foo {}", i);
+        expected.append("[INFO] foo ").append(i).append(nl);
+      }
+
+      logger.error("bar", new IllegalStateException());
+    }
+
+    final String str = out.toString();
+    assertTrue(str.startsWith(expected.toString()));
+    assertTrue(str, str.substring(expected.length()).startsWith("[ERROR] bar" + nl + "java.lang.IllegalStateException" + nl + "\tat "));
+    assertTrue(str.endsWith(nl));
+  }
+
+  @Test
+  public void testAsyncCloseRace() throws InterruptedException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(out), StandardCharsets.UTF_8, 16, Level.TRACE);
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; ++i) { // [A]
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < 1000; ++j) // [N]
+          logger.info("foo");
+      });
+      threads[i].start();
+    }
+
+    Thread.sleep(1);
+    logger.close();
+    for (final Thread thread : threads) // [A]
+      thread.join();
+
+    assertEquals(4000, out.toString().split("\\[INFO\\]", -1).length - 1);
+  }
+
+  @Test
+  public void testAsyncDrop() throws InterruptedException {
+    final CountDownLatch latch = new CountDownLatch(1);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final OutputStream blocking = new OutputStream() {
+      @Override
+      public void write(final int b) throws IOException {
+        write(new byte[] {(byte)b}, 0, 1);
+      }
+
+      @Override
+      public void write(final byte[] b, final int off, final int len) throws IOException {
+        try {
+          latch.await();
+        }
+        catch (final InterruptedException e) {
+          throw new IOException(e);
+        }
+
+        out.write(b, off, len);
+      }
+    };
+
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.DEBUG, new PrintStream(blocking), 4, Level.ERROR);
+    final long dropped;
+    try {
+      for (int i = 0; i < 100; ++i) // [N]
+        logger.info("foo {}", i);
+
+      dropped = logger.getDroppedCount();
+      assertTrue(dropped > 0);
+    }
+    finally {
+      latch.countDown();
+    }
+
+    logger.error("bar");
+    logger.close();
+    final String str = out.toString();
+    assertEquals(100 - dropped, str.split("\\[INFO\\]", -1).length - 1);
+    assertTrue(str, str.contains("[WARN] " + dropped + " log lines dropped"));
+    assertTrue(str, str.contains("[ERROR] bar" + System.lineSeparator()));
+  }
+}
@@ -0,0 +1,132 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.Logger;
+import org.slf4j.event.Level;
+
+public class ProfilingLoggerTest {
+  @Test
+  public void testHistogram() {
+    for (long v = 0; v < 1 << 20; v = v * 3 / 2 + 1) { // [N]
+      final int index = LatencyHistogram.indexOf(v);
+      final long high = LatencyHistogram.highestValueOf(index);
+      assertTrue(v + " > " + high, v <= high);
+      assertTrue(v + " " + high, high - v <= Math.max(0, v / 16));
+      assertEquals(index, LatencyHistogram.indexOf(high));
+      assertEquals(index + 1, LatencyHistogram.indexOf(high + 1));
+    }
+
+    assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValueOf(LatencyHistogram.indexOf(Long.MAX_VALUE)));
+
+    final LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getValueAtPercentile(99));
+    for (int i = 1; i <= 1000; ++i) // [N]
+      histogram.record(i);
+
+    histogram.record(-1);
+    assertEquals(1001, histogram.getCount());
+    assertEquals(1000, histogram.getMax());
+    assertEquals(0, histogram.getValueAtPercentile(0));
+    assertEquals(500, histogram.getValueAtPercentile(50), 500 / 16);
+    assertEquals(990, histogram.getValueAtPercentile(99), 990 / 16);
+    assertEquals(1000, histogram.getValueAtPercentile(100));
+    histogram.reset();
+    assertEquals(0, histogram.getCount());
+    assertEquals(0, histogram.getMax());
+
+    try {
+      histogram.getValueAtPercentile(101);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testSampling() {
+    final Logger target = new PrintStreamLogger(Level.INFO, new PrintStream(new ByteArrayOutputStream(), true));
+    try {
+      new ProfilingLogger(target, 1.5);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    final ProfilingLogger all = new ProfilingLogger(target, 1);
+    final ProfilingLogger none = new ProfilingLogger(target, 0);
+    final ProfilingLogger half = new ProfilingLogger(target, 0.5);
+    for (int i = 0; i < 1000; ++i) { // [N]
+      all.info("a {}", i);
+      none.info("a {}", i);
+      half.info("a {}", i);
+      all.debug("b");
+    }
+
+    assertEquals(1000, all.getHistogram(Level.INFO).getCount());
+    assertEquals(0, all.getHistogram(Level.DEBUG).getCount());
+    assertEquals(0, all.getHistogram(Level.WARN).getCount());
+    assertTrue(all.getHistogram(Level.INFO).getMax() > 0);
+    assertEquals(0, none.getHistogram(Level.INFO).getCount());
+    final long count = half.getHistogram(Level.INFO).getCount();
+    assertTrue(String.valueOf(count), count > 350 && count < 650);
+  }
+
+  @Test
+  public void testFactory() throws Exception {
+    final PrintStream ps = new PrintStream(new ByteArrayOutputStream(), true);
+    final ILoggerFactory target = name -> new PrintStreamLogger(name, Level.INFO, ps, new CompiledLayout("%msg%n"));
+    final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    final ObjectName name = ProfilingLoggerFactory.getObjectName("profiling.test");
+    try (final ProfilingLoggerFactory factory = new ProfilingLoggerFactory(target, 1, true)) {
+      final ProfilingLogger logger = factory.getLogger("profiling.test");
+      assertSame(logger, factory.getLogger("profiling.test"));
+      for (int i = 0; i < 10; ++i) // [N]
+        logger.warn("a {}", i);
+
+      assertEquals(1, factory.getLoggers().size());
+      assertTrue(server.isRegistered(name));
+      final TabularData counts = (TabularData)server.getAttribute(name, "Counts");
+      assertEquals(10L, counts.get(new Object[] {"WARN"}).get("value"));
+      assertTrue(logger.getP99().get("WARN") <= logger.getMax().get("WARN"));
+      assertTrue(logger.getP50().get("WARN") <= logger.getP999().get("WARN"));
+
+      try (final ProfilingLoggerFactory conflicting = new ProfilingLoggerFactory(target, 1, true)) {
+        conflicting.getLogger("profiling.test");
+        fail("Expected IllegalStateException");
+      }
+      catch (final IllegalStateException e) {
+      }
+
+      assertTrue(server.isRegistered(name));
+    }
+
+    assertFalse(server.isRegistered(name));
+  }
+}
@@ -0,0 +1,98 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class RateLimitTest {
+  @Test
+  public void testTryAcquire() {
+    final RateLimit limit = new RateLimit(3, 1, TimeUnit.HOURS);
+    assertTrue(limit.tryAcquire());
+    assertTrue(limit.tryAcquire());
+    assertTrue(limit.tryAcquire());
+    assertFalse(limit.tryAcquire());
+    assertFalse(limit.tryAcquire());
+    assertEquals(2, limit.drainSuppressed());
+    assertEquals(0, limit.drainSuppressed());
+  }
+
+  @Test
+  public void testInterval() throws InterruptedException {
+    final RateLimit limit = new RateLimit(1, 20, TimeUnit.MILLISECONDS);
+    assertTrue(limit.tryAcquire());
+    assertFalse(limit.tryAcquire());
+    Thread.sleep(40);
+    assertTrue(limit.tryAcquire());
+  }
+
+  @Test
+  public void testOf() {
+    final RateLimit limit = RateLimit.of("foo", 1, 1, TimeUnit.SECONDS);
+    assertSame(limit, RateLimit.of("foo", 1, 1000, TimeUnit.MILLISECONDS));
+    assertSame(limit, RateLimit.of("foo", 1, 1, TimeUnit.SECONDS, false));
+    try {
+      RateLimit.of("foo", 2, 2, TimeUnit.SECONDS);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      RateLimit.of("foo", 1, 1, TimeUnit.SECONDS, true);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testOfReportSuppressed() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.INFO, new PrintStream(out, true));
+    final RateLimit limit = RateLimit.of("bar", 1, 1, TimeUnit.HOURS, true);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 1);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 2);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 3);
+    assertEquals("foo [suppressed 2]", RateLimit.of("bar", 1, 1, TimeUnit.HOURS, true).report("foo"));
+    assertEquals("[WARN] foo 1" + System.lineSeparator(), out.toString());
+  }
+
+  @Test
+  public void testReportSuppressed() throws InterruptedException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.INFO, new PrintStream(out, true));
+    final RateLimit limit = new RateLimit(1, 20, TimeUnit.MILLISECONDS, true);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 1);
+    LoggerUtil.log(limit, logger, Level.DEBUG, "foo %s", 2);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 3);
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 4);
+    assertEquals("[WARN] foo 1" + System.lineSeparator(), out.toString());
+
+    Thread.sleep(40);
+    out.reset();
+    LoggerUtil.log(limit, logger, Level.WARN, "foo %s", 5);
+    assertEquals("[WARN] foo 5 [suppressed 2]" + System.lineSeparator(), out.toString());
+  }
+}
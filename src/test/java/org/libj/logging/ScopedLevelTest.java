@@ -0,0 +1,107 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+
+public class ScopedLevelTest {
+  private static final String name = ScopedLevelTest.class.getName();
+  private static final Logger logger = LoggerFactory.getLogger(name + ".a");
+  private static final Logger child = LoggerFactory.getLogger(name + ".a.b");
+  private static final Logger other = LoggerFactory.getLogger(name + ".ab");
+
+  @Test
+  public void testScope() throws InterruptedException {
+    assertFalse(logger.isDebugEnabled());
+    final ScopedLevel scope = ScopedLevel.open(logger, Level.DEBUG);
+    try {
+      assertTrue(logger.isDebugEnabled());
+      assertTrue(child.isDebugEnabled());
+      assertFalse(logger.isTraceEnabled());
+      assertFalse(other.isDebugEnabled());
+
+      final AtomicBoolean enabled = new AtomicBoolean(true);
+      final Thread thread = new Thread(() -> enabled.set(logger.isDebugEnabled()));
+      thread.start();
+      thread.join();
+      assertFalse(enabled.get());
+
+      final ScopedLevel inner = ScopedLevel.open(name + ".a.b", Level.TRACE);
+      try {
+        assertTrue(child.isTraceEnabled());
+        assertFalse(logger.isTraceEnabled());
+        assertTrue(logger.isDebugEnabled());
+        try {
+          scope.close();
+          fail("Expected IllegalStateException");
+        }
+        catch (final IllegalStateException e) {
+        }
+      }
+      finally {
+        inner.close();
+      }
+
+      assertFalse(child.isTraceEnabled());
+      assertTrue(child.isDebugEnabled());
+    }
+    finally {
+      scope.close();
+    }
+
+    assertFalse(logger.isDebugEnabled());
+    assertFalse(child.isDebugEnabled());
+  }
+
+  @Test
+  public void testDenyAfter() {
+    final ch.qos.logback.classic.LoggerContext context = (ch.qos.logback.classic.LoggerContext)LoggerFactory.getILoggerFactory();
+    final TurboFilter deny = new TurboFilter() {
+      @Override
+      public FilterReply decide(final Marker marker, final ch.qos.logback.classic.Logger logger, final ch.qos.logback.classic.Level level, final String format, final Object[] params, final Throwable t) {
+        return logger.getName().equals(child.getName()) ? FilterReply.DENY : FilterReply.NEUTRAL;
+      }
+    };
+
+    final ScopedLevel scope = ScopedLevel.open(logger, Level.DEBUG);
+    try {
+      // A filter that follows the scope filter in the chain, as it does when it is configured after a reset, keeps its denials
+      deny.start();
+      context.addTurboFilter(deny);
+      assertTrue(logger.isDebugEnabled());
+      assertFalse(child.isDebugEnabled());
+      assertFalse(child.isErrorEnabled());
+    }
+    finally {
+      context.getTurboFilterList().remove(deny);
+      scope.close();
+    }
+
+    assertFalse(logger.isDebugEnabled());
+  }
+}
@@ -0,0 +1,71 @@
+/* Copyright (c) 2026 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.logging;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.slf4j.event.Level;
+
+public class ThrowableFingerprintsTest {
+  private static IOException newException(final String message) {
+    return new IOException(message);
+  }
+
+  @Test
+  public void testFingerprint() {
+    final ThrowableFingerprints fingerprints = new ThrowableFingerprints(1, TimeUnit.MINUTES);
+    final IOException[] e = new IOException[2];
+    for (int i = 0; i < e.length; ++i) // [A]
+      e[i] = newException("foo" + i);
+
+    assertEquals(fingerprints.fingerprint(e[0]), fingerprints.fingerprint(e[1]));
+    assertNotEquals(fingerprints.fingerprint(e[0]), fingerprints.fingerprint(new IOException()));
+    assertNotEquals(fingerprints.fingerprint(e[0]), fingerprints.fingerprint(new IllegalStateException(e[0])));
+  }
+
+  @Test
+  public void testLog() {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final PrintStreamLogger logger = new PrintStreamLogger(Level.INFO, new PrintStream(out, true));
+    final ThrowableFingerprints fingerprints = new ThrowableFingerprints(1, TimeUnit.MINUTES);
+    String hex = null;
+    for (int i = 1; i <= 3; ++i) { // [N]
+      final IOException e = newException("bar");
+      out.reset();
+      LoggerUtil.log(fingerprints, logger, Level.WARN, "foo", e);
+      final String str = out.toString();
+      if (i == 1) {
+        hex = Integer.toHexString(fingerprints.fingerprint(e));
+        assertTrue(str, str.startsWith("[WARN] foo [#" + hex + "]"));
+        assertTrue(str, str.contains("\tat "));
+      }
+      else {
+        assertEquals("[WARN] foo [java.io.IOException: bar, same as #" + hex + ", x" + i + "]" + System.lineSeparator(), str);
+      }
+    }
+
+    out.reset();
+    LoggerUtil.log(fingerprints, logger, Level.DEBUG, "foo", newException("bar"));
+    assertEquals("", out.toString());
+  }
+}